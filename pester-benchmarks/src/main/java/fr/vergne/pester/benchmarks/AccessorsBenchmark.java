@@ -0,0 +1,93 @@
+package fr.vergne.pester.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import fr.vergne.pester.definition.InstanciableDefinition;
+import fr.vergne.pester.definition.PropertyDefinition;
+import fr.vergne.pester.model.Field;
+import fr.vergne.pester.model.Getter;
+import fr.vergne.pester.model.Setter;
+
+/**
+ * Measure the access to all the properties of a POJO through its fields,
+ * getters and setters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorsBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class AccessorsState {
+		List<Field<Object>> fields;
+		List<Getter<Object>> getters;
+		List<Setter<Object>> setters;
+		List<Object> values;
+
+		@Setup(Level.Trial)
+		public void setUp(PojoState state) {
+			List<PropertyDefinition<Object, Object>> properties = state.properties;
+			fields = properties.stream()
+					.map(property -> property.getFieldDefinition().get().getInstance())
+					.collect(Collectors.toList());
+			getters = properties.stream()
+					.map(property -> property.getGetterDefinition().get())
+					.map(InstanciableDefinition::getInstance)
+					.collect(Collectors.toList());
+			setters = properties.stream()
+					.map(property -> property.getSetterDefinition().get())
+					.map(InstanciableDefinition::getInstance)
+					.collect(Collectors.toList());
+			values = properties.stream()
+					.map(property -> property.getGenerator().create())
+					.collect(Collectors.toList());
+		}
+	}
+
+	@Benchmark
+	public void fieldGetFrom(PojoState pojo, AccessorsState accessors, Blackhole blackhole) {
+		for (Field<Object> field : accessors.fields) {
+			blackhole.consume(field.getFrom(pojo.pojo));
+		}
+	}
+
+	@Benchmark
+	public void fieldSetTo(PojoState pojo, AccessorsState accessors) {
+		List<Object> values = accessors.values;
+		for (int index = 0; index < values.size(); index++) {
+			accessors.fields.get(index).setTo(pojo.pojo, values.get(index));
+		}
+	}
+
+	@Benchmark
+	public void getterGetFrom(PojoState pojo, AccessorsState accessors, Blackhole blackhole) {
+		for (Getter<Object> getter : accessors.getters) {
+			blackhole.consume(getter.getFrom(pojo.pojo));
+		}
+	}
+
+	@Benchmark
+	public void setterSetTo(PojoState pojo, AccessorsState accessors) {
+		List<Object> values = accessors.values;
+		for (int index = 0; index < values.size(); index++) {
+			accessors.setters.get(index).setTo(pojo.pojo, values.get(index));
+		}
+	}
+}
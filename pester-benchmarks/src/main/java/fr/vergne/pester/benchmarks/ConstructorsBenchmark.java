@@ -0,0 +1,62 @@
+package fr.vergne.pester.benchmarks;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.vergne.pester.definition.ConstructorDefinition;
+import fr.vergne.pester.model.Constructor;
+
+/**
+ * Measure the instantiation of a POJO through its default constructor and
+ * through its constructor with the most parameters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorsBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class ConstructorsState {
+		Constructor<Object> defaultConstructor;
+		Constructor<Object> propertiesConstructor;
+		List<?> arguments;
+
+		@Setup(Level.Trial)
+		public void setUp(PojoState state) {
+			defaultConstructor = state.definition.getConstructors().stream()
+					.filter(constructor -> constructor.getParametersDefinitions().isEmpty())
+					.findFirst().get().getInstance();
+			ConstructorDefinition<Object> largest = state.definition.getConstructors().stream()
+					.max(Comparator.comparing(constructor -> constructor.getParametersDefinitions().size()))
+					.get();
+			propertiesConstructor = largest.getInstance();
+			arguments = Collections.unmodifiableList(largest.getParametersGenerator().create());
+		}
+	}
+
+	@Benchmark
+	public Object defaultConstructorInvoke(ConstructorsState state) {
+		return state.defaultConstructor.invoke(Collections.emptyList());
+	}
+
+	@Benchmark
+	public Object propertiesConstructorInvoke(ConstructorsState state) {
+		return state.propertiesConstructor.invoke(state.arguments);
+	}
+}
@@ -0,0 +1,41 @@
+package fr.vergne.pester.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.vergne.pester.definition.DefinitionFactory;
+import fr.vergne.pester.definition.PojoDefinition;
+
+/**
+ * Measure the inference of the definition of a POJO class, with a new
+ * {@link DefinitionFactory} or a reused one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefinitionsBenchmark {
+
+	private final DefinitionFactory sharedFactory = new DefinitionFactory();
+
+	@Benchmark
+	public PojoDefinition<?> guessFromClassWithNewFactory(PojoState pojo) {
+		return new DefinitionFactory().guessFromClass(pojo.pojoClass);
+	}
+
+	@Benchmark
+	public PojoDefinition<?> guessFromClassWithSharedFactory(PojoState pojo) {
+		return sharedFactory.guessFromClass(pojo.pojoClass);
+	}
+}
@@ -0,0 +1,42 @@
+package fr.vergne.pester.benchmarks;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import fr.vergne.pester.definition.DefinitionFactory;
+import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.definition.PropertyDefinition;
+
+/**
+ * {@link PojoState} provides a synthetic POJO class of
+ * {@link #propertiesCount} properties, with its guessed definition and an
+ * instance of it.
+ */
+@State(Scope.Benchmark)
+public class PojoState {
+
+	@Param({ "1", "10", "100" })
+	public int propertiesCount;
+
+	Class<Object> pojoClass;
+	PojoDefinition<Object> definition;
+	List<PropertyDefinition<Object, Object>> properties;
+	Object pojo;
+
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void setUp() {
+		pojoClass = (Class<Object>) SyntheticPojos.ofProperties(propertiesCount);
+		definition = new DefinitionFactory().guessFromClass(pojoClass);
+		properties = definition.getProperties().stream()
+				.map(property -> (PropertyDefinition<Object, Object>) property)
+				.collect(Collectors.toList());
+		pojo = definition.getPojoGenerator().create();
+	}
+}
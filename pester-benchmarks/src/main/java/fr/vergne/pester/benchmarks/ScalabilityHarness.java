@@ -0,0 +1,310 @@
+package fr.vergne.pester.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import fr.vergne.pester.PesterSuite;
+import fr.vergne.pester.PesterSuiteResult;
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.definition.ConstructorDefinition;
+import fr.vergne.pester.definition.DefinitionFactory;
+import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.definition.PropertyDefinition;
+import fr.vergne.pester.junit.TestParameter;
+import fr.vergne.pester.junit.TestPlan;
+import fr.vergne.pester.junit.annotation.DefinitionSource;
+
+/**
+ * {@link ScalabilityHarness} measures how Pester scales with the size of the
+ * POJOs, from their number of properties, constructors and interfaces, and
+ * with the number of POJO classes. It starts from a base {@link Scenario} and
+ * varies one of these counts at a time over the given values. Each scenario
+ * runs on {@link SyntheticPojos} and measures:
+ * <ul>
+ * <li>the time to guess the definitions of the classes,
+ * <li>the time to look up their members by reflection,
+ * <li>the time to generate all the test cases of {@link PesterTest}, and their
+ * count,
+ * <li>the time to verify the classes with {@link PesterSuite}, from their
+ * definitions to their test reports,
+ * <li>the peak heap used meanwhile.
+ * </ul>
+ * Times are the medians of several repetitions, after a warm up run, and the
+ * peak heap is the maximum over the repetitions. The results are written by
+ * {@link ScalabilityReport}.
+ * <p>
+ * Arguments are given as <code>--name=value</code>, with lists of values
+ * separated by commas:
+ * <ul>
+ * <li><code>properties</code>, <code>constructors</code>,
+ * <code>interfaces</code>, <code>classes</code>: the values of each count to
+ * measure
+ * <li><code>repetitions</code>: the number of measured runs per scenario
+ * <li><code>parallelism</code>: the parallelism of the verification
+ * <li><code>output</code>: the directory of the report
+ * </ul>
+ */
+public class ScalabilityHarness {
+
+	static final Scenario BASE_SCENARIO = new Scenario(20, 2, 0, 1);
+
+	private static final List<TestParameter[]> TEST_PARAMETERS = Collections.unmodifiableList(
+			Stream.of(PesterTest.class.getDeclaredMethods())
+					.map(method -> method.getAnnotation(DefinitionSource.class))
+					.filter(annotation -> annotation != null)
+					.map(DefinitionSource::value)
+					.collect(Collectors.toList()));
+
+	static class Scenario {
+		final int propertiesCount;
+		final int constructorsCount;
+		final int interfacesCount;
+		final int classesCount;
+
+		Scenario(int propertiesCount, int constructorsCount, int interfacesCount, int classesCount) {
+			this.propertiesCount = propertiesCount;
+			this.constructorsCount = constructorsCount;
+			this.interfacesCount = interfacesCount;
+			this.classesCount = classesCount;
+		}
+
+		List<Class<?>> getPojoClasses() {
+			return SyntheticPojos.of(propertiesCount, constructorsCount, interfacesCount, classesCount);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == this) {
+				return true;
+			} else if (obj instanceof Scenario) {
+				Scenario other = (Scenario) obj;
+				return other.propertiesCount == propertiesCount && other.constructorsCount == constructorsCount
+						&& other.interfacesCount == interfacesCount && other.classesCount == classesCount;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(new int[] { propertiesCount, constructorsCount, interfacesCount, classesCount });
+		}
+
+		@Override
+		public String toString() {
+			return propertiesCount + " properties, " + constructorsCount + " constructors, " + interfacesCount
+					+ " interfaces, " + classesCount + " classes";
+		}
+	}
+
+	static class Measure {
+		final Scenario scenario;
+		final double definitionMillis;
+		final double lookupMillis;
+		final double testCasesMillis;
+		final long testCasesCount;
+		final double verificationMillis;
+		final long failuresCount;
+		final long peakHeapBytes;
+
+		Measure(Scenario scenario, double definitionMillis, double lookupMillis, double testCasesMillis,
+				long testCasesCount, double verificationMillis, long failuresCount, long peakHeapBytes) {
+			this.scenario = scenario;
+			this.definitionMillis = definitionMillis;
+			this.lookupMillis = lookupMillis;
+			this.testCasesMillis = testCasesMillis;
+			this.testCasesCount = testCasesCount;
+			this.verificationMillis = verificationMillis;
+			this.failuresCount = failuresCount;
+			this.peakHeapBytes = peakHeapBytes;
+		}
+	}
+
+	private final int repetitions;
+	private final ForkJoinPool pool;
+
+	public ScalabilityHarness(int repetitions, int parallelism) {
+		if (repetitions < 1) {
+			throw new IllegalArgumentException("At least one repetition is needed: " + repetitions);
+		}
+		this.repetitions = repetitions;
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	public static void main(String[] args) {
+		Map<String, String> arguments = parseArguments(args);
+		List<Scenario> scenarios = scenariosAround(BASE_SCENARIO,
+				parseCounts(arguments.getOrDefault("properties", "10,100,1000")),
+				parseCounts(arguments.getOrDefault("constructors", "1,5,10,20")),
+				parseCounts(arguments.getOrDefault("interfaces", "0,5,20")),
+				parseCounts(arguments.getOrDefault("classes", "1,10,50")));
+		int repetitions = Integer.parseInt(arguments.getOrDefault("repetitions", "3"));
+		int parallelism = Integer.parseInt(arguments.getOrDefault("parallelism", "1"));
+		Path output = Paths.get(arguments.getOrDefault("output", "target/scalability"));
+
+		ScalabilityHarness harness = new ScalabilityHarness(repetitions, parallelism);
+		List<Measure> measures = new ArrayList<>();
+		for (Scenario scenario : scenarios) {
+			Measure measure = harness.measure(scenario);
+			System.out.println(String.format("%s: %.1f ms to verify %d test cases", scenario,
+					measure.verificationMillis, measure.testCasesCount));
+			measures.add(measure);
+		}
+		Path report = new ScalabilityReport(output).write(measures, parallelism);
+		System.out.println("Report written in " + report);
+	}
+
+	/**
+	 * Vary one count at a time from the base {@link Scenario}. Values which do
+	 * not fit the other counts of the base are skipped.
+	 */
+	static List<Scenario> scenariosAround(Scenario base, List<Integer> propertiesCounts,
+			List<Integer> constructorsCounts, List<Integer> interfacesCounts, List<Integer> classesCounts) {
+		Set<Scenario> scenarios = new LinkedHashSet<>();
+		scenarios.add(base);
+		propertiesCounts.forEach(count -> scenarios.add(new Scenario(count, base.constructorsCount,
+				base.interfacesCount, base.classesCount)));
+		constructorsCounts.forEach(count -> scenarios.add(new Scenario(base.propertiesCount, count,
+				base.interfacesCount, base.classesCount)));
+		interfacesCounts.forEach(count -> scenarios.add(new Scenario(base.propertiesCount,
+				base.constructorsCount, count, base.classesCount)));
+		classesCounts.forEach(count -> scenarios.add(new Scenario(base.propertiesCount, base.constructorsCount,
+				base.interfacesCount, count)));
+		return scenarios.stream()
+				.filter(scenario -> scenario.constructorsCount >= 1 && scenario.constructorsCount <= 1
+						+ Math.min(scenario.propertiesCount, SyntheticPojos.MAX_CONSTRUCTOR_PARAMETERS))
+				.collect(Collectors.toList());
+	}
+
+	public Measure measure(Scenario scenario) {
+		List<Class<?>> pojoClasses = scenario.getPojoClasses();
+		run(pojoClasses);
+
+		List<Run> runs = new ArrayList<>();
+		for (int repetition = 0; repetition < repetitions; repetition++) {
+			runs.add(run(pojoClasses));
+		}
+		return new Measure(scenario,
+				median(runs, run -> run.definitionNanos),
+				median(runs, run -> run.lookupNanos),
+				median(runs, run -> run.testCasesNanos),
+				runs.get(0).testCasesCount,
+				median(runs, run -> run.verificationNanos),
+				runs.get(0).failuresCount,
+				runs.stream().mapToLong(run -> run.peakHeapBytes).max().getAsLong());
+	}
+
+	private static class Run {
+		long definitionNanos;
+		long lookupNanos;
+		long testCasesNanos;
+		long testCasesCount;
+		long verificationNanos;
+		long failuresCount;
+		long peakHeapBytes;
+	}
+
+	private Run run(List<Class<?>> pojoClasses) {
+		List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(pool -> pool.getType() == MemoryType.HEAP)
+				.collect(Collectors.toList());
+		System.gc();
+		heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+		Run run = new Run();
+		List<PojoDefinition<?>> definitions = time(nanos -> run.definitionNanos = nanos, () -> {
+			DefinitionFactory factory = new DefinitionFactory();
+			return pojoClasses.stream().map(pojoClass -> guessDefinition(factory, pojoClass))
+					.collect(Collectors.toList());
+		});
+		time(nanos -> run.lookupNanos = nanos, () -> {
+			definitions.forEach(ScalabilityHarness::lookUpMembers);
+			return null;
+		});
+		run.testCasesCount = time(nanos -> run.testCasesNanos = nanos, () -> definitions.stream()
+				.map(TestPlan::new)
+				.flatMap(testPlan -> TEST_PARAMETERS.stream().map(testPlan::getTestCases))
+				.mapToLong(List::size)
+				.sum());
+		List<PesterSuiteResult> results = time(nanos -> run.verificationNanos = nanos, () -> {
+			DefinitionFactory factory = new DefinitionFactory();
+			return PesterSuite.ofClasses(pojoClasses)
+					.withDefinitions(pojoClass -> guessDefinition(factory, pojoClass))
+					.on(pool)
+					.verify();
+		});
+		run.failuresCount = results.stream().mapToLong(result -> result.getFailures().size()
+				+ (result.getDefinitionFailure().isPresent() ? 1 : 0)).sum();
+
+		run.peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+		return run;
+	}
+
+	private static PojoDefinition<?> guessDefinition(DefinitionFactory factory, Class<?> pojoClass) {
+		PojoDefinition<?> definition = factory.guessFromClass(pojoClass);
+		definition.addInterfaces(pojoClass.getInterfaces());
+		return definition;
+	}
+
+	/**
+	 * Search the members of the POJO class by reflection, like the first test
+	 * cases would do.
+	 */
+	private static void lookUpMembers(PojoDefinition<?> definition) {
+		for (PropertyDefinition<?, ?> property : definition.getProperties()) {
+			property.getFieldDefinition().ifPresent(field -> field.getInstance().isPresent());
+			property.getGetterDefinition().ifPresent(getter -> getter.getInstance().isPresent());
+			property.getSetterDefinition().ifPresent(setter -> setter.getInstance().isPresent());
+		}
+		for (ConstructorDefinition<?> constructor : definition.getConstructors()) {
+			constructor.getInstance().isPresent();
+		}
+	}
+
+	private static <T> T time(LongConsumer nanosConsumer, Supplier<T> task) {
+		long start = System.nanoTime();
+		T result = task.get();
+		nanosConsumer.accept(System.nanoTime() - start);
+		return result;
+	}
+
+	private static double median(List<Run> runs, ToLongFunction<Run> nanos) {
+		long[] values = runs.stream().mapToLong(nanos).sorted().toArray();
+		int middle = values.length / 2;
+		double median = values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2.0;
+		return median / 1_000_000;
+	}
+
+	static Map<String, String> parseArguments(String[] args) {
+		Map<String, String> arguments = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Argument not in the form --name=value: " + arg);
+			}
+			int separator = arg.indexOf('=');
+			arguments.put(arg.substring(2, separator), arg.substring(separator + 1));
+		}
+		return arguments;
+	}
+
+	static List<Integer> parseCounts(String counts) {
+		return Stream.of(counts.split(",")).map(String::trim).map(Integer::valueOf).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,98 @@
+package fr.vergne.pester.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import fr.vergne.pester.benchmarks.ScalabilityHarness.Measure;
+
+/**
+ * {@link ScalabilityReport} writes the {@link Measure}s of a
+ * {@link ScalabilityHarness} run in a directory:
+ * <ul>
+ * <li><code>scalability.csv</code> gets a line per scenario at each run, so
+ * it shows the trend of the measures over the runs,
+ * <li><code>scalability-&lt;timestamp&gt;.json</code> gets all the measures of
+ * the run.
+ * </ul>
+ */
+public class ScalabilityReport {
+
+	static final String TREND_FILE = "scalability.csv";
+	static final List<String> COLUMNS = Arrays.asList("timestamp", "java", "parallelism", "properties",
+			"constructors", "interfaces", "classes", "definitionMillis", "lookupMillis", "testCasesMillis",
+			"testCasesCount", "verificationMillis", "failuresCount", "peakHeapBytes");
+
+	private final Path directory;
+
+	public ScalabilityReport(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * @return the JSON file of the run
+	 */
+	public Path write(List<Measure> measures, int parallelism) {
+		Instant timestamp = Instant.now();
+		String java = System.getProperty("java.version");
+		try {
+			Files.createDirectories(directory);
+
+			Path trendFile = directory.resolve(TREND_FILE);
+			List<String> lines = new ArrayList<>();
+			if (!Files.exists(trendFile)) {
+				lines.add(String.join(",", COLUMNS));
+			}
+			for (Measure measure : measures) {
+				lines.add(String.join(",", valuesOf(timestamp, java, parallelism, measure)));
+			}
+			Files.write(trendFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+
+			Path runFile = directory.resolve("scalability-" + timestamp.toString().replace(':', '-') + ".json");
+			StringBuilder json = new StringBuilder("[\n");
+			for (int index = 0; index < measures.size(); index++) {
+				List<String> values = valuesOf(timestamp, java, parallelism, measures.get(index));
+				json.append("  {");
+				for (int column = 0; column < COLUMNS.size(); column++) {
+					String value = values.get(column);
+					json.append(column == 0 ? "" : ", ").append('"').append(COLUMNS.get(column)).append("\": ")
+							.append(column < 2 ? '"' + value + '"' : value);
+				}
+				json.append(index < measures.size() - 1 ? "},\n" : "}\n");
+			}
+			json.append("]\n");
+			Files.write(runFile, json.toString().getBytes(StandardCharsets.UTF_8));
+			return runFile;
+		} catch (IOException cause) {
+			throw new UncheckedIOException(cause);
+		}
+	}
+
+	private static List<String> valuesOf(Instant timestamp, String java, int parallelism, Measure measure) {
+		return Arrays.asList(timestamp.toString(), java, String.valueOf(parallelism),
+				String.valueOf(measure.scenario.propertiesCount),
+				String.valueOf(measure.scenario.constructorsCount),
+				String.valueOf(measure.scenario.interfacesCount),
+				String.valueOf(measure.scenario.classesCount),
+				millis(measure.definitionMillis),
+				millis(measure.lookupMillis),
+				millis(measure.testCasesMillis),
+				String.valueOf(measure.testCasesCount),
+				millis(measure.verificationMillis),
+				String.valueOf(measure.failuresCount),
+				String.valueOf(measure.peakHeapBytes));
+	}
+
+	private static String millis(double millis) {
+		return String.format(Locale.ROOT, "%.3f", millis);
+	}
+}
@@ -0,0 +1,187 @@
+package fr.vergne.pester.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * {@link SyntheticPojos} creates POJO classes of any size, so the benchmarks
+ * can measure how Pester scales with them. Their sources are written and
+ * compiled at runtime, so they are plain classes, which Pester inspects like
+ * any other.
+ * <p>
+ * Each property has a private field, a getter and a setter. Their types cycle
+ * through {@link #PROPERTY_TYPES}. Each constructor takes the first properties
+ * of the class, from none for the default constructor up to
+ * {@link #MAX_CONSTRUCTOR_PARAMETERS}. Each interface is an empty interface
+ * implemented by the class.
+ */
+public class SyntheticPojos {
+
+	static final List<String> PROPERTY_TYPES = Collections.unmodifiableList(Arrays.asList(
+			"int", "long", "double", "boolean", "String", "Integer", "java.util.List<String>"));
+	static final int MAX_CONSTRUCTOR_PARAMETERS = 20;
+
+	private static final Map<String, List<Class<?>>> CLASSES = new ConcurrentHashMap<>();
+
+	/**
+	 * @param propertiesCount the number of properties of the POJO class
+	 * @return a POJO class with a default constructor and a constructor on its
+	 *         first properties, compiled once per count
+	 */
+	public static Class<?> ofProperties(int propertiesCount) {
+		return of(propertiesCount, propertiesCount == 0 ? 1 : 2, 0, 1).get(0);
+	}
+
+	/**
+	 * @param propertiesCount   the number of properties of each POJO class
+	 * @param constructorsCount the number of constructors of each POJO class, at
+	 *                          least 1 and at most one more than its properties
+	 *                          (up to {@link #MAX_CONSTRUCTOR_PARAMETERS})
+	 * @param interfacesCount   the number of interfaces of each POJO class
+	 * @param classesCount      the number of POJO classes
+	 * @return POJO classes of the same shape, compiled once per shape
+	 */
+	public static List<Class<?>> of(int propertiesCount, int constructorsCount, int interfacesCount,
+			int classesCount) {
+		int maxParametersCount = Math.min(propertiesCount, MAX_CONSTRUCTOR_PARAMETERS);
+		if (propertiesCount < 0 || interfacesCount < 0 || classesCount < 0) {
+			throw new IllegalArgumentException("Negative count: " + propertiesCount + " properties, "
+					+ interfacesCount + " interfaces, " + classesCount + " classes");
+		} else if (constructorsCount < 1 || constructorsCount > maxParametersCount + 1) {
+			throw new IllegalArgumentException("Constructors count must be between 1 and "
+					+ (maxParametersCount + 1) + " for " + propertiesCount + " properties: " + constructorsCount);
+		}
+		String shape = "P" + propertiesCount + "C" + constructorsCount + "I" + interfacesCount;
+		return CLASSES.computeIfAbsent(shape + "x" + classesCount, key -> compile(shape, propertiesCount,
+				parametersCounts(constructorsCount, maxParametersCount), interfacesCount, classesCount));
+	}
+
+	/**
+	 * Spread the constructors between the default one and the one with the most
+	 * parameters.
+	 */
+	private static int[] parametersCounts(int constructorsCount, int maxParametersCount) {
+		int[] counts = new int[constructorsCount];
+		for (int index = 1; index < constructorsCount; index++) {
+			counts[index] = (int) Math.round((double) index * maxParametersCount / (constructorsCount - 1));
+		}
+		return counts;
+	}
+
+	static String packageName() {
+		return SyntheticPojos.class.getPackage().getName();
+	}
+
+	static String sourceOf(String simpleName, int propertiesCount, int[] parametersCounts,
+			List<String> interfaceNames) {
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(packageName()).append(";\n\n");
+		source.append("public class ").append(simpleName);
+		if (!interfaceNames.isEmpty()) {
+			source.append(" implements ").append(String.join(", ", interfaceNames));
+		}
+		source.append(" {\n");
+		for (int index = 0; index < propertiesCount; index++) {
+			source.append("\tprivate ").append(typeOf(index)).append(" ").append(nameOf(index)).append(";\n");
+		}
+		for (int parametersCount : parametersCounts) {
+			source.append("\n\tpublic ").append(simpleName).append("(");
+			for (int index = 0; index < parametersCount; index++) {
+				source.append(index == 0 ? "" : ", ").append(typeOf(index)).append(" ").append(nameOf(index));
+			}
+			source.append(") {\n");
+			for (int index = 0; index < parametersCount; index++) {
+				source.append("\t\tthis.").append(nameOf(index)).append(" = ").append(nameOf(index)).append(";\n");
+			}
+			source.append("\t}\n");
+		}
+		for (int index = 0; index < propertiesCount; index++) {
+			String type = typeOf(index);
+			String name = nameOf(index);
+			String suffix = name.substring(0, 1).toUpperCase() + name.substring(1);
+			source.append("\n\tpublic ").append(type).append(" get").append(suffix).append("() {\n");
+			source.append("\t\treturn ").append(name).append(";\n\t}\n");
+			source.append("\n\tpublic void set").append(suffix).append("(").append(type).append(" ").append(name)
+					.append(") {\n");
+			source.append("\t\tthis.").append(name).append(" = ").append(name).append(";\n\t}\n");
+		}
+		source.append("}\n");
+		return source.toString();
+	}
+
+	private static String typeOf(int index) {
+		return PROPERTY_TYPES.get(index % PROPERTY_TYPES.size());
+	}
+
+	private static String nameOf(int index) {
+		return "property" + index;
+	}
+
+	private static List<Class<?>> compile(String shape, int propertiesCount, int[] parametersCounts,
+			int interfacesCount, int classesCount) {
+		try {
+			Path directory = Files.createTempDirectory("pester-benchmarks");
+			Path packageDirectory = Files.createDirectories(directory.resolve(packageName().replace('.', '/')));
+			List<File> sourceFiles = new ArrayList<>();
+			List<String> classNames = new ArrayList<>();
+			for (int classIndex = 0; classIndex < classesCount; classIndex++) {
+				String simpleName = "SyntheticPojo" + shape + "_" + classIndex;
+				List<String> interfaceNames = new ArrayList<>();
+				for (int interfaceIndex = 0; interfaceIndex < interfacesCount; interfaceIndex++) {
+					String interfaceName = simpleName + "_Interface" + interfaceIndex;
+					interfaceNames.add(interfaceName);
+					sourceFiles.add(write(packageDirectory, interfaceName,
+							"package " + packageName() + ";\n\npublic interface " + interfaceName + " {\n}\n"));
+				}
+				sourceFiles.add(write(packageDirectory, simpleName,
+						sourceOf(simpleName, propertiesCount, parametersCounts, interfaceNames)));
+				classNames.add(packageName() + "." + simpleName);
+			}
+
+			JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+			if (compiler == null) {
+				throw new IllegalStateException("No Java compiler available, run the benchmarks on a JDK");
+			}
+			try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+				// Parameter names link the constructor parameters to their properties
+				List<String> options = Arrays.asList("-parameters", "-d", directory.toString());
+				if (!compiler.getTask(null, fileManager, null, options, null,
+						fileManager.getJavaFileObjectsFromFiles(sourceFiles)).call()) {
+					throw new IllegalStateException("Cannot compile the POJO classes " + shape);
+				}
+			}
+			URL[] urls = { directory.toUri().toURL() };
+			ClassLoader classLoader = new URLClassLoader(urls, SyntheticPojos.class.getClassLoader());
+			List<Class<?>> classes = new ArrayList<>();
+			for (String className : classNames) {
+				classes.add(classLoader.loadClass(className));
+			}
+			return Collections.unmodifiableList(classes);
+		} catch (IOException cause) {
+			throw new UncheckedIOException(cause);
+		} catch (ClassNotFoundException cause) {
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private static File write(Path directory, String simpleName, String source) throws IOException {
+		Path file = directory.resolve(simpleName + ".java");
+		Files.write(file, Collections.singletonList(source));
+		return file.toFile();
+	}
+}
@@ -0,0 +1,67 @@
+package fr.vergne.pester.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.junit.PesterTestComparator;
+import fr.vergne.pester.junit.TestCasesGenerator;
+import fr.vergne.pester.junit.TestParameter;
+import fr.vergne.pester.junit.annotation.DefinitionSource;
+
+/**
+ * Measure the generation of the test cases of all the {@link PesterTest}
+ * methods, and the sorting of these methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestCasesBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class TestsState {
+		List<Method> methods;
+		List<TestParameter[]> testParameters;
+		PesterTestComparator comparator;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			methods = Arrays.asList(PesterTest.class.getDeclaredMethods());
+			testParameters = methods.stream()
+					.map(method -> method.getAnnotation(DefinitionSource.class))
+					.filter(annotation -> annotation != null)
+					.map(DefinitionSource::value)
+					.collect(Collectors.toList());
+			comparator = new PesterTestComparator();
+		}
+	}
+
+	@Benchmark
+	public long streamTestCases(PojoState pojo, TestsState tests) {
+		return tests.testParameters.stream()
+				.flatMap(parameters -> TestCasesGenerator.streamTestCases(pojo.definition, parameters))
+				.count();
+	}
+
+	@Benchmark
+	public List<Method> sortTests(TestsState tests) {
+		return tests.methods.stream().sorted(tests.comparator).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,70 @@
+package fr.vergne.pester.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import fr.vergne.pester.definition.PropertyDefinition;
+import fr.vergne.pester.value.Generator;
+import fr.vergne.pester.value.Modifier;
+
+/**
+ * Measure the throughput of the default generators and modifiers, on the
+ * values of all the properties of a POJO.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValuesBenchmark {
+
+	@State(Scope.Thread)
+	public static class ValuesState {
+		List<Generator<Object>> generators;
+		List<Modifier<Object>> modifiers;
+		List<Object> values;
+
+		@Setup(Level.Trial)
+		public void setUp(PojoState state) {
+			generators = state.properties.stream()
+					.map(PropertyDefinition::getGenerator)
+					.collect(Collectors.toList());
+			modifiers = state.properties.stream()
+					.map(PropertyDefinition::getModifier)
+					.collect(Collectors.toList());
+			values = generators.stream()
+					.map(Generator::create)
+					.collect(Collectors.toList());
+		}
+	}
+
+	@Benchmark
+	public void generate(ValuesState state, Blackhole blackhole) {
+		for (Generator<Object> generator : state.generators) {
+			blackhole.consume(generator.create());
+		}
+	}
+
+	@Benchmark
+	public void modify(ValuesState state) {
+		List<Object> values = state.values;
+		for (int index = 0; index < values.size(); index++) {
+			// Chain the modifications, like successive test cases would do
+			values.set(index, state.modifiers.get(index).modify(values.get(index)));
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package fr.vergne.pester.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import fr.vergne.pester.PesterSuite;
+import fr.vergne.pester.PesterSuiteResult;
+import fr.vergne.pester.definition.DefinitionFactory;
+import fr.vergne.pester.definition.PojoDefinition;
+
+class SyntheticPojosTest {
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 10, 100 })
+	void testSyntheticPojoHasRequestedProperties(int propertiesCount) {
+		Class<?> pojoClass = SyntheticPojos.ofProperties(propertiesCount);
+		PojoDefinition<?> definition = new DefinitionFactory().guessFromClass(pojoClass);
+
+		assertEquals(propertiesCount, definition.getProperties().size());
+		assertTrue(definition.getProperties().stream().allMatch(property -> property.getFieldDefinition().isPresent()
+				&& property.getGetterDefinition().isPresent() && property.getSetterDefinition().isPresent()));
+		assertEquals(propertiesCount == 0 ? 1 : 2, definition.getConstructors().size());
+		assertSame(pojoClass, SyntheticPojos.ofProperties(propertiesCount));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 20 })
+	void testSyntheticPojoPassesPester(int propertiesCount) {
+		PesterSuiteResult result = PesterSuite.ofClasses(SyntheticPojos.ofProperties(propertiesCount)).verify().get(0);
+
+		result.assertSuccessful();
+		assertTrue(result.getCasesCount() > 0);
+	}
+
+	@Test
+	void testSyntheticPojosHaveRequestedShape() {
+		List<Class<?>> pojoClasses = SyntheticPojos.of(20, 5, 3, 2);
+
+		assertEquals(2, pojoClasses.size());
+		assertNotEquals(pojoClasses.get(0), pojoClasses.get(1));
+		for (Class<?> pojoClass : pojoClasses) {
+			PojoDefinition<?> definition = new DefinitionFactory().guessFromClass(pojoClass);
+			assertEquals(20, definition.getProperties().size());
+			assertEquals(Arrays.asList(0, 5, 10, 15, 20), definition.getConstructors().stream()
+					.map(constructor -> constructor.getParametersDefinitions().size())
+					.sorted()
+					.collect(Collectors.toList()));
+			assertEquals(3, pojoClass.getInterfaces().length);
+		}
+	}
+
+	@Test
+	void testTooManyConstructorsAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> SyntheticPojos.of(3, 5, 0, 1));
+	}
+}
@@ -0,0 +1,114 @@
+package fr.vergne.pester;
+
+import fr.vergne.pester.metrics.CountingMetrics;
+import fr.vergne.pester.util.argscheck.ArgsCheck;
+
+/**
+ * {@link PesterMetrics} receives the measures of the hot paths of Pester:
+ * reflective lookups and invocations of the POJO members, generated and
+ * modified values, test cases and definitions. By default, nothing is
+ * measured. To measure them, install an implementation, like
+ * {@link CountingMetrics}, before the tests are defined:
+ *
+ * <pre>
+ * PesterMetrics.install(new CountingMetrics(true));
+ * </pre>
+ *
+ * Alternatively, set the system property {@value #METRICS_PROPERTY} to
+ * <code>console</code> or to the path of a JSON file, to count all along the
+ * JVM and publish a summary at its shutdown.
+ */
+public interface PesterMetrics {
+
+	String METRICS_PROPERTY = "pester.metrics";
+	String TIMERS_PROPERTY = "pester.metrics.timers";
+
+	enum Counter {
+		FIELD_LOOKUPS, FIELD_READS, FIELD_WRITES,
+		GETTER_LOOKUPS, GETTER_INVOCATIONS,
+		SETTER_LOOKUPS, SETTER_INVOCATIONS,
+		CONSTRUCTOR_LOOKUPS, CONSTRUCTOR_INVOCATIONS,
+		GENERATED_VALUES, MODIFIED_VALUES,
+		TEST_CASES, DEFINITIONS
+	}
+
+	enum Timer {
+		DEFINITION_BUILD, TEST_CASES_GENERATION
+	}
+
+	/**
+	 * {@link PesterMetrics} which measures nothing.
+	 */
+	PesterMetrics NO_OP = new PesterMetrics() {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void count(Counter counter, long count) {
+			// Nothing to count
+		}
+
+		@Override
+		public void countCases(String testName, long count) {
+			// Nothing to count
+		}
+
+		@Override
+		public long startTimer() {
+			return 0;
+		}
+
+		@Override
+		public void stopTimer(Timer timer, long start) {
+			// Nothing to time
+		}
+	};
+
+	/**
+	 * @return <code>false</code> if nothing is measured, so the caller can avoid
+	 *         preparing its measures
+	 */
+	boolean isEnabled();
+
+	default void count(Counter counter) {
+		count(counter, 1);
+	}
+
+	void count(Counter counter, long count);
+
+	/**
+	 * Count the test cases generated for a test method.
+	 *
+	 * @param testName the name of the test method
+	 * @param count the number of test cases
+	 */
+	void countCases(String testName, long count);
+
+	/**
+	 * @return the start to give to {@link #stopTimer(Timer, long)}
+	 */
+	long startTimer();
+
+	void stopTimer(Timer timer, long start);
+
+	/**
+	 * @return the installed {@link PesterMetrics}, {@link #NO_OP} by default
+	 */
+	static PesterMetrics current() {
+		return PesterMetricsHolder.current;
+	}
+
+	/**
+	 * Install the {@link PesterMetrics} to measure with. The generated and
+	 * modified values are only counted for the types created afterwards.
+	 *
+	 * @param metrics the {@link PesterMetrics} to install, {@link #NO_OP} to stop
+	 *                measuring
+	 */
+	static void install(PesterMetrics metrics) {
+		PesterMetricsHolder.current = ArgsCheck.requireNonNull(metrics, "No metrics provided");
+	}
+}
@@ -0,0 +1,38 @@
+package fr.vergne.pester;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import fr.vergne.pester.metrics.ConsoleMetricsSink;
+import fr.vergne.pester.metrics.CountingMetrics;
+import fr.vergne.pester.metrics.JsonMetricsSink;
+import fr.vergne.pester.metrics.MetricsSink;
+
+/**
+ * Hold the installed {@link PesterMetrics}, initialized from the system
+ * property {@value PesterMetrics#METRICS_PROPERTY}.
+ */
+class PesterMetricsHolder {
+
+	static volatile PesterMetrics current = fromSystemProperties();
+
+	private static PesterMetrics fromSystemProperties() {
+		Optional<MetricsSink> sink = Optional.ofNullable(System.getProperty(PesterMetrics.METRICS_PROPERTY))
+				.map(String::trim)
+				.filter(value -> !value.isEmpty())
+				.map(value -> value.equals("console")
+						? new ConsoleMetricsSink(System.out)
+						: new JsonMetricsSink(Paths.get(value)));
+		if (!sink.isPresent()) {
+			return PesterMetrics.NO_OP;
+		}
+		boolean timed = Boolean.parseBoolean(System.getProperty(PesterMetrics.TIMERS_PROPERTY, "true"));
+		CountingMetrics metrics = new CountingMetrics(timed);
+		// Test launchers may close their class loader before the shutdown hooks
+		// run, so we load now all the classes needed to publish
+		sink.get().format(metrics.snapshot());
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> sink.get().publish(metrics.snapshot()),
+				"pester-metrics"));
+		return metrics;
+	}
+}
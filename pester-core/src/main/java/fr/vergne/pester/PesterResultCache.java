@@ -0,0 +1,347 @@
+package fr.vergne.pester;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import fr.vergne.pester.definition.ConstructorDefinition;
+import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.definition.PropertyDefinition;
+import fr.vergne.pester.util.cache.Cache;
+
+/**
+ * {@link PesterResultCache} remembers across runs the POJO classes which passed
+ * their verification. Each pass is stored with a fingerprint, which hashes the
+ * bytecode of the class, its parents and its interfaces, the code of Pester
+ * itself, and the description of the {@link PojoDefinition}. A class is
+ * verified again as soon as one of them changes. Custom generators and
+ * modifiers cannot be described, so changing them alone does not invalidate
+ * the cache.
+ * <p>
+ * The passes are stored for each test method of each POJO class, so the
+ * {@link PesterShard}s verifying different test methods of the same class each
+ * store their part, and a class is cached once all its test methods passed.
+ * Since several shards may use the same file, each of them only saves its own
+ * changes, merged with the current content of the file.
+ */
+class PesterResultCache {
+
+	private static final Logger LOGGER = Logger.getLogger(PesterResultCache.class.getName());
+	private static final int FORMAT_VERSION = 2;
+	private static final Supplier<Optional<byte[]>> PESTER_DIGEST = Cache.onSupplier(PesterResultCache::digestPester);
+	// A file lock is held by the whole JVM, so its caches also save one at a time
+	private static final Object SAVE_LOCK = new Object();
+
+	private final Path file;
+	private final Map<String, Entry> entries;
+	private final Map<String, Entry> storedEntries = new ConcurrentHashMap<>();
+	private final Set<String> forgottenKeys = ConcurrentHashMap.newKeySet();
+
+	private PesterResultCache(Path file, Map<String, Entry> entries) {
+		this.file = file;
+		this.entries = entries;
+	}
+
+	private static class Entry {
+		private final String fingerprint;
+		private final int casesCount;
+
+		public Entry(String fingerprint, int casesCount) {
+			this.fingerprint = fingerprint;
+			this.casesCount = casesCount;
+		}
+	}
+
+	/**
+	 * Load the cache from a file. If the file does not exist or cannot be read,
+	 * the cache starts empty.
+	 *
+	 * @param file the file storing the cache
+	 * @return the loaded {@link PesterResultCache}
+	 */
+	static PesterResultCache load(Path file) {
+		return new PesterResultCache(file, read(file));
+	}
+
+	private static Map<String, Entry> read(Path file) {
+		Map<String, Entry> entries = new ConcurrentHashMap<>();
+		if (Files.exists(file)) {
+			try (DataInputStream input = new DataInputStream(Files.newInputStream(file))) {
+				if (input.readInt() == FORMAT_VERSION) {
+					int count = input.readInt();
+					for (int i = 0; i < count; i++) {
+						String key = input.readUTF();
+						entries.put(key, new Entry(input.readUTF(), input.readInt()));
+					}
+				}
+			} catch (IOException cause) {
+				LOGGER.warning("Cannot read the cache " + file + ", start from an empty one: " + cause);
+				entries.clear();
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Save the passes stored and forgotten since the cache was loaded. The file
+	 * is read again and updated under a lock, so the changes saved meanwhile by
+	 * other shards are kept. It is replaced at once, so a concurrent run never
+	 * reads a partially written cache.
+	 */
+	synchronized void save() {
+		synchronized (SAVE_LOCK) {
+			try {
+				Path directory = file.toAbsolutePath().getParent();
+				Files.createDirectories(directory);
+				Path lockFile = directory.resolve(file.getFileName() + ".lock");
+				try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE)) {
+					// Released when the channel is closed
+					lockChannel.lock();
+					Map<String, Entry> mergedEntries = new HashMap<>(read(file));
+					forgottenKeys.forEach(mergedEntries::remove);
+					mergedEntries.putAll(storedEntries);
+					write(mergedEntries, directory);
+				}
+			} catch (IOException cause) {
+				LOGGER.warning("Cannot write the cache " + file + ": " + cause);
+			}
+		}
+	}
+
+	private void write(Map<String, Entry> entries, Path directory) throws IOException {
+		Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(tempFile))) {
+			output.writeInt(FORMAT_VERSION);
+			output.writeInt(entries.size());
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				output.writeUTF(entry.getKey());
+				output.writeUTF(entry.getValue().fingerprint);
+				output.writeInt(entry.getValue().casesCount);
+			}
+		}
+		Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * @return the number of cases of the last passes of these test methods, if
+	 *         they all passed with the same fingerprint
+	 */
+	Optional<Integer> findPass(Class<?> pojoClass, Collection<Method> testMethods, String fingerprint) {
+		int casesCount = 0;
+		for (Method testMethod : testMethods) {
+			Entry entry = entries.get(key(pojoClass, testMethod));
+			if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+				return Optional.empty();
+			}
+			casesCount += entry.casesCount;
+		}
+		return Optional.of(casesCount);
+	}
+
+	void storePass(Class<?> pojoClass, Method testMethod, String fingerprint, int casesCount) {
+		String key = key(pojoClass, testMethod);
+		Entry entry = new Entry(fingerprint, casesCount);
+		entries.put(key, entry);
+		storedEntries.put(key, entry);
+		forgottenKeys.remove(key);
+	}
+
+	void forget(Class<?> pojoClass, Collection<Method> testMethods) {
+		for (Method testMethod : testMethods) {
+			String key = key(pojoClass, testMethod);
+			entries.remove(key);
+			storedEntries.remove(key);
+			forgottenKeys.add(key);
+		}
+	}
+
+	private static String key(Class<?> pojoClass, Method testMethod) {
+		return pojoClass.getName() + "#" + testMethod.getName();
+	}
+
+	/**
+	 * @param pojoDefinition the {@link PojoDefinition} to fingerprint
+	 * @return the fingerprint of this definition and its classes, or nothing if
+	 *         their bytecode cannot be found
+	 */
+	static Optional<String> fingerprint(PojoDefinition<?> pojoDefinition) {
+		Optional<byte[]> pesterDigest = PESTER_DIGEST.get();
+		if (!pesterDigest.isPresent()) {
+			return Optional.empty();
+		}
+		MessageDigest digest = createDigest();
+		digest.update(pesterDigest.get());
+
+		try {
+			for (Class<?> c : collectHierarchy(pojoDefinition.getPojoClass())) {
+				updateWithBytecode(digest, c);
+			}
+		} catch (IOException cause) {
+			return Optional.empty();
+		}
+		digest.update(describe(pojoDefinition).getBytes(StandardCharsets.UTF_8));
+
+		StringBuilder fingerprint = new StringBuilder();
+		for (byte b : digest.digest()) {
+			fingerprint.append(String.format("%02x", b));
+		}
+		return Optional.of(fingerprint.toString());
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException cause) {
+			throw new IllegalStateException("SHA-256 is required on any Java platform", cause);
+		}
+	}
+
+	/**
+	 * The checks depend on the whole code of Pester, like its model and test
+	 * cases generation, so we hash its JAR, or its classes when it is a
+	 * directory. If its code cannot be read, we rely on its implementation
+	 * version, and without version we don't cache anything.
+	 */
+	private static Optional<byte[]> digestPester() {
+		MessageDigest digest = createDigest();
+		try {
+			CodeSource codeSource = PesterTest.class.getProtectionDomain().getCodeSource();
+			if (codeSource == null) {
+				throw new IOException("No code source for Pester");
+			}
+			Path location = Paths.get(codeSource.getLocation().toURI());
+			if (Files.isDirectory(location)) {
+				List<Path> classFiles;
+				try (Stream<Path> files = Files.walk(location)) {
+					classFiles = files
+							.filter(path -> path.getFileName().toString().endsWith(".class"))
+							.sorted()
+							.collect(Collectors.toList());
+				}
+				for (Path classFile : classFiles) {
+					String name = location.relativize(classFile).toString().replace('\\', '/');
+					digest.update(name.getBytes(StandardCharsets.UTF_8));
+					digest.update(Files.readAllBytes(classFile));
+				}
+			} else {
+				digest.update(Files.readAllBytes(location));
+			}
+		} catch (IOException | URISyntaxException | SecurityException | IllegalArgumentException cause) {
+			String version = PesterTest.class.getPackage().getImplementationVersion();
+			if (version == null) {
+				LOGGER.warning("Cannot identify the code of Pester, the cache is disabled: " + cause);
+				return Optional.empty();
+			}
+			digest.reset();
+			digest.update(version.getBytes(StandardCharsets.UTF_8));
+		}
+		return Optional.of(digest.digest());
+	}
+
+	/**
+	 * @return the class, its parents and all their interfaces, which default
+	 *         methods can change the behavior of the class
+	 */
+	private static Collection<Class<?>> collectHierarchy(Class<?> pojoClass) {
+		Set<Class<?>> hierarchy = new LinkedHashSet<>();
+		Deque<Class<?>> remaining = new ArrayDeque<>();
+		remaining.add(pojoClass);
+		while (!remaining.isEmpty()) {
+			Class<?> c = remaining.poll();
+			if (!c.equals(Object.class) && hierarchy.add(c)) {
+				Optional.ofNullable(c.getSuperclass()).ifPresent(remaining::add);
+				remaining.addAll(Arrays.asList(c.getInterfaces()));
+			}
+		}
+		return hierarchy;
+	}
+
+	private static void updateWithBytecode(MessageDigest digest, Class<?> c) throws IOException {
+		String resource = "/" + c.getName().replace('.', '/') + ".class";
+		try (InputStream input = c.getResourceAsStream(resource)) {
+			if (input == null) {
+				throw new IOException("No bytecode found for " + c);
+			}
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = input.read(buffer)) >= 0) {
+				digest.update(buffer, 0, read);
+			}
+		}
+	}
+
+	private static String describe(PojoDefinition<?> pojoDefinition) {
+		StringBuilder description = new StringBuilder();
+		description.append("class ").append(pojoDefinition.getPojoClass().getName()).append('\n');
+		pojoDefinition.getParentClass().ifPresent(parent -> description.append("parent ").append(parent.getName()).append('\n'));
+		pojoDefinition.getInterfaces().stream()
+				.map(Class::getName)
+				.sorted()
+				.forEach(name -> description.append("interface ").append(name).append('\n'));
+		for (PropertyDefinition<?, ?> property : pojoDefinition.getProperties()) {
+			description.append("property ").append(property.getName())
+					.append(' ').append(property.getType().getName()).append('\n');
+			property.getFieldDefinition().ifPresent(field -> description.append(" field ").append(field.getInstance())
+					.append(' ').append(field.getVisibility()).append(' ').append(field.getMutability())
+					.append(' ').append(field.getScope()).append('\n'));
+			property.getGetterDefinition().ifPresent(getter -> description.append(" getter ").append(getter.getInstance())
+					.append(' ').append(getter.getVisibility()).append(' ').append(getter.getMutability())
+					.append(' ').append(getter.getScope()).append('\n'));
+			property.getSetterDefinition().ifPresent(setter -> description.append(" setter ").append(setter.getInstance())
+					.append(' ').append(setter.getVisibility()).append(' ').append(setter.getMutability())
+					.append(' ').append(setter.getScope()).append('\n'));
+			property.getDefaultValue().ifPresent(value -> description.append(" default ").append(describe(value.get())).append('\n'));
+		}
+		for (ConstructorDefinition<?> constructor : pojoDefinition.getConstructors()) {
+			description.append("constructor ").append(constructor.getVisibility()).append(constructor
+					.getParametersDefinitions().stream()
+					.map(PropertyDefinition::getName)
+					.collect(Collectors.joining(", ", "(", ")")))
+					.append('\n');
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Only the values which are described the same at each run are described as
+	 * is. The others, which may use the identity of the object, are described by
+	 * their class.
+	 */
+	private static String describe(Object value) {
+		if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+				|| value instanceof Character || value instanceof Enum) {
+			return String.valueOf(value);
+		} else {
+			return "instance of " + value.getClass().getName();
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package fr.vergne.pester;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import fr.vergne.pester.util.argscheck.ArgsCheck;
+import fr.vergne.pester.util.hash.StableHash;
+
+/**
+ * A {@link PesterShard} is one of several shards sharing the verification of
+ * the same POJO classes, so several JVMs, like the forks of a build, can each
+ * verify a part of them. Set the system property {@value #SHARD_PROPERTY} to
+ * <code>index/count</code>, like <code>3/8</code>, with an index from 1 to the
+ * count of shards.
+ * <p>
+ * The work is split in units, which are either the POJO classes or the test
+ * methods of each POJO class, as set by the system property
+ * {@value #UNIT_PROPERTY}. Each unit is weighted by its estimated number of
+ * test cases, and the heaviest units are assigned first to the least loaded
+ * shards. Units of equal weights are ordered by a stable hash of their names,
+ * so all the shards compute the same assignment as long as they consider the
+ * same units.
+ */
+public class PesterShard {
+
+	public static final String SHARD_PROPERTY = "pester.shard";
+	public static final String UNIT_PROPERTY = "pester.shard.unit";
+
+	public enum Unit {
+		/**
+		 * Verify all the tests of a POJO class in the same shard.
+		 */
+		CLASS,
+		/**
+		 * Verify each test method of a POJO class in any shard, so the tests of a
+		 * big class are spread over several shards.
+		 */
+		METHOD
+	}
+
+	private final int index;
+	private final int count;
+	private final Unit unit;
+
+	public PesterShard(int index, int count, Unit unit) {
+		if (count < 1) {
+			throw new IllegalArgumentException("Invalid count of shards: " + count);
+		}
+		if (index < 1 || index > count) {
+			throw new IllegalArgumentException("Shard index " + index + " not in [1;" + count + "]");
+		}
+		this.index = index;
+		this.count = count;
+		this.unit = ArgsCheck.requireNonNull(unit, "No unit provided");
+	}
+
+	/**
+	 * @param shard the shard, like <code>3/8</code>
+	 * @param unit  the units to assign to the shards
+	 * @return the corresponding {@link PesterShard}
+	 */
+	public static PesterShard parse(String shard, Unit unit) {
+		ArgsCheck.requireNonNullNorEmpty(shard, "No shard provided");
+		String[] parts = shard.trim().split("/");
+		if (parts.length != 2) {
+			throw new IllegalArgumentException("Invalid shard, expected index/count: " + shard);
+		}
+		try {
+			return new PesterShard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()), unit);
+		} catch (NumberFormatException cause) {
+			throw new IllegalArgumentException("Invalid shard, expected index/count: " + shard, cause);
+		}
+	}
+
+	/**
+	 * @return the {@link PesterShard} set by the system properties
+	 *         {@value #SHARD_PROPERTY} and {@value #UNIT_PROPERTY}, if any
+	 */
+	public static Optional<PesterShard> fromSystemProperties() {
+		return fromProperties(key -> Optional.ofNullable(System.getProperty(key)));
+	}
+
+	/**
+	 * @param properties the properties, like the configuration parameters of a
+	 *                   test engine
+	 * @return the {@link PesterShard} set by the properties
+	 *         {@value #SHARD_PROPERTY} and {@value #UNIT_PROPERTY}, if any
+	 */
+	public static Optional<PesterShard> fromProperties(Function<String, Optional<String>> properties) {
+		Unit unit = properties.apply(UNIT_PROPERTY)
+				.map(PesterShard::parseUnit)
+				.orElse(Unit.METHOD);
+		return properties.apply(SHARD_PROPERTY)
+				.filter(shard -> !shard.trim().isEmpty())
+				.map(shard -> parse(shard, unit));
+	}
+
+	private static Unit parseUnit(String unit) {
+		try {
+			return Unit.valueOf(unit.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException cause) {
+			throw new IllegalArgumentException("Invalid " + UNIT_PROPERTY + ", expected one of "
+					+ Arrays.toString(Unit.values()) + ": " + unit, cause);
+		}
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public Unit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * Assign the units to all the shards, and return the ones of this shard.
+	 * 
+	 * @param units    all the units to assign, with unique names
+	 * @param nameOf   the name of a unit, which must be the same for all the
+	 *                 shards
+	 * @param weightOf the weight of a unit, like its estimated number of test
+	 *                 cases
+	 * @return the units of this shard, in the same order than the given ones
+	 */
+	public <U> List<U> select(List<U> units, Function<U, String> nameOf, ToLongFunction<U> weightOf) {
+		List<Integer> assignmentOrder = IntStream.range(0, units.size()).boxed()
+				.sorted(Comparator.<Integer>comparingLong(i -> weightOf.applyAsLong(units.get(i))).reversed()
+						.thenComparingLong(i -> StableHash.of(nameOf.apply(units.get(i))))
+						.thenComparing(i -> nameOf.apply(units.get(i))))
+				.collect(Collectors.toList());
+
+		// Each shard is {load, shard index}, the least loaded first
+		PriorityQueue<long[]> shards = new PriorityQueue<>(
+				Comparator.<long[]>comparingLong(shard -> shard[0]).thenComparingLong(shard -> shard[1]));
+		for (int shard = 1; shard <= count; shard++) {
+			shards.add(new long[] { 0, shard });
+		}
+		boolean[] isSelected = new boolean[units.size()];
+		for (int unitIndex : assignmentOrder) {
+			long[] shard = shards.poll();
+			shard[0] += Math.max(1, weightOf.applyAsLong(units.get(unitIndex)));
+			isSelected[unitIndex] = shard[1] == index;
+			shards.add(shard);
+		}
+
+		List<U> selectedUnits = new ArrayList<>();
+		for (int unitIndex = 0; unitIndex < units.size(); unitIndex++) {
+			if (isSelected[unitIndex]) {
+				selectedUnits.add(units.get(unitIndex));
+			}
+		}
+		return selectedUnits;
+	}
+
+	@Override
+	public String toString() {
+		return index + "/" + count;
+	}
+}
@@ -0,0 +1,400 @@
+package fr.vergne.pester;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.TestAbortedException;
+
+import fr.vergne.pester.definition.DefinitionFactory;
+import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.factory.RandomGeneratorFactory;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
+import fr.vergne.pester.junit.PesterTestComparator;
+import fr.vergne.pester.junit.TestCasesGenerator;
+import fr.vergne.pester.junit.TestPlan;
+import fr.vergne.pester.junit.annotation.DefinitionSource;
+import fr.vergne.pester.junit.extension.DefinitionSourcerExtension;
+import fr.vergne.pester.junit.extension.MissingMembersSkipper;
+import fr.vergne.pester.util.argscheck.ArgsCheck;
+
+/**
+ * A {@link PesterSuite} verifies many POJO classes at once, without writing a
+ * {@link PesterTest} for each of them. The definition of each class is
+ * inferred, by default with {@link DefinitionFactory#guessFromClass(Class)}
+ * unless it has been generated at compile time, and all the tests of
+ * {@link PesterTest} are run on it. The classes are verified in parallel on a
+ * {@link ForkJoinPool}, and a {@link PesterSuiteResult} is provided for each of
+ * them.
+ */
+public class PesterSuite {
+
+	private static final List<Method> TEST_METHODS = Collections.unmodifiableList(ReflectionSupport
+			.findMethods(PesterTest.class, method -> AnnotationSupport.isAnnotated(method, DefinitionSource.class),
+					HierarchyTraversalMode.TOP_DOWN)
+			.stream()
+			.sorted(new PesterTestComparator())
+			.collect(Collectors.toList()));
+
+	private final List<Class<?>> pojoClasses;
+	private Function<Class<?>, PojoDefinition<?>> definitionFactory;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+	private Optional<PesterResultCache> resultCache = Optional.empty();
+	private Optional<PesterShard> shard = PesterShard.fromSystemProperties();
+
+	private PesterSuite(Collection<Class<?>> pojoClasses) {
+		this.pojoClasses = Collections.unmodifiableList(new ArrayList<>(pojoClasses));
+		DefinitionFactory factory = new DefinitionFactory();
+		this.definitionFactory = pojoClass -> guessDefinition(factory, pojoClass);
+	}
+
+	private static <P> PojoDefinition<P> guessDefinition(DefinitionFactory factory, Class<P> pojoClass) {
+		// Prefer the definitions generated for @PesterCheck classes
+		return factory.findGeneratedDefinition(pojoClass).orElseGet(() -> factory.guessFromClass(pojoClass));
+	}
+
+	public static PesterSuite ofClasses(Class<?>... pojoClasses) {
+		return new PesterSuite(Arrays.asList(pojoClasses));
+	}
+
+	public static PesterSuite ofClasses(Collection<Class<?>> pojoClasses) {
+		return new PesterSuite(pojoClasses);
+	}
+
+	/**
+	 * @param packageName the package to scan, including its sub-packages
+	 * @return a {@link PesterSuite} on the POJO classes found in this package
+	 */
+	public static PesterSuite ofPackage(String packageName) {
+		return new PesterSuite(ReflectionSupport.findAllClassesInPackage(packageName,
+				PesterSuite::isPojoCandidate, className -> true));
+	}
+
+	/**
+	 * @param classpathRoot the classpath root to scan, like a directory or a JAR
+	 * @return a {@link PesterSuite} on the POJO classes found in this root
+	 */
+	public static PesterSuite ofClasspathRoot(URI classpathRoot) {
+		return new PesterSuite(ReflectionSupport.findAllClassesInClasspathRoot(classpathRoot,
+				PesterSuite::isPojoCandidate, className -> true));
+	}
+
+	static boolean isPojoCandidate(Class<?> candidate) {
+		int modifiers = candidate.getModifiers();
+		return !candidate.isInterface()
+				&& !candidate.isEnum()
+				&& !candidate.isAnnotation()
+				&& !candidate.isAnonymousClass()
+				&& !candidate.isLocalClass()
+				&& !candidate.isSynthetic()
+				&& !Modifier.isAbstract(modifiers)
+				&& !(candidate.isMemberClass() && !Modifier.isStatic(modifiers))
+				&& !PesterTest.class.isAssignableFrom(candidate);
+	}
+
+	/**
+	 * Infer the definitions of the POJO classes from the JavaBean specification,
+	 * with {@link DefinitionFactory#fromBeanClass(Class)}.
+	 *
+	 * @return this {@link PesterSuite}
+	 */
+	public PesterSuite asBeans() {
+		DefinitionFactory factory = new DefinitionFactory();
+		return withDefinitions(factory::fromBeanClass);
+	}
+
+	public PesterSuite withDefinitions(Function<Class<?>, PojoDefinition<?>> definitionFactory) {
+		this.definitionFactory = ArgsCheck.requireNonNull(definitionFactory, "No definition factory provided");
+		return this;
+	}
+
+	public PesterSuite on(ForkJoinPool pool) {
+		this.pool = ArgsCheck.requireNonNull(pool, "No pool provided");
+		return this;
+	}
+
+	/**
+	 * Verify incrementally, by skipping the POJO classes which passed in a
+	 * previous run and did not change since. Their results are cached passes.
+	 * The file is loaded now, and updated once all the classes are verified. The
+	 * {@link PesterShard}s can share the same file, each of them adding its
+	 * passes to the ones saved meanwhile by the others.
+	 *
+	 * @param cacheFile the file storing the passes, like
+	 *                  <code>target/pester-cache.bin</code>
+	 * @return this {@link PesterSuite}
+	 */
+	public PesterSuite withResultCache(Path cacheFile) {
+		ArgsCheck.requireNonNull(cacheFile, "No cache file provided");
+		this.resultCache = Optional.of(PesterResultCache.load(cacheFile));
+		return this;
+	}
+
+	/**
+	 * Verify only the part of the POJO classes assigned to the given shard. By
+	 * default, the shard is set by the system property
+	 * {@value PesterShard#SHARD_PROPERTY}. The classes of other shards have a
+	 * result telling so.
+	 *
+	 * @param shard the {@link PesterShard} to verify
+	 * @return this {@link PesterSuite}
+	 */
+	public PesterSuite inShard(PesterShard shard) {
+		this.shard = Optional.of(ArgsCheck.requireNonNull(shard, "No shard provided"));
+		return this;
+	}
+
+	public List<Class<?>> getPojoClasses() {
+		return pojoClasses;
+	}
+
+	/**
+	 * Verify all the POJO classes of this {@link PesterSuite} in parallel.
+	 *
+	 * @return the results of the verifications, in the same order than
+	 *         {@link #getPojoClasses()}
+	 */
+	public List<PesterSuiteResult> verify() {
+		List<ForkJoinTask<PesterSuiteResult>> tasks = verifyAsync();
+		return Collections.unmodifiableList(tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Start the verification of all the POJO classes of this {@link PesterSuite}
+	 * in parallel, so their results can be consumed as soon as they are
+	 * available. In a {@link PesterShard}, all the definitions are built first,
+	 * to assign the same units to the same shards in all of them.
+	 *
+	 * @return the tasks verifying the classes, in the same order than
+	 *         {@link #getPojoClasses()}
+	 */
+	public List<ForkJoinTask<PesterSuiteResult>> verifyAsync() {
+		Optional<PesterResultCache> resultCache = this.resultCache;
+		List<Supplier<PesterSuiteResult>> verifications = shard
+				.map(shard -> createShardVerifications(shard, resultCache))
+				.orElseGet(() -> pojoClasses.stream()
+						.<Supplier<PesterSuiteResult>>map(
+								pojoClass -> () -> verify(prepare(pojoClass), resultCache, TEST_METHODS))
+						.collect(Collectors.toList()));
+		AtomicInteger remaining = new AtomicInteger(verifications.size());
+		return Collections.unmodifiableList(verifications.stream()
+				.map(verification -> pool.submit(() -> {
+					try {
+						return verification.get();
+					} finally {
+						// The last verification saves the cache for all of them
+						if (remaining.decrementAndGet() == 0) {
+							resultCache.ifPresent(PesterResultCache::save);
+						}
+					}
+				}))
+				.collect(Collectors.toList()));
+	}
+
+	private List<Supplier<PesterSuiteResult>> createShardVerifications(PesterShard shard,
+			Optional<PesterResultCache> resultCache) {
+		List<PreparedClass> preparedClasses = pojoClasses.stream()
+				.map(pojoClass -> pool.submit(() -> prepare(pojoClass)))
+				.collect(Collectors.toList()).stream()
+				.map(ForkJoinTask::join)
+				.collect(Collectors.toList());
+		List<ShardUnit> units = preparedClasses.stream()
+				.flatMap(preparedClass -> ShardUnit.of(preparedClass, shard.getUnit()))
+				.collect(Collectors.toList());
+		Map<Class<?>, List<Method>> assignedMethods = new HashMap<>();
+		for (ShardUnit unit : shard.select(units, ShardUnit::getName, ShardUnit::getWeight)) {
+			assignedMethods.computeIfAbsent(unit.pojoClass, k -> new ArrayList<>()).addAll(unit.testMethods);
+		}
+		return preparedClasses.stream()
+				.<Supplier<PesterSuiteResult>>map(preparedClass -> {
+					List<Method> testMethods = assignedMethods.get(preparedClass.pojoClass);
+					if (testMethods == null) {
+						return () -> PesterSuiteResult.otherShard(preparedClass.pojoClass);
+					} else {
+						// Keep the tests in their usual order
+						List<Method> orderedMethods = TEST_METHODS.stream()
+								.filter(testMethods::contains)
+								.collect(Collectors.toList());
+						return () -> verify(preparedClass, resultCache, orderedMethods);
+					}
+				})
+				.collect(Collectors.toList());
+	}
+
+	private PreparedClass prepare(Class<?> pojoClass) {
+		try {
+			return new PreparedClass(pojoClass, new TestPlan(definitionFactory.apply(pojoClass)), null);
+		} catch (VirtualMachineError error) {
+			throw error;
+		} catch (Throwable cause) {
+			return new PreparedClass(pojoClass, null, cause);
+		}
+	}
+
+	private PesterSuiteResult verify(PreparedClass preparedClass, Optional<PesterResultCache> resultCache,
+			List<Method> testMethods) {
+		Class<?> pojoClass = preparedClass.pojoClass;
+		if (preparedClass.failure != null) {
+			resultCache.ifPresent(cache -> cache.forget(pojoClass, TEST_METHODS));
+			return PesterSuiteResult.definitionFailed(pojoClass, preparedClass.failure);
+		}
+		TestPlan testPlan = preparedClass.testPlan;
+
+		if (!resultCache.isPresent()) {
+			return verify(pojoClass, testPlan, testMethods);
+		}
+		PesterResultCache cache = resultCache.get();
+		Optional<String> fingerprint = PesterResultCache.fingerprint(testPlan.getPojoDefinition());
+		Optional<Integer> cachedCasesCount = fingerprint.flatMap(f -> cache.findPass(pojoClass, testMethods, f));
+		if (cachedCasesCount.isPresent()) {
+			return PesterSuiteResult.cached(pojoClass, cachedCasesCount.get());
+		}
+		// Store each test method apart, so each shard stores its part of a pass
+		int casesCount = 0;
+		List<Throwable> failures = new ArrayList<>();
+		for (Method testMethod : testMethods) {
+			List<Method> singleMethod = Collections.singletonList(testMethod);
+			PesterSuiteResult result = verify(pojoClass, testPlan, singleMethod);
+			if (result.isSuccessful() && fingerprint.isPresent()) {
+				cache.storePass(pojoClass, testMethod, fingerprint.get(), result.getCasesCount());
+			} else {
+				cache.forget(pojoClass, singleMethod);
+			}
+			casesCount += result.getCasesCount();
+			failures.addAll(result.getFailures());
+		}
+		return PesterSuiteResult.verified(pojoClass, casesCount, failures);
+	}
+
+	private PesterSuiteResult verify(Class<?> pojoClass, TestPlan testPlan, List<Method> testMethods) {
+
+		PesterTest<?> test = createTest(testPlan.getPojoDefinition());
+		int casesCount = 0;
+		List<Throwable> failures = new ArrayList<>();
+		for (Method testMethod : testMethods) {
+			List<Arguments> testCases;
+			PesterEvent generationEvent = PesterEvents.startCasesGeneration(pojoClass, testMethod.getName());
+			try {
+				testCases = testPlan.getTestCases(testMethod.getAnnotation(DefinitionSource.class).value());
+				generationEvent.withCount(testCases.size());
+			} catch (VirtualMachineError error) {
+				throw error;
+			} catch (Throwable cause) {
+				failures.add(cause);
+				continue;
+			} finally {
+				generationEvent.commit();
+			}
+			PesterMetrics.current().countCases(testMethod.getName(), testCases.size());
+			for (int i = 0; i < testCases.size(); i++) {
+				Object[] arguments = testCases.get(i).get();
+				if (MissingMembersSkipper.findMissingMember(arguments).isPresent()) {
+					continue;
+				}
+				PesterEvent checkEvent = PesterEvents.startCheck(pojoClass, testMethod, arguments);
+				RandomGeneratorFactory.startScope(pojoClass.getName() + "/" + testMethod.getName() + "/#" + (i + 1));
+				try {
+					ReflectionSupport.invokeMethod(testMethod, test, arguments);
+					casesCount++;
+					checkEvent.withOutcome(PesterEvent.PASSED);
+				} catch (TestAbortedException cause) {
+					// Skipped, like the cases of missing members
+					checkEvent.withOutcome(PesterEvent.ABORTED);
+				} catch (VirtualMachineError error) {
+					throw error;
+				} catch (Throwable cause) {
+					casesCount++;
+					checkEvent.withOutcome(PesterEvent.FAILED);
+					failures.add(DefinitionSourcerExtension.sourceFailure(testMethod, () -> arguments, cause));
+				} finally {
+					RandomGeneratorFactory.endScope();
+					checkEvent.commit();
+				}
+			}
+		}
+		return PesterSuiteResult.verified(pojoClass, casesCount, failures);
+	}
+
+	private static <P> PesterTest<P> createTest(PojoDefinition<P> pojoDefinition) {
+		return () -> pojoDefinition;
+	}
+
+	private static class PreparedClass {
+		private final Class<?> pojoClass;
+		private final TestPlan testPlan;
+		private final Throwable failure;
+
+		PreparedClass(Class<?> pojoClass, TestPlan testPlan, Throwable failure) {
+			this.pojoClass = pojoClass;
+			this.testPlan = testPlan;
+			this.failure = failure;
+		}
+	}
+
+	/**
+	 * A {@link ShardUnit} is a part of the verification of a POJO class assigned
+	 * to a single {@link PesterShard}. A class which definition fails is a single
+	 * unit, so a single shard reports its failure.
+	 */
+	private static class ShardUnit {
+		private final Class<?> pojoClass;
+		private final String name;
+		private final List<Method> testMethods;
+		private final long weight;
+
+		ShardUnit(Class<?> pojoClass, String name, List<Method> testMethods, long weight) {
+			this.pojoClass = pojoClass;
+			this.name = name;
+			this.testMethods = testMethods;
+			this.weight = weight;
+		}
+
+		static Stream<ShardUnit> of(PreparedClass preparedClass, PesterShard.Unit unit) {
+			Class<?> pojoClass = preparedClass.pojoClass;
+			if (preparedClass.failure != null) {
+				return Stream.of(new ShardUnit(pojoClass, pojoClass.getName(), Collections.emptyList(), 1));
+			}
+			PojoDefinition<?> pojoDefinition = preparedClass.testPlan.getPojoDefinition();
+			ToLongFunction<Method> estimateCases = testMethod -> TestCasesGenerator.estimateTestCases(pojoDefinition,
+					testMethod.getAnnotation(DefinitionSource.class).value());
+			if (unit == PesterShard.Unit.CLASS) {
+				return Stream.of(new ShardUnit(pojoClass, pojoClass.getName(), TEST_METHODS,
+						TEST_METHODS.stream().mapToLong(estimateCases).sum()));
+			} else {
+				return TEST_METHODS.stream().map(testMethod -> new ShardUnit(pojoClass,
+						pojoClass.getName() + "#" + testMethod.getName(), Collections.singletonList(testMethod),
+						estimateCases.applyAsLong(testMethod)));
+			}
+		}
+
+		String getName() {
+			return name;
+		}
+
+		long getWeight() {
+			return weight;
+		}
+	}
+}
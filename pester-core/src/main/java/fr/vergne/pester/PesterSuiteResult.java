@@ -0,0 +1,102 @@
+package fr.vergne.pester;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.opentest4j.MultipleFailuresError;
+
+/**
+ * A {@link PesterSuiteResult} tells how a POJO class of a {@link PesterSuite}
+ * has been verified. Either its definition could not be obtained, or its test
+ * cases have been run and their failures are reported. With a result cache,
+ * a class which did not change since its last pass is not verified again, and
+ * its result is cached. In a {@link PesterShard}, a class assigned to another
+ * shard is not verified at all.
+ */
+public class PesterSuiteResult {
+
+	private final Class<?> pojoClass;
+	private final Optional<Throwable> definitionFailure;
+	private final int casesCount;
+	private final List<Throwable> failures;
+	private final boolean isCached;
+	private final boolean isOtherShard;
+
+	private PesterSuiteResult(Class<?> pojoClass, Optional<Throwable> definitionFailure, int casesCount,
+			List<Throwable> failures, boolean isCached, boolean isOtherShard) {
+		this.pojoClass = pojoClass;
+		this.definitionFailure = definitionFailure;
+		this.casesCount = casesCount;
+		this.failures = Collections.unmodifiableList(failures);
+		this.isCached = isCached;
+		this.isOtherShard = isOtherShard;
+	}
+
+	static PesterSuiteResult definitionFailed(Class<?> pojoClass, Throwable cause) {
+		return new PesterSuiteResult(pojoClass, Optional.of(cause), 0, Collections.singletonList(cause), false, false);
+	}
+
+	static PesterSuiteResult verified(Class<?> pojoClass, int casesCount, List<Throwable> failures) {
+		return new PesterSuiteResult(pojoClass, Optional.empty(), casesCount, failures, false, false);
+	}
+
+	static PesterSuiteResult cached(Class<?> pojoClass, int casesCount) {
+		return new PesterSuiteResult(pojoClass, Optional.empty(), casesCount, Collections.emptyList(), true, false);
+	}
+
+	static PesterSuiteResult otherShard(Class<?> pojoClass) {
+		return new PesterSuiteResult(pojoClass, Optional.empty(), 0, Collections.emptyList(), false, true);
+	}
+
+	public Class<?> getPojoClass() {
+		return pojoClass;
+	}
+
+	public Optional<Throwable> getDefinitionFailure() {
+		return definitionFailure;
+	}
+
+	public int getCasesCount() {
+		return casesCount;
+	}
+
+	public List<Throwable> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * @return <code>true</code> if this result comes from a previous pass, without
+	 *         running its cases again
+	 */
+	public boolean isCached() {
+		return isCached;
+	}
+
+	/**
+	 * @return <code>true</code> if this class is verified by another
+	 *         {@link PesterShard}, without running any case here
+	 */
+	public boolean isOtherShard() {
+		return isOtherShard;
+	}
+
+	public boolean isSuccessful() {
+		return failures.isEmpty();
+	}
+
+	/**
+	 * @throws MultipleFailuresError if some failures occurred
+	 */
+	public void assertSuccessful() {
+		if (!isSuccessful()) {
+			throw new MultipleFailuresError(pojoClass.getName() + " has failures", failures);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return pojoClass.getName() + ": " + (isSuccessful() ? "OK" : failures.size() + " failures") + " over "
+				+ casesCount + " cases" + (isCached ? " (cached)" : "") + (isOtherShard ? " (other shard)" : "");
+	}
+}
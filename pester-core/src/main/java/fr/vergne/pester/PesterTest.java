@@ -18,6 +18,7 @@ import fr.vergne.pester.junit.annotation.DefinitionSource;
 import fr.vergne.pester.junit.annotation.DisableParameterizedTestsWithNoCase;
 import fr.vergne.pester.junit.annotation.TestTarget;
 import fr.vergne.pester.junit.extension.DefinitionSourcerExtension;
+import fr.vergne.pester.junit.extension.MissingMembersSkipper;
 import fr.vergne.pester.junit.extension.TestSpecificity;
 import fr.vergne.pester.model.Constructor;
 import fr.vergne.pester.model.Field;
@@ -33,6 +34,7 @@ import fr.vergne.pester.value.Modifier;
 @DisableParameterizedTestsWithNoCase
 @TestMethodOrder(TestSpecificity.class)
 @ExtendWith(DefinitionSourcerExtension.class)
+@ExtendWith(MissingMembersSkipper.class)
 public interface PesterTest<P> {
 
 	public PojoDefinition<P> createPojoDefinition();
@@ -115,7 +117,7 @@ public interface PesterTest<P> {
 		P pojo = pojoGenerator.create();
 
 		// WHEN
-		Executable call = () -> getter.getFrom(pojo);
+		Executable call = prepareRead(getter, pojo);
 
 		// THEN
 		assertDoesNotThrow(call);
@@ -162,10 +164,9 @@ public interface PesterTest<P> {
 	default void testSetterDoesNotThrow(Setter<P> setter, Generator<P> pojoGenerator, Generator<?> valueGenerator) {
 		// GIVEN
 		P pojo = pojoGenerator.create();
-		Object value = valueGenerator.create();
 
 		// WHEN
-		Executable call = () -> setter.setTo(pojo, value);
+		Executable call = prepareWrite(setter, pojo, valueGenerator);
 
 		// THEN
 		assertDoesNotThrow(call);
@@ -178,27 +179,9 @@ public interface PesterTest<P> {
 			Generator<T> valueGenerator, Modifier<T> valueModifier) {
 		// GIVEN
 		P pojo = pojoGenerator.create();
-		T expectedValue = valueGenerator.create();
 
-		// WHEN
-		field.setTo(pojo, expectedValue);
-		Object actualValue = getter.getFrom(pojo);
-
-		// THEN
-		assertEquals(expectedValue, actualValue);
-
-		// try again, just in case the initial value was already there
-
-		// GIVEN
-		T expectedValue2 = valueModifier.modify(expectedValue);
-		assertNotEquals(expectedValue, expectedValue2);
-
-		// WHEN
-		field.setTo(pojo, expectedValue2);
-		Object actualValue2 = getter.getFrom(pojo);
-
-		// THEN
-		assertEquals(expectedValue2, actualValue2);
+		// WHEN/THEN
+		assertReadsWrittenValues(field, getter, pojo, valueGenerator, valueModifier);
 	}
 
 	@ParameterizedTest(name = "{0} stores in {1}")
@@ -208,27 +191,9 @@ public interface PesterTest<P> {
 			Generator<T> valueGenerator, Modifier<T> valueModifier) {
 		// GIVEN
 		P pojo = pojoGenerator.create();
-		T expectedValue = valueGenerator.create();
-
-		// WHEN
-		setter.setTo(pojo, expectedValue);
-		Object actualValue = field.getFrom(pojo);
-
-		// THEN
-		assertEquals(expectedValue, actualValue);
-
-		// try again, just in case the initial value was already there
 
-		// GIVEN
-		T expectedValue2 = valueModifier.modify(expectedValue);
-		assertNotEquals(expectedValue, expectedValue2);
-
-		// WHEN
-		setter.setTo(pojo, expectedValue2);
-		Object actualValue2 = field.getFrom(pojo);
-
-		// THEN
-		assertEquals(expectedValue2, actualValue2);
+		// WHEN/THEN
+		assertReadsWrittenValues(setter, field, pojo, valueGenerator, valueModifier);
 	}
 
 	@ParameterizedTest(name = "{0} returns value given to {1}")
@@ -238,27 +203,9 @@ public interface PesterTest<P> {
 			Generator<T> valueGenerator, Modifier<T> valueModifier) {
 		// GIVEN
 		P pojo = pojoGenerator.create();
-		T expectedValue = valueGenerator.create();
-
-		// WHEN
-		setter.setTo(pojo, expectedValue);
-		Object actualValue = getter.getFrom(pojo);
-
-		// THEN
-		assertEquals(expectedValue, actualValue);
-
-		// try again, just in case the initial value was already there
 
-		// GIVEN
-		T expectedValue2 = valueModifier.modify(expectedValue);
-		assertNotEquals(expectedValue, expectedValue2);
-
-		// WHEN
-		setter.setTo(pojo, expectedValue2);
-		Object actualValue2 = getter.getFrom(pojo);
-
-		// THEN
-		assertEquals(expectedValue2, actualValue2);
+		// WHEN/THEN
+		assertReadsWrittenValues(setter, getter, pojo, valueGenerator, valueModifier);
 	}
 
 	@ParameterizedTest(name = "{0} is present")
@@ -1,11 +1,182 @@
 package fr.vergne.pester;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 import java.util.Collections;
 import java.util.List;
 
+import org.junit.jupiter.api.function.Executable;
+
+import fr.vergne.pester.model.PropertyReader;
+import fr.vergne.pester.model.PropertyWriter;
+import fr.vergne.pester.value.DoubleGenerator;
+import fr.vergne.pester.value.DoubleModifier;
+import fr.vergne.pester.value.Generator;
+import fr.vergne.pester.value.IntGenerator;
+import fr.vergne.pester.value.IntModifier;
+import fr.vergne.pester.value.LongGenerator;
+import fr.vergne.pester.value.LongModifier;
+import fr.vergne.pester.value.Modifier;
+
 public class PesterTestUtil<P> {
 
 	static List<Object> noParameter() {
 		return Collections.emptyList();
 	}
+
+	/**
+	 * Prepare a call reading a value. The primitive properties are read without
+	 * boxing their value, the other primitive types widening to
+	 * <code>int</code>, <code>long</code> and <code>double</code>.
+	 */
+	static <P> Executable prepareRead(PropertyReader<P> reader, P pojo) {
+		return () -> {
+			Class<?> valueClass = reader.isPresent() ? reader.getValueClass() : Object.class;
+			if (valueClass == int.class || valueClass == short.class || valueClass == char.class
+					|| valueClass == byte.class) {
+				reader.getIntFrom(pojo);
+			} else if (valueClass == long.class) {
+				reader.getLongFrom(pojo);
+			} else if (valueClass == double.class || valueClass == float.class) {
+				reader.getDoubleFrom(pojo);
+			} else {
+				reader.getFrom(pojo);
+			}
+		};
+	}
+
+	/**
+	 * Prepare a call writing a generated value. The <code>int</code>,
+	 * <code>long</code> and <code>double</code> properties are written without
+	 * boxing their value, if their generator provides it. The writer is only
+	 * searched upon call, so its failures are part of the call.
+	 */
+	static <P> Executable prepareWrite(PropertyWriter<P> writer, P pojo, Generator<?> valueGenerator) {
+		if (valueGenerator instanceof IntGenerator) {
+			int value = ((IntGenerator) valueGenerator).createInt();
+			return () -> {
+				if (hasValueClass(writer, int.class)) {
+					writer.setIntTo(pojo, value);
+				} else {
+					writer.setTo(pojo, value);
+				}
+			};
+		} else if (valueGenerator instanceof LongGenerator) {
+			long value = ((LongGenerator) valueGenerator).createLong();
+			return () -> {
+				if (hasValueClass(writer, long.class)) {
+					writer.setLongTo(pojo, value);
+				} else {
+					writer.setTo(pojo, value);
+				}
+			};
+		} else if (valueGenerator instanceof DoubleGenerator) {
+			double value = ((DoubleGenerator) valueGenerator).createDouble();
+			return () -> {
+				if (hasValueClass(writer, double.class)) {
+					writer.setDoubleTo(pojo, value);
+				} else {
+					writer.setTo(pojo, value);
+				}
+			};
+		} else {
+			Object value = valueGenerator.create();
+			return () -> writer.setTo(pojo, value);
+		}
+	}
+
+	/**
+	 * Check that the values written are the values read, trying twice in case
+	 * the initial value was already there. Like {@link #prepareWrite(PropertyWriter, Object, Generator)},
+	 * the <code>int</code>, <code>long</code> and <code>double</code> values are
+	 * not boxed if both sides have the same primitive class.
+	 */
+	static <P, T> void assertReadsWrittenValues(PropertyWriter<P> writer, PropertyReader<P> reader, P pojo,
+			Generator<T> valueGenerator, Modifier<T> valueModifier) {
+		if (valueGenerator instanceof IntGenerator && valueModifier instanceof IntModifier
+				&& hasValueClass(writer, reader, int.class)) {
+			assertReadsWrittenInts(writer, reader, pojo, (IntGenerator) valueGenerator, (IntModifier) valueModifier);
+		} else if (valueGenerator instanceof LongGenerator && valueModifier instanceof LongModifier
+				&& hasValueClass(writer, reader, long.class)) {
+			assertReadsWrittenLongs(writer, reader, pojo, (LongGenerator) valueGenerator,
+					(LongModifier) valueModifier);
+		} else if (valueGenerator instanceof DoubleGenerator && valueModifier instanceof DoubleModifier
+				&& hasValueClass(writer, reader, double.class)) {
+			assertReadsWrittenDoubles(writer, reader, pojo, (DoubleGenerator) valueGenerator,
+					(DoubleModifier) valueModifier);
+		} else {
+			assertReadsWrittenObjects(writer, reader, pojo, valueGenerator, valueModifier);
+		}
+	}
+
+	private static <P, T> void assertReadsWrittenObjects(PropertyWriter<P> writer, PropertyReader<P> reader, P pojo,
+			Generator<T> valueGenerator, Modifier<T> valueModifier) {
+		// GIVEN
+		T expectedValue = valueGenerator.create();
+
+		// WHEN
+		writer.setTo(pojo, expectedValue);
+		Object actualValue = reader.getFrom(pojo);
+
+		// THEN
+		assertEquals(expectedValue, actualValue);
+
+		// try again, just in case the initial value was already there
+
+		// GIVEN
+		T expectedValue2 = valueModifier.modify(expectedValue);
+		assertNotEquals(expectedValue, expectedValue2);
+
+		// WHEN
+		writer.setTo(pojo, expectedValue2);
+		Object actualValue2 = reader.getFrom(pojo);
+
+		// THEN
+		assertEquals(expectedValue2, actualValue2);
+	}
+
+	private static <P> void assertReadsWrittenInts(PropertyWriter<P> writer, PropertyReader<P> reader, P pojo,
+			IntGenerator valueGenerator, IntModifier valueModifier) {
+		int expectedValue = valueGenerator.createInt();
+		writer.setIntTo(pojo, expectedValue);
+		assertEquals(expectedValue, reader.getIntFrom(pojo));
+
+		int expectedValue2 = valueModifier.modifyInt(expectedValue);
+		assertNotEquals(expectedValue, expectedValue2);
+		writer.setIntTo(pojo, expectedValue2);
+		assertEquals(expectedValue2, reader.getIntFrom(pojo));
+	}
+
+	private static <P> void assertReadsWrittenLongs(PropertyWriter<P> writer, PropertyReader<P> reader, P pojo,
+			LongGenerator valueGenerator, LongModifier valueModifier) {
+		long expectedValue = valueGenerator.createLong();
+		writer.setLongTo(pojo, expectedValue);
+		assertEquals(expectedValue, reader.getLongFrom(pojo));
+
+		long expectedValue2 = valueModifier.modifyLong(expectedValue);
+		assertNotEquals(expectedValue, expectedValue2);
+		writer.setLongTo(pojo, expectedValue2);
+		assertEquals(expectedValue2, reader.getLongFrom(pojo));
+	}
+
+	private static <P> void assertReadsWrittenDoubles(PropertyWriter<P> writer, PropertyReader<P> reader, P pojo,
+			DoubleGenerator valueGenerator, DoubleModifier valueModifier) {
+		double expectedValue = valueGenerator.createDouble();
+		writer.setDoubleTo(pojo, expectedValue);
+		assertEquals(expectedValue, reader.getDoubleFrom(pojo));
+
+		double expectedValue2 = valueModifier.modifyDouble(expectedValue);
+		assertNotEquals(expectedValue, expectedValue2);
+		writer.setDoubleTo(pojo, expectedValue2);
+		assertEquals(expectedValue2, reader.getDoubleFrom(pojo));
+	}
+
+	private static boolean hasValueClass(PropertyWriter<?> writer, PropertyReader<?> reader, Class<?> valueClass) {
+		return hasValueClass(writer, valueClass) && reader.isPresent() && reader.getValueClass() == valueClass;
+	}
+
+	private static boolean hasValueClass(PropertyWriter<?> writer, Class<?> valueClass) {
+		// Missing members are left to the generic calls, which report them
+		return writer.isPresent() && writer.getValueClass() == valueClass;
+	}
 }
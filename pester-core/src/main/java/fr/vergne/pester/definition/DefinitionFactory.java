@@ -10,8 +10,14 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
@@ -20,8 +26,14 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
 
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Counter;
+import fr.vergne.pester.PesterMetrics.Timer;
 import fr.vergne.pester.factory.Factory;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
 import fr.vergne.pester.junit.annotation.ConstructorPropertiesHelper;
 import fr.vergne.pester.options.Mutability;
 import fr.vergne.pester.options.Option;
@@ -35,8 +47,59 @@ public class DefinitionFactory {
 	
 	private static final Logger LOGGER = Logger.getLogger(DefinitionFactory.class.getName());
 	
+	private static final ClassValue<Optional<GeneratedDefinition<?>>> GENERATED_DEFINITIONS = new ClassValue<Optional<GeneratedDefinition<?>>>() {
+		@Override
+		protected Optional<GeneratedDefinition<?>> computeValue(Class<?> pojoClass) {
+			String className = GeneratedDefinition.classNameOf(pojoClass.getName());
+			Class<?> definitionClass;
+			try {
+				definitionClass = Class.forName(className, true, pojoClass.getClassLoader());
+			} catch (ClassNotFoundException cause) {
+				return Optional.empty();
+			}
+			if (!GeneratedDefinition.class.isAssignableFrom(definitionClass)) {
+				return Optional.empty();
+			}
+			GeneratedDefinition<?> definition = (GeneratedDefinition<?>) ReflectionSupport.newInstance(definitionClass);
+			return definition.getPojoClass().equals(pojoClass) ? Optional.of(definition) : Optional.empty();
+		}
+	};
+	
 	private final Factory factory = new Factory();
 
+	/**
+	 * Create the {@link PojoDefinition} generated at compile time for a
+	 * {@link PesterCheck} class. It describes the class like
+	 * {@link #guessFromClass(Class)}, but without inspecting it at runtime.
+	 * 
+	 * @param pojoClass the {@link PesterCheck} {@link Class}
+	 * @return the generated {@link PojoDefinition}, or nothing if it has not been
+	 *         generated
+	 */
+	@SuppressWarnings("unchecked")
+	public <P> Optional<PojoDefinition<P>> findGeneratedDefinition(Class<P> pojoClass) {
+		return GENERATED_DEFINITIONS.get(pojoClass)
+				.map(definition -> measure(pojoClass,
+						() -> ((GeneratedDefinition<P>) definition).createPojoDefinition(factory)));
+	}
+
+	private static <P> PojoDefinition<P> measure(Class<P> pojoClass, Supplier<PojoDefinition<P>> definitionBuilder) {
+		PesterMetrics metrics = PesterMetrics.current();
+		PesterEvent event = PesterEvents.startDefinitionBuild(pojoClass);
+		long start = metrics.startTimer();
+		PojoDefinition<P> definition;
+		try {
+			definition = definitionBuilder.get();
+		} catch (RuntimeException cause) {
+			event.withOutcome("failed").commit();
+			throw cause;
+		}
+		metrics.stopTimer(Timer.DEFINITION_BUILD, start);
+		event.withOutcome("built").commit();
+		metrics.count(Counter.DEFINITIONS);
+		return definition;
+	}
+
 	/**
 	 * Create a {@link PojoDefinition} based on what can be retrieved from the given
 	 * {@link Class}, aiming for activating as much tests as possible. It is a
@@ -49,6 +112,10 @@ public class DefinitionFactory {
 	 * @return the {@link PojoDefinition} of this {@link Class}
 	 */
 	public <P> PojoDefinition<P> guessFromClass(Class<P> pojoClass) {
+		return measure(pojoClass, () -> createGuessedDefinition(pojoClass));
+	}
+
+	private <P> PojoDefinition<P> createGuessedDefinition(Class<P> pojoClass) {
 		PojoDefinition<P> def = new PojoDefinition<>(pojoClass, factory);
 		Ext<P> ext = new Ext<>(def);
 		
@@ -69,6 +136,37 @@ public class DefinitionFactory {
 		return def;
 	}
 	
+	/**
+	 * Call {@link #guessFromClass(Class)} on each of the given {@link Class}es,
+	 * in parallel on the {@link ForkJoinPool#commonPool()}.
+	 * 
+	 * @param pojoClasses the {@link Class}es to investigate
+	 * @return the {@link PojoDefinition} of each {@link Class}, in the same order
+	 */
+	public Map<Class<?>, PojoDefinition<?>> guessFromClasses(Collection<Class<?>> pojoClasses) {
+		return guessFromClasses(pojoClasses, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Call {@link #guessFromClass(Class)} on each of the given {@link Class}es,
+	 * in parallel on the given {@link ForkJoinPool}. The {@link Type}s of their
+	 * properties are shared, since they are all created from the same
+	 * {@link Factory}.
+	 * 
+	 * @param pojoClasses the {@link Class}es to investigate
+	 * @param pool        the {@link ForkJoinPool} to run the inferences on
+	 * @return the {@link PojoDefinition} of each {@link Class}, in the same order
+	 */
+	public Map<Class<?>, PojoDefinition<?>> guessFromClasses(Collection<Class<?>> pojoClasses, ForkJoinPool pool) {
+		Map<Class<?>, ForkJoinTask<PojoDefinition<?>>> tasks = new LinkedHashMap<>();
+		for (Class<?> pojoClass : pojoClasses) {
+			tasks.computeIfAbsent(pojoClass, c -> pool.submit(() -> guessFromClass(c)));
+		}
+		Map<Class<?>, PojoDefinition<?>> definitions = new LinkedHashMap<>();
+		tasks.forEach((pojoClass, task) -> definitions.put(pojoClass, task.join()));
+		return Collections.unmodifiableMap(definitions);
+	}
+	
 	/**
 	 * Create a {@link PojoDefinition} assuming the given {@link Class} must follow
 	 * the JavaBean specification:
@@ -82,6 +180,10 @@ public class DefinitionFactory {
 	 * @return the {@link PojoDefinition} of this JavaBean {@link Class}
 	 */
 	public <P> PojoDefinition<P> fromBeanClass(Class<P> pojoClass) {
+		return measure(pojoClass, () -> createBeanDefinition(pojoClass));
+	}
+
+	private <P> PojoDefinition<P> createBeanDefinition(Class<P> pojoClass) {
 		PojoDefinition<P> def = new PojoDefinition<>(pojoClass, factory);
 		Ext<P> ext = new Ext<>(def);
 		
@@ -181,13 +283,13 @@ public class DefinitionFactory {
 		private final Type<?> type;
 		private final Option[] options;
 		
-		public PropertyData(Optional<String> rawName, Class<?> typeClass, Option... options) {
-			this(rawName, UnaryOperator.identity(), typeClass, options);
+		public PropertyData(Optional<String> rawName, java.lang.reflect.Type typeDefinition, Option... options) {
+			this(rawName, UnaryOperator.identity(), typeDefinition, options);
 		}
 		
-		public PropertyData(Optional<String> rawName, UnaryOperator<String> propertyNamer, Class<?> typeClass, Option... options) {
+		public PropertyData(Optional<String> rawName, UnaryOperator<String> propertyNamer, java.lang.reflect.Type typeDefinition, Option... options) {
 			this.propertyName = rawName.map(propertyNamer);
-			this.type = factory.type().from(typeClass);
+			this.type = factory.type().from(typeDefinition);
 			this.options = options;
 		}
 	}
@@ -206,7 +308,7 @@ public class DefinitionFactory {
 	private PropertyData extractFieldData(Field field) {
 		return new PropertyData(
 				Optional.of(field.getName()),
-				field.getType(),
+				field.getGenericType(),
 				extractOptions(field::getModifiers));
 	}
 
@@ -230,7 +332,7 @@ public class DefinitionFactory {
 		return new PropertyData(
 				Optional.of(method.getName()),
 				t -> uncapitalize(method.getName().substring("get".length())),
-				method.getReturnType(),
+				method.getGenericReturnType(),
 				extractOptions(method::getModifiers));
 	}
 	
@@ -238,7 +340,7 @@ public class DefinitionFactory {
 		return new PropertyData(
 				Optional.of(method.getName()),
 				t -> uncapitalize(method.getName().substring("set".length())),
-				method.getParameterTypes()[0],
+				method.getGenericParameterTypes()[0],
 				extractOptions(method::getModifiers));
 	}
 	
@@ -251,7 +353,7 @@ public class DefinitionFactory {
 					Parameter parameter = indexedParameter.getValue();
 					return new PropertyData(
 							retrieveParameterProperty(constructor, parameter, index),
-							parameter.getType());
+							parameter.getParameterizedType());
 				})
 				.collect(Collectors.toList());
 		
@@ -304,25 +406,28 @@ public class DefinitionFactory {
 			return name.isPresent() ? addOrGetProperty(type, name.get()) : def.addProperty(type);
 		}
 
+		/**
+		 * The field, getter, setter and constructors of a property may declare
+		 * different generic types of the same class, like a
+		 * <code>List&lt;String&gt;</code> field with a raw <code>List</code>
+		 * getter. They are the same property, which keeps the {@link Type} first
+		 * defined, starting with the one of the field.
+		 */
 		@SuppressWarnings("unchecked")
 		public <T> PropertyDefinition<P, T> addOrGetProperty(Type<T> type, String name) {
 			if (name.equals(ConstructorPropertiesHelper.NON_PROPERTY)) {
 				return def.addProperty(type);
 			} else {
-				Optional<PropertyDefinition<P,?>> property = def.getProperties().stream()
-						.filter(p -> p.getName().equals(name))
-						.findAny();
-				if (property.isPresent()) {
-					PropertyDefinition<P, ?> propDef = property.get();
-					if (propDef.getType().equals(type)) {
-						return (PropertyDefinition<P, T>) propDef;
-					} else {
-						throw new IllegalArgumentException("Property " + name + " already defined as " + propDef.getType());
-					}
-				} else {
-					return def.addProperty(type, name);
-				}
+				return def.findProperty(name)
+						.filter(property -> hasSameClass(property.getType(), type))
+						.map(property -> (PropertyDefinition<P, T>) property)
+						.orElseGet(() -> def.computePropertyIfAbsent(type, name));
 			}
 		}
+
+		private static boolean hasSameClass(Type<?> type1, Type<?> type2) {
+			return type1.equals(type2)
+					|| type1.getTypeClass().isPresent() && type1.getTypeClass().equals(type2.getTypeClass());
+		}
 	}
 }
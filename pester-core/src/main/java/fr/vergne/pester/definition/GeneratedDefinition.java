@@ -0,0 +1,30 @@
+package fr.vergne.pester.definition;
+
+import fr.vergne.pester.factory.Factory;
+
+/**
+ * A {@link GeneratedDefinition} is generated at compile time for a
+ * {@link PesterCheck} class. It is named after the binary name of this class,
+ * with its <code>$</code> replaced by <code>_</code> and
+ * {@link #CLASS_SUFFIX} appended.
+ *
+ * @param <P> the POJO class
+ */
+public interface GeneratedDefinition<P> {
+
+	public static final String CLASS_SUFFIX = "_PesterDefinition";
+
+	/**
+	 * @param pojoBinaryName the binary name of a POJO class, like
+	 *                       <code>com.acme.Outer$Inner</code>
+	 * @return the name of its {@link GeneratedDefinition}, like
+	 *         <code>com.acme.Outer_Inner_PesterDefinition</code>
+	 */
+	public static String classNameOf(String pojoBinaryName) {
+		return pojoBinaryName.replace('$', '_') + CLASS_SUFFIX;
+	}
+
+	Class<P> getPojoClass();
+
+	PojoDefinition<P> createPojoDefinition(Factory factory);
+}
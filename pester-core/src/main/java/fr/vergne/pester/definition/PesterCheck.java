@@ -0,0 +1,21 @@
+package fr.vergne.pester.definition;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark a POJO class to generate its {@link PojoDefinition} at compile time,
+ * with the annotation processor of <code>pester-processor</code>. The
+ * generated {@link GeneratedDefinition} describes the class like
+ * {@link DefinitionFactory#guessFromClass(Class)} does, without inspecting it
+ * at test runtime. It is retrieved with
+ * {@link DefinitionFactory#findGeneratedDefinition(Class)}.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface PesterCheck {
+}
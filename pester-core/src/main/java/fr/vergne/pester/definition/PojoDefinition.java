@@ -1,14 +1,17 @@
 package fr.vergne.pester.definition;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,11 +30,22 @@ public class PojoDefinition<P> {
 	
 	private final Factory factory;
 	private final Class<P> pojoClass;
-	private Optional<Class<?>> parentClass = Optional.empty();
-	private final Collection<Class<?>> interfaces = new LinkedHashSet<>();
+	private volatile Optional<Class<?>> parentClass = Optional.empty();
+	private final Collection<Class<?>> interfaces = new CopyOnWriteArraySet<>();
 	private final Optional<Generator<P>> pojoGenerator;
+	
+	/*
+	 * Definitions are indexed in concurrent maps and listed in plain lists (to
+	 * keep their order). Updates are rare and synchronized to keep both
+	 * consistent. Tests running in parallel read an immutable snapshot of the
+	 * lists, taken at the first read after an update.
+	 */
 	private final Map<String, PropertyDefinition<P, ?>> properties;
+	private final List<PropertyDefinition<P, ?>> propertiesList;
+	private volatile List<PropertyDefinition<P, ?>> propertiesSnapshot = null;
 	private final Map<List<Type<?>>, ConstructorDefinition<P>> constructors;
+	private final List<ConstructorDefinition<P>> constructorsList;
+	private volatile List<ConstructorDefinition<P>> constructorsSnapshot = null;
 
 	/** Used only if no generator is set and no valid constructor is found */
 	private final NullPointerException nullPojoGeneratorException;
@@ -59,10 +73,16 @@ public class PojoDefinition<P> {
 		this(pojoClass, Optional.of(pojoGenerator), new Factory());
 	}
 
+	public PojoDefinition(Class<P> pojoClass, Generator<P> pojoGenerator, Factory factory) {
+		this(pojoClass, Optional.of(pojoGenerator), factory);
+	}
+
 	private PojoDefinition(Class<P> pojoClass, Optional<Generator<P>> optional, Factory factory) {
 		this.pojoClass = pojoClass;
-		this.properties = new LinkedHashMap<>();
-		this.constructors = new LinkedHashMap<>();
+		this.properties = new ConcurrentHashMap<>();
+		this.propertiesList = new ArrayList<>();
+		this.constructors = new ConcurrentHashMap<>();
+		this.constructorsList = new ArrayList<>();
 		this.pojoGenerator = optional;
 		this.nullPojoGeneratorException = new NullPointerException("No Pojo generator set, set one or add constructors");
 		this.factory = factory;
@@ -168,19 +188,29 @@ public class PojoDefinition<P> {
 		return addConstructor(visibility, params, types);
 	}
 
-	private ConstructorDefinition<P> addConstructor(Optional<Visibility> visibility, List<PropertyDefinition<P, ?>> params,
+	private synchronized ConstructorDefinition<P> addConstructor(Optional<Visibility> visibility, List<PropertyDefinition<P, ?>> params,
 			List<Type<?>> types) {
-		return (ConstructorDefinition<P>) constructors.compute(types, (k, previousDefinition) -> {
+		ConstructorDefinition<P> definition = constructors.compute(types, (k, previousDefinition) -> {
 			if (previousDefinition == null) {
 				return new ConstructorDefinition<>(pojoClass, params, visibility);
 			} else {
 				throw new IllegalArgumentException("Already defined constructor on " + types);
 			}
 		});
+		constructorsList.add(definition);
+		constructorsSnapshot = null;
+		return definition;
 	}
 	
 	public Collection<ConstructorDefinition<P>> getConstructors() {
-		return constructors.values();
+		List<ConstructorDefinition<P>> snapshot = constructorsSnapshot;
+		if (snapshot == null) {
+			synchronized (this) {
+				snapshot = Collections.unmodifiableList(new ArrayList<>(constructorsList));
+				constructorsSnapshot = snapshot;
+			}
+		}
+		return snapshot;
 	}
 
 	// PROPERTIES
@@ -197,8 +227,8 @@ public class PojoDefinition<P> {
 		return addProperty(factory.type().from(typeClass), name);
 	}
 	
-	private long unnamedFieldIndex = 0;
-	private final Supplier<String> autoFieldNamer = () -> "?"+(++unnamedFieldIndex);
+	private final AtomicLong unnamedFieldIndex = new AtomicLong();
+	private final Supplier<String> autoFieldNamer = () -> "?"+unnamedFieldIndex.incrementAndGet();
 	<T> PropertyDefinition<P, T> addProperty(Type<T> type, Optional<String> name) {
 		return addProperty(type, name.orElseGet(autoFieldNamer));
 	}
@@ -208,22 +238,58 @@ public class PojoDefinition<P> {
 	}
 	
 	@SuppressWarnings("unchecked")
-	public <T> PropertyDefinition<P, T> addProperty(Type<T> type, String name) {
+	public synchronized <T> PropertyDefinition<P, T> addProperty(Type<T> type, String name) {
 		if (name.equals(ConstructorPropertiesHelper.NON_PROPERTY)) {
 			return addProperty(type);
 		} else {
-			return (PropertyDefinition<P, T>) properties.compute(name, (k, previousDefinition) -> {
+			PropertyDefinition<P, ?> definition = properties.compute(name, (k, previousDefinition) -> {
 				if (previousDefinition == null) {
 					return new PropertyDefinition<>(pojoClass, name, type);
 				} else {
 					throw new AlreadyDefinedPropertyException(name);
 				}
 			});
+			propertiesList.add(definition);
+			propertiesSnapshot = null;
+			return (PropertyDefinition<P, T>) definition;
 		}
 	}
 	
+	/**
+	 * Add a property, unless a property with the same name already exists, in
+	 * which case this one is returned.
+	 * 
+	 * @param type the {@link Type} of the property
+	 * @param name the name of the property
+	 * @return the existing or added property
+	 * @throws IllegalArgumentException if the existing property has another
+	 *                                  {@link Type}
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <T> PropertyDefinition<P, T> computePropertyIfAbsent(Type<T> type, String name) {
+		PropertyDefinition<P, ?> definition = properties.get(name);
+		if (definition == null) {
+			return addProperty(type, name);
+		} else if (definition.getType().equals(type)) {
+			return (PropertyDefinition<P, T>) definition;
+		} else {
+			throw new IllegalArgumentException("Property " + name + " already defined as " + definition.getType());
+		}
+	}
+
+	public Optional<PropertyDefinition<P, ?>> findProperty(String name) {
+		return Optional.ofNullable(properties.get(name));
+	}
+
 	public Collection<PropertyDefinition<P, ?>> getProperties() {
-		return properties.values();
+		List<PropertyDefinition<P, ?>> snapshot = propertiesSnapshot;
+		if (snapshot == null) {
+			synchronized (this) {
+				snapshot = Collections.unmodifiableList(new ArrayList<>(propertiesList));
+				propertiesSnapshot = snapshot;
+			}
+		}
+		return snapshot;
 	}
 	
 	@SuppressWarnings("serial")
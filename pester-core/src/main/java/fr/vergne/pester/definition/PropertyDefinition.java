@@ -28,12 +28,12 @@ public class PropertyDefinition<P, T> {
 	private final Class<P> pojoClass;
 	private final String name;
 	private final Type<T> type;
-	private Optional<FieldDefinition<P, T>> fieldDefinition = Optional.empty();
-	private Optional<GetterDefinition<P, T>> getterDefinition = Optional.empty();
-	private Optional<SetterDefinition<P, T>> setterDefinition = Optional.empty();
-	private Optional<Modifier<T>> modifier = Optional.empty();
-	private Optional<Generator<T>> generator = Optional.empty();
-	private Optional<Nullable<T>> defaultValue = Optional.empty();
+	private volatile Optional<FieldDefinition<P, T>> fieldDefinition = Optional.empty();
+	private volatile Optional<GetterDefinition<P, T>> getterDefinition = Optional.empty();
+	private volatile Optional<SetterDefinition<P, T>> setterDefinition = Optional.empty();
+	private volatile Optional<Modifier<T>> modifier = Optional.empty();
+	private volatile Optional<Generator<T>> generator = Optional.empty();
+	private volatile Optional<Nullable<T>> defaultValue = Optional.empty();
 	
 	public PropertyDefinition(Class<P> pojoClass, String name, Type<T> type) {
 		this.pojoClass = pojoClass;
@@ -185,6 +185,6 @@ public class PropertyDefinition<P, T> {
 		return Pattern.compile(
 				names.stream()
 				.map(Pattern::quote)
-				.collect(Collectors.joining("|", "^", "$")));
+				.collect(Collectors.joining("|", "^(?:", ")$")));
 	}
 }
@@ -1,6 +1,16 @@
 package fr.vergne.pester.factory;
 
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
 import fr.vergne.pester.factory.TypeFactory.Extension;
+import fr.vergne.pester.util.cache.Cache;
+import fr.vergne.pester.value.Generator;
+import fr.vergne.pester.value.Modifier;
 import fr.vergne.pester.value.Type;
 
 public class Factory {
@@ -8,14 +18,18 @@ public class Factory {
 	private final TypeFactory typeFactory;
 	private final GeneratorFactory generatorFactory;
 	private final ModifierFactory modifierFactory;
+	private final RandomGeneratorFactory randomFactory;
+	private volatile boolean isRandom = false;
 
 	public Factory() {
 		this.typeFactory = new TypeFactory();
 		this.generatorFactory = new GeneratorFactory(typeFactory);
 		this.modifierFactory = new ModifierFactory(typeFactory, generatorFactory);
+		this.randomFactory = new RandomGeneratorFactory(typeFactory);
 
 		addBasicClasses(typeFactory, generatorFactory, modifierFactory);
 		typeFactory.addExtension(createArraysExtension(generatorFactory, modifierFactory));
+		typeFactory.addExtension(createCollectionsExtension(generatorFactory, randomFactory, modifierFactory));
 	}
 
 	private void addBasicClasses(TypeFactory type, GeneratorFactory g, ModifierFactory m) {
@@ -39,20 +53,114 @@ public class Factory {
 		type.from(Object.class).withGenerator(g.ofObjects()).withModifier(m.ofObjects());
 	}
 
+	/**
+	 * Generate the basic values, like numbers and {@link String}s, and the
+	 * {@link List}s, {@link Set}s and {@link Map}s randomly with
+	 * {@link #random()}. Their modifiers remain the same. The tests generate their
+	 * values from this seed and their own identity, so they generate the same
+	 * values at each run.
+	 *
+	 * @param seed the seed of the random values
+	 * @return this {@link Factory}
+	 */
+	public Factory useRandomGenerators(long seed) {
+		randomFactory.reseed(seed);
+		isRandom = true;
+		RandomGeneratorFactory r = randomFactory;
+		TypeFactory type = typeFactory;
+		type.from(byte.class).withGenerator(r.ofBytes());
+		type.from(Byte.class).withGenerator(r.ofBytes());
+		type.from(short.class).withGenerator(r.ofShorts());
+		type.from(Short.class).withGenerator(r.ofShorts());
+		type.from(int.class).withGenerator(r.ofIntegers());
+		type.from(Integer.class).withGenerator(r.ofIntegers());
+		type.from(long.class).withGenerator(r.ofLongs());
+		type.from(Long.class).withGenerator(r.ofLongs());
+		type.from(float.class).withGenerator(r.ofFloats());
+		type.from(Float.class).withGenerator(r.ofFloats());
+		type.from(double.class).withGenerator(r.ofDoubles());
+		type.from(Double.class).withGenerator(r.ofDoubles());
+		type.from(boolean.class).withGenerator(r.ofBooleans());
+		type.from(Boolean.class).withGenerator(r.ofBooleans());
+		type.from(char.class).withGenerator(r.ofCharacters());
+		type.from(Character.class).withGenerator(r.ofCharacters());
+		type.from(String.class).withGenerator(r.ofStrings());
+		type.from(Object.class).withGenerator(r.ofObjects());
+		return this;
+	}
+
+	/**
+	 * Generate the basic values with the constants of {@link #generator()}, which
+	 * is the default.
+	 *
+	 * @return this {@link Factory}
+	 */
+	public Factory useConstantGenerators() {
+		isRandom = false;
+		addBasicClasses(typeFactory, generatorFactory, modifierFactory);
+		return this;
+	}
+
 	private Extension createArraysExtension(GeneratorFactory generator, ModifierFactory modifier) {
 		return new Extension() {
 
 			@Override
 			public <T> void extendType(Class<T> typeClass, Type<T> classType) {
 				if (typeClass.isArray()) {
-					Class<?> itemClass = typeClass.getComponentType();
-					classType.withGenerator(generator.ofArray(typeClass, itemClass));
-					classType.withModifier(modifier.ofArray(typeClass, itemClass));
+					classType.withGenerator(generator.ofArrays(typeClass, GeneratorFactory.DEFAULT_ARRAY_LENGTH));
+					classType.withModifier(modifier.ofArrays(typeClass));
+				}
+			}
+		};
+	}
+
+	private Extension createCollectionsExtension(GeneratorFactory generator, RandomGeneratorFactory random,
+			ModifierFactory modifier) {
+		return new Extension() {
+
+			@Override
+			public <T> void extendType(Class<T> typeClass, Type<T> classType) {
+				// Only parameterized types are supported
+			}
+
+			@SuppressWarnings({ "unchecked", "rawtypes" })
+			@Override
+			public <T> void extendType(ParameterizedType typeDefinition, Type<T> type, List<Type<?>> argumentTypes) {
+				Type rawType = type;
+				Type arg0 = argumentTypes.get(0);
+				Object rawClass = typeDefinition.getRawType();
+				if (rawClass.equals(List.class)) {
+					withLazy(rawType, () -> generator.ofLists(arg0), () -> random.ofLists(arg0),
+							() -> modifier.ofLists(arg0));
+				} else if (rawClass.equals(Set.class)) {
+					withLazy(rawType, () -> generator.ofSets(arg0), () -> random.ofSets(arg0),
+							() -> modifier.ofSets(arg0));
+				} else if (rawClass.equals(Map.class)) {
+					Type arg1 = argumentTypes.get(1);
+					withLazy(rawType, () -> generator.ofMaps(arg0, arg1), () -> random.ofMaps(arg0, arg1),
+							() -> modifier.ofMaps(arg0, arg1));
+				} else if (rawClass.equals(Optional.class)) {
+					withLazy(rawType, () -> generator.ofOptionals(arg0), () -> generator.ofOptionals(arg0),
+							() -> modifier.ofOptionals(arg0));
 				}
 			}
 		};
 	}
 
+	/**
+	 * Create the generators and modifier only when first used, since the types of
+	 * their items may not be completely defined yet. The generator used depends
+	 * on whether random generators are used at the time of the generation.
+	 */
+	private <T> void withLazy(Type<T> type, Supplier<Generator<T>> constantGenerator,
+			Supplier<Generator<T>> randomGenerator, Supplier<Modifier<T>> modifier) {
+		Supplier<Generator<T>> cachedConstantGenerator = Cache.onSupplier(constantGenerator);
+		Supplier<Generator<T>> cachedRandomGenerator = Cache.onSupplier(randomGenerator);
+		Supplier<Modifier<T>> cachedModifier = Cache.onSupplier(modifier);
+		type.withGenerator(() -> (isRandom ? cachedRandomGenerator : cachedConstantGenerator).get().create());
+		type.withModifier(value -> cachedModifier.get().modify(value));
+	}
+
 	public TypeFactory type() {
 		return typeFactory;
 	}
@@ -64,4 +172,8 @@ public class Factory {
 	public ModifierFactory modifier() {
 		return modifierFactory;
 	}
+
+	public RandomGeneratorFactory random() {
+		return randomFactory;
+	}
 }
@@ -4,15 +4,29 @@ import java.lang.reflect.Array;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import fr.vergne.pester.value.BooleanGenerator;
+import fr.vergne.pester.value.ByteGenerator;
+import fr.vergne.pester.value.CharGenerator;
+import fr.vergne.pester.value.DoubleGenerator;
+import fr.vergne.pester.value.FloatGenerator;
 import fr.vergne.pester.value.Generator;
+import fr.vergne.pester.value.IntGenerator;
+import fr.vergne.pester.value.LongGenerator;
+import fr.vergne.pester.value.ShortGenerator;
+import fr.vergne.pester.util.argscheck.ArgsCheck;
+import fr.vergne.pester.util.cache.Cache;
 import fr.vergne.pester.value.Type;
 
 public class GeneratorFactory {
 	
+	static final int DEFAULT_ARRAY_LENGTH = 3;
+
 	private final TypeFactory typeFactory;
 	
 	// Package-scope constructor
@@ -20,35 +34,35 @@ public class GeneratorFactory {
 		this.typeFactory = typeFactory;
 	}
 	
-	public Generator<Byte> ofBytes() {
+	public ByteGenerator ofBytes() {
 		return () -> (byte) 0;
 	}
 
-	public Generator<Short> ofShorts() {
+	public ShortGenerator ofShorts() {
 		return () -> (short) 0;
 	}
 
-	public Generator<Integer> ofIntegers() {
+	public IntGenerator ofIntegers() {
 		return () -> 0;
 	}
 
-	public Generator<Long> ofLongs() {
+	public LongGenerator ofLongs() {
 		return () -> 0L;
 	}
 
-	public Generator<Float> ofFloats() {
+	public FloatGenerator ofFloats() {
 		return () -> 0F;
 	}
 
-	public Generator<Double> ofDoubles() {
+	public DoubleGenerator ofDoubles() {
 		return () -> 0D;
 	}
 
-	public Generator<Boolean> ofBooleans() {
+	public BooleanGenerator ofBooleans() {
 		return () -> false;
 	}
 
-	public Generator<Character> ofCharacters() {
+	public CharGenerator ofCharacters() {
 		return () -> 'a';
 	}
 
@@ -95,6 +109,15 @@ public class GeneratorFactory {
 		return () -> map;
 	}
 
+	public <T> Generator<Optional<T>> ofOptionals(Class<T> valueClass) {
+		return ofOptionals(typeFactory.from(valueClass));
+	}
+
+	public <T> Generator<Optional<T>> ofOptionals(Type<T> valueType) {
+		Optional<T> optional = Optional.of(valueType.getGenerator().create());
+		return () -> optional;
+	}
+
 	public <T> Generator<T> iteratorOf(Type<T> type) {
 		return new Generator<T>() {
 			T value;
@@ -111,15 +134,69 @@ public class GeneratorFactory {
 		};
 	}
 	
-	<T, A> Generator<A> ofArray(Class<A> arrayClass, Class<T> itemClass) {
-		return () -> {
-			int length = 3;
-			Object newArray = Array.newInstance(itemClass, length);
-			Generator<T> itemIterator = iteratorOf(typeFactory.from(itemClass));
-			for (int i = 0; i < length; i++) {
-				Array.set(newArray, i, itemIterator.create());
+	/**
+	 * Generate arrays of a given length, which can be large. Their items are
+	 * generated like with {@link #iteratorOf(Type)}. For primitive arrays, we
+	 * generate the items directly in the array with their primitive generator and
+	 * modifier. When this modifier is one of the {@link ModifierFactory}, which
+	 * only depend on the value they modify, we stop once the items cycle back to
+	 * the first one and fill the rest of the array in bulk by copying this cycle.
+	 * 
+	 * @param arrayClass the class of the arrays to generate
+	 * @param length the length of the arrays to generate
+	 * @return the {@link Generator} of arrays
+	 */
+	public <A> Generator<A> ofArrays(Class<A> arrayClass, int length) {
+		ArgsCheck.requireNonNull(arrayClass, "No array class provided");
+		if (!arrayClass.isArray()) {
+			throw new IllegalArgumentException("Not an array class: " + arrayClass);
+		}
+		if (length < 0) {
+			throw new IllegalArgumentException("Negative length: " + length);
+		}
+		Class<?> itemClass = arrayClass.getComponentType();
+		// Resolve the type of the items only once
+		Supplier<Type<?>> itemType = Cache.onSupplier(() -> typeFactory.from(itemClass));
+		if (itemClass.isPrimitive()) {
+			return () -> {
+				// Only a pure modifier is sure to repeat the same cycle of items
+				boolean isCycleCopied = ModifierFactory.isPure(itemType.get().getModifier());
+				Object array = PrimitiveArrays.generateItems(itemClass, itemType.get(), length, isCycleCopied)
+						.orElseGet(() -> isCycleCopied
+								? createCycledArray(itemClass, itemType.get(), length)
+								: createArray(itemClass, itemType.get(), length));
+				return arrayClass.cast(array);
+			};
+		} else {
+			return () -> arrayClass.cast(createArray(itemClass, itemType.get(), length));
+		}
+	}
+
+	private <T> Object createArray(Class<?> itemClass, Type<T> itemType, int length) {
+		Object newArray = Array.newInstance(itemClass, length);
+		Generator<T> itemIterator = iteratorOf(itemType);
+		for (int i = 0; i < length; i++) {
+			Array.set(newArray, i, itemIterator.create());
+		}
+		return newArray;
+	}
+
+	private <T> Object createCycledArray(Class<?> itemClass, Type<T> itemType, int length) {
+		Object newArray = Array.newInstance(itemClass, length);
+		Generator<T> itemIterator = iteratorOf(itemType);
+		T firstItem = null;
+		int cycleLength = 0;
+		while (cycleLength < length) {
+			T item = itemIterator.create();
+			if (firstItem == null) {
+				firstItem = item;
+			} else if (item.equals(firstItem)) {
+				break;
 			}
-			return arrayClass.cast(newArray);
-		};
+			Array.set(newArray, cycleLength, item);
+			cycleLength++;
+		}
+		PrimitiveArrays.repeatPattern(newArray, cycleLength, length);
+		return newArray;
 	}
 }
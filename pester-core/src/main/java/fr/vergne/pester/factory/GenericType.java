@@ -0,0 +1,62 @@
+package fr.vergne.pester.factory;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.Optional;
+
+import fr.vergne.pester.value.Generator;
+import fr.vergne.pester.value.Modifier;
+import fr.vergne.pester.value.Type;
+
+/**
+ * {@link Type} of a {@link ParameterizedType}. As long as no generator or
+ * modifier is set, it uses the ones of its raw {@link Type}.
+ */
+class GenericType<T> implements Type<T> {
+
+	private final ParameterizedType typeDefinition;
+	private final Type<T> rawType;
+	private volatile Optional<Generator<T>> generator = Optional.empty();
+	private volatile Optional<Modifier<T>> modifier = Optional.empty();
+
+	public GenericType(ParameterizedType typeDefinition, Type<T> rawType) {
+		this.typeDefinition = typeDefinition;
+		this.rawType = rawType;
+	}
+
+	@Override
+	public Optional<Class<?>> getTypeClass() {
+		return rawType.getTypeClass();
+	}
+
+	@Override
+	public String getName() {
+		return typeDefinition.getTypeName();
+	}
+
+	@Override
+	public Generator<T> getGenerator() {
+		return generator.orElseGet(rawType::getGenerator);
+	}
+
+	@Override
+	public Type<T> withGenerator(Generator<T> generator) {
+		this.generator = Optional.of(generator);
+		return this;
+	}
+
+	@Override
+	public Modifier<T> getModifier() {
+		return modifier.orElseGet(rawType::getModifier);
+	}
+
+	@Override
+	public Type<T> withModifier(Modifier<T> modifier) {
+		this.modifier = Optional.of(modifier);
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return typeDefinition.getTypeName();
+	}
+}
@@ -0,0 +1,294 @@
+package fr.vergne.pester.factory;
+
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Counter;
+import fr.vergne.pester.value.BooleanGenerator;
+import fr.vergne.pester.value.BooleanModifier;
+import fr.vergne.pester.value.ByteGenerator;
+import fr.vergne.pester.value.ByteModifier;
+import fr.vergne.pester.value.CharGenerator;
+import fr.vergne.pester.value.CharModifier;
+import fr.vergne.pester.value.DoubleGenerator;
+import fr.vergne.pester.value.DoubleModifier;
+import fr.vergne.pester.value.FloatGenerator;
+import fr.vergne.pester.value.FloatModifier;
+import fr.vergne.pester.value.Generator;
+import fr.vergne.pester.value.IntGenerator;
+import fr.vergne.pester.value.IntModifier;
+import fr.vergne.pester.value.LongGenerator;
+import fr.vergne.pester.value.LongModifier;
+import fr.vergne.pester.value.Modifier;
+import fr.vergne.pester.value.ShortGenerator;
+import fr.vergne.pester.value.ShortModifier;
+
+/**
+ * Count the values generated and modified for {@link PesterMetrics}. The
+ * primitive generators and modifiers remain primitive, so their values are
+ * still provided without boxing them.
+ */
+class MeteredValues {
+
+	@SuppressWarnings("unchecked")
+	static <T> Generator<T> meter(Generator<T> generator, PesterMetrics metrics) {
+		if (!metrics.isEnabled()) {
+			return generator;
+		} else if (generator instanceof ByteGenerator) {
+			ByteGenerator primitive = (ByteGenerator) generator;
+			return (Generator<T>) new ByteGenerator() {
+				@Override
+				public byte createByte() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.createByte();
+				}
+
+				@Override
+				public Byte create() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.create();
+				}
+			};
+		} else if (generator instanceof ShortGenerator) {
+			ShortGenerator primitive = (ShortGenerator) generator;
+			return (Generator<T>) new ShortGenerator() {
+				@Override
+				public short createShort() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.createShort();
+				}
+
+				@Override
+				public Short create() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.create();
+				}
+			};
+		} else if (generator instanceof IntGenerator) {
+			IntGenerator primitive = (IntGenerator) generator;
+			return (Generator<T>) new IntGenerator() {
+				@Override
+				public int createInt() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.createInt();
+				}
+
+				@Override
+				public Integer create() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.create();
+				}
+			};
+		} else if (generator instanceof LongGenerator) {
+			LongGenerator primitive = (LongGenerator) generator;
+			return (Generator<T>) new LongGenerator() {
+				@Override
+				public long createLong() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.createLong();
+				}
+
+				@Override
+				public Long create() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.create();
+				}
+			};
+		} else if (generator instanceof FloatGenerator) {
+			FloatGenerator primitive = (FloatGenerator) generator;
+			return (Generator<T>) new FloatGenerator() {
+				@Override
+				public float createFloat() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.createFloat();
+				}
+
+				@Override
+				public Float create() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.create();
+				}
+			};
+		} else if (generator instanceof DoubleGenerator) {
+			DoubleGenerator primitive = (DoubleGenerator) generator;
+			return (Generator<T>) new DoubleGenerator() {
+				@Override
+				public double createDouble() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.createDouble();
+				}
+
+				@Override
+				public Double create() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.create();
+				}
+			};
+		} else if (generator instanceof BooleanGenerator) {
+			BooleanGenerator primitive = (BooleanGenerator) generator;
+			return (Generator<T>) new BooleanGenerator() {
+				@Override
+				public boolean createBoolean() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.createBoolean();
+				}
+
+				@Override
+				public Boolean create() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.create();
+				}
+			};
+		} else if (generator instanceof CharGenerator) {
+			CharGenerator primitive = (CharGenerator) generator;
+			return (Generator<T>) new CharGenerator() {
+				@Override
+				public char createChar() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.createChar();
+				}
+
+				@Override
+				public Character create() {
+					metrics.count(Counter.GENERATED_VALUES);
+					return primitive.create();
+				}
+			};
+		} else {
+			return () -> {
+				metrics.count(Counter.GENERATED_VALUES);
+				return generator.create();
+			};
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> Modifier<T> meter(Modifier<T> modifier, PesterMetrics metrics) {
+		if (!metrics.isEnabled()) {
+			return modifier;
+		} else if (modifier instanceof ByteModifier) {
+			ByteModifier primitive = (ByteModifier) modifier;
+			return (Modifier<T>) new ByteModifier() {
+				@Override
+				public byte modifyByte(byte value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modifyByte(value);
+				}
+
+				@Override
+				public Byte modify(Byte value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modify(value);
+				}
+			};
+		} else if (modifier instanceof ShortModifier) {
+			ShortModifier primitive = (ShortModifier) modifier;
+			return (Modifier<T>) new ShortModifier() {
+				@Override
+				public short modifyShort(short value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modifyShort(value);
+				}
+
+				@Override
+				public Short modify(Short value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modify(value);
+				}
+			};
+		} else if (modifier instanceof IntModifier) {
+			IntModifier primitive = (IntModifier) modifier;
+			return (Modifier<T>) new IntModifier() {
+				@Override
+				public int modifyInt(int value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modifyInt(value);
+				}
+
+				@Override
+				public Integer modify(Integer value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modify(value);
+				}
+			};
+		} else if (modifier instanceof LongModifier) {
+			LongModifier primitive = (LongModifier) modifier;
+			return (Modifier<T>) new LongModifier() {
+				@Override
+				public long modifyLong(long value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modifyLong(value);
+				}
+
+				@Override
+				public Long modify(Long value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modify(value);
+				}
+			};
+		} else if (modifier instanceof FloatModifier) {
+			FloatModifier primitive = (FloatModifier) modifier;
+			return (Modifier<T>) new FloatModifier() {
+				@Override
+				public float modifyFloat(float value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modifyFloat(value);
+				}
+
+				@Override
+				public Float modify(Float value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modify(value);
+				}
+			};
+		} else if (modifier instanceof DoubleModifier) {
+			DoubleModifier primitive = (DoubleModifier) modifier;
+			return (Modifier<T>) new DoubleModifier() {
+				@Override
+				public double modifyDouble(double value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modifyDouble(value);
+				}
+
+				@Override
+				public Double modify(Double value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modify(value);
+				}
+			};
+		} else if (modifier instanceof BooleanModifier) {
+			BooleanModifier primitive = (BooleanModifier) modifier;
+			return (Modifier<T>) new BooleanModifier() {
+				@Override
+				public boolean modifyBoolean(boolean value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modifyBoolean(value);
+				}
+
+				@Override
+				public Boolean modify(Boolean value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modify(value);
+				}
+			};
+		} else if (modifier instanceof CharModifier) {
+			CharModifier primitive = (CharModifier) modifier;
+			return (Modifier<T>) new CharModifier() {
+				@Override
+				public char modifyChar(char value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modifyChar(value);
+				}
+
+				@Override
+				public Character modify(Character value) {
+					metrics.count(Counter.MODIFIED_VALUES);
+					return primitive.modify(value);
+				}
+			};
+		} else {
+			return value -> {
+				metrics.count(Counter.MODIFIED_VALUES);
+				return modifier.modify(value);
+			};
+		}
+	}
+}
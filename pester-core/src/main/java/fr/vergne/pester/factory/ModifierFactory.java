@@ -5,15 +5,30 @@ import static fr.vergne.pester.factory.RestartCondition.*;
 import java.lang.reflect.Array;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
+import fr.vergne.pester.util.argscheck.ArgsCheck;
+import fr.vergne.pester.util.cache.Cache;
+import fr.vergne.pester.value.BooleanModifier;
+import fr.vergne.pester.value.ByteModifier;
+import fr.vergne.pester.value.CharModifier;
+import fr.vergne.pester.value.DoubleModifier;
+import fr.vergne.pester.value.FloatModifier;
+import fr.vergne.pester.value.IntModifier;
+import fr.vergne.pester.value.LongModifier;
 import fr.vergne.pester.value.Modifier;
+import fr.vergne.pester.value.ShortModifier;
 import fr.vergne.pester.value.Type;
 
 public class ModifierFactory {
 	
+	private static final Set<Class<?>> PURE_MODIFIER_CLASSES = ConcurrentHashMap.newKeySet();
+
 	private final GeneratorFactory generator;
 	private final TypeFactory typeFactory;
 	
@@ -23,37 +38,143 @@ public class ModifierFactory {
 		this.generator = generatorFactory;
 	}
 
-	public Modifier<Byte> ofBytes() {
-		return of((byte) 0, b -> ++b, oneDigitRange());
+	public ByteModifier ofBytes() {
+		return pure(new ByteModifier() {
+			@Override
+			public byte modifyByte(byte value) {
+				return isOutOfOneDigitRange(value) ? 0 : ++value;
+			}
+
+			@Override
+			public Byte modify(Byte value) {
+				return value == null ? 0 : modifyByte(value);
+			}
+		});
 	}
 
-	public Modifier<Short> ofShorts() {
-		return of((short) 0, s -> ++s, oneDigitRange());
+	public ShortModifier ofShorts() {
+		return pure(new ShortModifier() {
+			@Override
+			public short modifyShort(short value) {
+				return isOutOfOneDigitRange(value) ? 0 : ++value;
+			}
+
+			@Override
+			public Short modify(Short value) {
+				return value == null ? 0 : modifyShort(value);
+			}
+		});
 	}
 
-	public Modifier<Integer> ofIntegers() {
-		return of(0, i -> i + 1, oneDigitRange());
+	public IntModifier ofIntegers() {
+		return pure(new IntModifier() {
+			@Override
+			public int modifyInt(int value) {
+				return isOutOfOneDigitRange(value) ? 0 : value + 1;
+			}
+
+			@Override
+			public Integer modify(Integer value) {
+				return value == null ? 0 : modifyInt(value);
+			}
+		});
 	}
 
-	public Modifier<Long> ofLongs() {
-		return of(0L, l -> l + 1, oneDigitRange());
+	public LongModifier ofLongs() {
+		return pure(new LongModifier() {
+			@Override
+			public long modifyLong(long value) {
+				return isOutOfOneDigitRange(value) ? 0L : value + 1;
+			}
+
+			@Override
+			public Long modify(Long value) {
+				return value == null ? 0L : modifyLong(value);
+			}
+		});
 	}
 
-	public Modifier<Float> ofFloats() {
-		return of(0F, f -> f + 0.1F, oneDigitRange());
+	public FloatModifier ofFloats() {
+		return pure(new FloatModifier() {
+			@Override
+			public float modifyFloat(float value) {
+				return isOutOfOneDigitRange(value) ? 0F : value + 0.1F;
+			}
+
+			@Override
+			public Float modify(Float value) {
+				return value == null ? 0F : modifyFloat(value);
+			}
+		});
 	}
 
-	public Modifier<Double> ofDoubles() {
-		return of(0D, d -> d + 0.1, oneDigitRange());
+	public DoubleModifier ofDoubles() {
+		return pure(new DoubleModifier() {
+			@Override
+			public double modifyDouble(double value) {
+				return isOutOfOneDigitRange(value) ? 0D : value + 0.1;
+			}
+
+			@Override
+			public Double modify(Double value) {
+				return value == null ? 0D : modifyDouble(value);
+			}
+		});
 	}
 
-	public Modifier<Boolean> ofBooleans() {
-		return of(false, b -> !b);
+	public BooleanModifier ofBooleans() {
+		return pure(new BooleanModifier() {
+			@Override
+			public boolean modifyBoolean(boolean value) {
+				return !value;
+			}
+
+			@Override
+			public Boolean modify(Boolean value) {
+				return value == null ? false : modifyBoolean(value);
+			}
+		});
 	}
 
-	public Modifier<Character> ofCharacters() {
+	public CharModifier ofCharacters() {
 		// Keep it in a-z to look like a character
-		return of('a', c -> ++c, range('a', 'z'));
+		return pure(new CharModifier() {
+			@Override
+			public char modifyChar(char value) {
+				return value < 'a' || value >= 'z' ? 'a' : ++value;
+			}
+
+			@Override
+			public Character modify(Character value) {
+				return value == null ? 'a' : modifyChar(value);
+			}
+		});
+	}
+
+	private static <M extends Modifier<?>> M pure(M modifier) {
+		PURE_MODIFIER_CLASSES.add(modifier.getClass());
+		return modifier;
+	}
+
+	/**
+	 * A pure {@link Modifier} returns a value which only depends on the value it
+	 * modifies, like the primitive {@link Modifier}s of this factory. Once the
+	 * values it produces come back to a previous one, they repeat the same cycle.
+	 * Custom {@link Modifier}s are not assumed to be pure.
+	 * 
+	 * @param modifier the {@link Modifier} to check
+	 * @return <code>true</code> if the {@link Modifier} is known to be pure
+	 */
+	static boolean isPure(Modifier<?> modifier) {
+		return PURE_MODIFIER_CLASSES.contains(modifier.getClass());
+	}
+
+	/**
+	 * Numbers restart after one digit. This is checked on primitive values, so
+	 * they are not boxed at each modification.
+	 */
+	private static boolean isOutOfOneDigitRange(double value) {
+		return value < 0 || value >= 10;
 	}
 
 	public Modifier<String> ofStrings() {
@@ -109,6 +230,18 @@ public class ModifierFactory {
 								entry -> valueModifier.modify(entry.getValue()))));
 	}
 
+	public <T> Modifier<Optional<T>> ofOptionals(Class<T> valueClass) {
+		return ofOptionals(typeFactory.from(valueClass));
+	}
+
+	public <T> Modifier<Optional<T>> ofOptionals(Type<T> valueType) {
+		Optional<T> start = generator.ofOptionals(valueType).create();
+		Modifier<T> valueModifier = valueType.getModifier();
+		return of(
+				start,
+				optional -> optional.isPresent() ? Optional.of(valueModifier.modify(optional.get())) : start);
+	}
+
 	public <T> Modifier<T> of(T start, UnaryOperator<T> updater) {
 		return of(start, updater, noRestart());
 	}
@@ -117,22 +250,43 @@ public class ModifierFactory {
 		return x -> x == null || restartCondition.test(x) ? start : updater.apply(x);
 	}
 	
-	@SuppressWarnings("unchecked")
-	<A, T> Modifier<A> ofArray(Class<A> arrayClass, Class<T> itemClass) {
+	/**
+	 * Modify arrays item by item, keeping their length. Primitive arrays with
+	 * primitive item {@link Modifier}s are modified without boxing their items.
+	 * 
+	 * @param arrayClass the class of the arrays to modify
+	 * @return the {@link Modifier} of arrays
+	 */
+	public <A> Modifier<A> ofArrays(Class<A> arrayClass) {
+		ArgsCheck.requireNonNull(arrayClass, "No array class provided");
+		if (!arrayClass.isArray()) {
+			throw new IllegalArgumentException("Not an array class: " + arrayClass);
+		}
+		Class<?> itemClass = arrayClass.getComponentType();
+		// Resolve the types only once
+		Supplier<Type<A>> arrayType = Cache.onSupplier(() -> typeFactory.from(arrayClass));
+		Supplier<Type<?>> itemType = Cache.onSupplier(() -> typeFactory.from(itemClass));
 		return oldArray -> {
 			if (oldArray == null) {
-				return typeFactory.from(arrayClass).getGenerator().create();
+				return arrayType.get().getGenerator().create();
 			} else {
-				Modifier<T> itemModifier = typeFactory.from(itemClass).getModifier();
-				int length = Array.getLength(oldArray);
-				Object newArray = Array.newInstance(itemClass, length);
-				for (int i = 0; i < length; i++) {
-					T oldItem = (T) Array.get(oldArray, i);
-					T newItem = itemModifier.modify(oldItem);
-					Array.set(newArray, i, newItem);
-				}
+				Modifier<?> itemModifier = itemType.get().getModifier();
+				Object newArray = PrimitiveArrays.modifyItems(oldArray, itemModifier)
+						.orElseGet(() -> modifyItems(oldArray, itemClass, itemModifier));
 				return arrayClass.cast(newArray);
 			}
 		};
 	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Object modifyItems(Object oldArray, Class<?> itemClass, Modifier<T> itemModifier) {
+		int length = Array.getLength(oldArray);
+		Object newArray = Array.newInstance(itemClass, length);
+		for (int i = 0; i < length; i++) {
+			T oldItem = (T) Array.get(oldArray, i);
+			T newItem = itemModifier.modify(oldItem);
+			Array.set(newArray, i, newItem);
+		}
+		return newArray;
+	}
 }
@@ -0,0 +1,300 @@
+package fr.vergne.pester.factory;
+
+import java.util.Optional;
+
+import fr.vergne.pester.value.BooleanGenerator;
+import fr.vergne.pester.value.BooleanModifier;
+import fr.vergne.pester.value.ByteGenerator;
+import fr.vergne.pester.value.ByteModifier;
+import fr.vergne.pester.value.CharGenerator;
+import fr.vergne.pester.value.CharModifier;
+import fr.vergne.pester.value.DoubleGenerator;
+import fr.vergne.pester.value.DoubleModifier;
+import fr.vergne.pester.value.FloatGenerator;
+import fr.vergne.pester.value.FloatModifier;
+import fr.vergne.pester.value.Generator;
+import fr.vergne.pester.value.IntGenerator;
+import fr.vergne.pester.value.IntModifier;
+import fr.vergne.pester.value.LongGenerator;
+import fr.vergne.pester.value.LongModifier;
+import fr.vergne.pester.value.Modifier;
+import fr.vergne.pester.value.ShortGenerator;
+import fr.vergne.pester.value.ShortModifier;
+import fr.vergne.pester.value.Type;
+
+/**
+ * {@link PrimitiveArrays} provides bulk operations on primitive arrays, which
+ * avoid to box their items or to access them through reflection.
+ */
+class PrimitiveArrays {
+
+	/**
+	 * Fill the whole array by repeating its first items.
+	 * 
+	 * @param array the array to fill
+	 * @param patternLength the number of items already set at the start of the
+	 *                      array
+	 * @param length the length of the array
+	 */
+	static void repeatPattern(Object array, int patternLength, int length) {
+		// Copy what is already filled, doubling it at each step
+		int filled = Math.min(patternLength, length);
+		while (filled < length) {
+			int copied = Math.min(filled, length - filled);
+			System.arraycopy(array, 0, array, filled, copied);
+			filled += copied;
+		}
+	}
+
+	/**
+	 * Generate the items of a primitive array with their primitive
+	 * {@link Generator} and {@link Modifier}, like
+	 * {@link GeneratorFactory#iteratorOf(Type)} does: the first item is generated
+	 * and each next one is the modified previous one. If the items cycle back to
+	 * the first one, the rest of the array is filled by copying this cycle.
+	 * 
+	 * @param itemClass the primitive class of the items
+	 * @param itemType the {@link Type} of the items
+	 * @param length the length of the array
+	 * @return the generated array, or nothing if they are not primitive items,
+	 *         generators and modifiers
+	 */
+	static Optional<Object> generateItems(Class<?> itemClass, Type<?> itemType, int length,
+			boolean isCycleCopied) {
+		Generator<?> generator = itemType.getGenerator();
+		Modifier<?> modifier = itemType.getModifier();
+		if (itemClass == byte.class && generator instanceof ByteGenerator && modifier instanceof ByteModifier) {
+			ByteGenerator itemGenerator = (ByteGenerator) generator;
+			ByteModifier itemModifier = (ByteModifier) modifier;
+			byte[] array = new byte[length];
+			int cycleLength = 0;
+			if (length > 0) {
+				array[0] = itemGenerator.createByte();
+				cycleLength = 1;
+				while (cycleLength < length) {
+					byte item = itemModifier.modifyByte(array[cycleLength - 1]);
+					if (isCycleCopied && item == array[0]) {
+						break;
+					}
+					array[cycleLength] = item;
+					cycleLength++;
+				}
+			}
+			repeatPattern(array, cycleLength, length);
+			return Optional.of(array);
+		} else if (itemClass == short.class && generator instanceof ShortGenerator && modifier instanceof ShortModifier) {
+			ShortGenerator itemGenerator = (ShortGenerator) generator;
+			ShortModifier itemModifier = (ShortModifier) modifier;
+			short[] array = new short[length];
+			int cycleLength = 0;
+			if (length > 0) {
+				array[0] = itemGenerator.createShort();
+				cycleLength = 1;
+				while (cycleLength < length) {
+					short item = itemModifier.modifyShort(array[cycleLength - 1]);
+					if (isCycleCopied && item == array[0]) {
+						break;
+					}
+					array[cycleLength] = item;
+					cycleLength++;
+				}
+			}
+			repeatPattern(array, cycleLength, length);
+			return Optional.of(array);
+		} else if (itemClass == int.class && generator instanceof IntGenerator && modifier instanceof IntModifier) {
+			IntGenerator itemGenerator = (IntGenerator) generator;
+			IntModifier itemModifier = (IntModifier) modifier;
+			int[] array = new int[length];
+			int cycleLength = 0;
+			if (length > 0) {
+				array[0] = itemGenerator.createInt();
+				cycleLength = 1;
+				while (cycleLength < length) {
+					int item = itemModifier.modifyInt(array[cycleLength - 1]);
+					if (isCycleCopied && item == array[0]) {
+						break;
+					}
+					array[cycleLength] = item;
+					cycleLength++;
+				}
+			}
+			repeatPattern(array, cycleLength, length);
+			return Optional.of(array);
+		} else if (itemClass == long.class && generator instanceof LongGenerator && modifier instanceof LongModifier) {
+			LongGenerator itemGenerator = (LongGenerator) generator;
+			LongModifier itemModifier = (LongModifier) modifier;
+			long[] array = new long[length];
+			int cycleLength = 0;
+			if (length > 0) {
+				array[0] = itemGenerator.createLong();
+				cycleLength = 1;
+				while (cycleLength < length) {
+					long item = itemModifier.modifyLong(array[cycleLength - 1]);
+					if (isCycleCopied && item == array[0]) {
+						break;
+					}
+					array[cycleLength] = item;
+					cycleLength++;
+				}
+			}
+			repeatPattern(array, cycleLength, length);
+			return Optional.of(array);
+		} else if (itemClass == float.class && generator instanceof FloatGenerator && modifier instanceof FloatModifier) {
+			FloatGenerator itemGenerator = (FloatGenerator) generator;
+			FloatModifier itemModifier = (FloatModifier) modifier;
+			float[] array = new float[length];
+			int cycleLength = 0;
+			if (length > 0) {
+				array[0] = itemGenerator.createFloat();
+				cycleLength = 1;
+				while (cycleLength < length) {
+					float item = itemModifier.modifyFloat(array[cycleLength - 1]);
+					if (isCycleCopied && Float.floatToIntBits(item) == Float.floatToIntBits(array[0])) {
+						break;
+					}
+					array[cycleLength] = item;
+					cycleLength++;
+				}
+			}
+			repeatPattern(array, cycleLength, length);
+			return Optional.of(array);
+		} else if (itemClass == double.class && generator instanceof DoubleGenerator && modifier instanceof DoubleModifier) {
+			DoubleGenerator itemGenerator = (DoubleGenerator) generator;
+			DoubleModifier itemModifier = (DoubleModifier) modifier;
+			double[] array = new double[length];
+			int cycleLength = 0;
+			if (length > 0) {
+				array[0] = itemGenerator.createDouble();
+				cycleLength = 1;
+				while (cycleLength < length) {
+					double item = itemModifier.modifyDouble(array[cycleLength - 1]);
+					if (isCycleCopied && Double.doubleToLongBits(item) == Double.doubleToLongBits(array[0])) {
+						break;
+					}
+					array[cycleLength] = item;
+					cycleLength++;
+				}
+			}
+			repeatPattern(array, cycleLength, length);
+			return Optional.of(array);
+		} else if (itemClass == boolean.class && generator instanceof BooleanGenerator && modifier instanceof BooleanModifier) {
+			BooleanGenerator itemGenerator = (BooleanGenerator) generator;
+			BooleanModifier itemModifier = (BooleanModifier) modifier;
+			boolean[] array = new boolean[length];
+			int cycleLength = 0;
+			if (length > 0) {
+				array[0] = itemGenerator.createBoolean();
+				cycleLength = 1;
+				while (cycleLength < length) {
+					boolean item = itemModifier.modifyBoolean(array[cycleLength - 1]);
+					if (isCycleCopied && item == array[0]) {
+						break;
+					}
+					array[cycleLength] = item;
+					cycleLength++;
+				}
+			}
+			repeatPattern(array, cycleLength, length);
+			return Optional.of(array);
+		} else if (itemClass == char.class && generator instanceof CharGenerator && modifier instanceof CharModifier) {
+			CharGenerator itemGenerator = (CharGenerator) generator;
+			CharModifier itemModifier = (CharModifier) modifier;
+			char[] array = new char[length];
+			int cycleLength = 0;
+			if (length > 0) {
+				array[0] = itemGenerator.createChar();
+				cycleLength = 1;
+				while (cycleLength < length) {
+					char item = itemModifier.modifyChar(array[cycleLength - 1]);
+					if (isCycleCopied && item == array[0]) {
+						break;
+					}
+					array[cycleLength] = item;
+					cycleLength++;
+				}
+			}
+			repeatPattern(array, cycleLength, length);
+			return Optional.of(array);
+		} else {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Modify each item of a primitive array with its primitive {@link Modifier}.
+	 * 
+	 * @param array the array to modify
+	 * @param itemModifier the {@link Modifier} of its items
+	 * @return a new array with the modified items, or nothing if they are not
+	 *         primitive arrays and modifiers
+	 */
+	static Optional<Object> modifyItems(Object array, Modifier<?> itemModifier) {
+		if (array instanceof byte[] && itemModifier instanceof ByteModifier) {
+			byte[] oldArray = (byte[]) array;
+			ByteModifier modifier = (ByteModifier) itemModifier;
+			byte[] newArray = new byte[oldArray.length];
+			for (int i = 0; i < oldArray.length; i++) {
+				newArray[i] = modifier.modifyByte(oldArray[i]);
+			}
+			return Optional.of(newArray);
+		} else if (array instanceof short[] && itemModifier instanceof ShortModifier) {
+			short[] oldArray = (short[]) array;
+			ShortModifier modifier = (ShortModifier) itemModifier;
+			short[] newArray = new short[oldArray.length];
+			for (int i = 0; i < oldArray.length; i++) {
+				newArray[i] = modifier.modifyShort(oldArray[i]);
+			}
+			return Optional.of(newArray);
+		} else if (array instanceof int[] && itemModifier instanceof IntModifier) {
+			int[] oldArray = (int[]) array;
+			IntModifier modifier = (IntModifier) itemModifier;
+			int[] newArray = new int[oldArray.length];
+			for (int i = 0; i < oldArray.length; i++) {
+				newArray[i] = modifier.modifyInt(oldArray[i]);
+			}
+			return Optional.of(newArray);
+		} else if (array instanceof long[] && itemModifier instanceof LongModifier) {
+			long[] oldArray = (long[]) array;
+			LongModifier modifier = (LongModifier) itemModifier;
+			long[] newArray = new long[oldArray.length];
+			for (int i = 0; i < oldArray.length; i++) {
+				newArray[i] = modifier.modifyLong(oldArray[i]);
+			}
+			return Optional.of(newArray);
+		} else if (array instanceof float[] && itemModifier instanceof FloatModifier) {
+			float[] oldArray = (float[]) array;
+			FloatModifier modifier = (FloatModifier) itemModifier;
+			float[] newArray = new float[oldArray.length];
+			for (int i = 0; i < oldArray.length; i++) {
+				newArray[i] = modifier.modifyFloat(oldArray[i]);
+			}
+			return Optional.of(newArray);
+		} else if (array instanceof double[] && itemModifier instanceof DoubleModifier) {
+			double[] oldArray = (double[]) array;
+			DoubleModifier modifier = (DoubleModifier) itemModifier;
+			double[] newArray = new double[oldArray.length];
+			for (int i = 0; i < oldArray.length; i++) {
+				newArray[i] = modifier.modifyDouble(oldArray[i]);
+			}
+			return Optional.of(newArray);
+		} else if (array instanceof boolean[] && itemModifier instanceof BooleanModifier) {
+			boolean[] oldArray = (boolean[]) array;
+			BooleanModifier modifier = (BooleanModifier) itemModifier;
+			boolean[] newArray = new boolean[oldArray.length];
+			for (int i = 0; i < oldArray.length; i++) {
+				newArray[i] = modifier.modifyBoolean(oldArray[i]);
+			}
+			return Optional.of(newArray);
+		} else if (array instanceof char[] && itemModifier instanceof CharModifier) {
+			char[] oldArray = (char[]) array;
+			CharModifier modifier = (CharModifier) itemModifier;
+			char[] newArray = new char[oldArray.length];
+			for (int i = 0; i < oldArray.length; i++) {
+				newArray[i] = modifier.modifyChar(oldArray[i]);
+			}
+			return Optional.of(newArray);
+		} else {
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,317 @@
+package fr.vergne.pester.factory;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import fr.vergne.pester.util.argscheck.ArgsCheck;
+import fr.vergne.pester.util.hash.StableHash;
+import fr.vergne.pester.value.BooleanGenerator;
+import fr.vergne.pester.value.ByteGenerator;
+import fr.vergne.pester.value.CharGenerator;
+import fr.vergne.pester.value.DoubleGenerator;
+import fr.vergne.pester.value.FloatGenerator;
+import fr.vergne.pester.value.Generator;
+import fr.vergne.pester.value.IntGenerator;
+import fr.vergne.pester.value.LongGenerator;
+import fr.vergne.pester.value.ShortGenerator;
+import fr.vergne.pester.value.Type;
+
+/**
+ * {@link RandomGeneratorFactory} provides the random counterparts of the
+ * {@link GeneratorFactory} constants. All the values come from a
+ * {@link SplittableRandom} initialized with a seed, so a run can be reproduced
+ * by reusing the same seed.
+ * <p>
+ * Each test generates its values within a scope identified by a stable key, set
+ * with {@link #startScope(String)}. The values of a scope are generated from the
+ * seed and this key only, so they are the same at each run, whatever the thread
+ * running the test and the tests it ran before. Each thread uses its own
+ * {@link SplittableRandom}, so parallel runs do not contend on it.
+ * <p>
+ * The generated values are taken from configurable distributions. All the
+ * ranges include their origin and exclude their bound.
+ */
+public class RandomGeneratorFactory {
+
+	public static final long DEFAULT_SEED = 0L;
+
+	private static final ThreadLocal<Scope> CURRENT_SCOPE = ThreadLocal.withInitial(() -> new Scope(""));
+
+	private final TypeFactory typeFactory;
+	private final ThreadLocal<ScopedRandom> randoms = new ThreadLocal<>();
+	private volatile Seed seed;
+	private volatile long integerOrigin = -100;
+	private volatile long integerBound = 100;
+	private volatile double decimalOrigin = -100;
+	private volatile double decimalBound = 100;
+	private volatile String characters = "abcdefghijklmnopqrstuvwxyz";
+	private volatile int stringLengthOrigin = 1;
+	private volatile int stringLengthBound = 11;
+	private volatile int collectionSizeOrigin = 1;
+	private volatile int collectionSizeBound = 6;
+
+	// Package-scope constructor
+	RandomGeneratorFactory(TypeFactory typeFactory) {
+		this.typeFactory = typeFactory;
+		reseed(DEFAULT_SEED);
+	}
+
+	/**
+	 * Restart the generation of random values from a new seed.
+	 *
+	 * @param seed the seed to generate the values from
+	 * @return this {@link RandomGeneratorFactory}
+	 */
+	public RandomGeneratorFactory reseed(long seed) {
+		this.seed = new Seed(seed);
+		return this;
+	}
+
+	/**
+	 * Generate the random values of the current thread from a new scope, until
+	 * {@link #endScope()}. The values generated within the scope only depend on
+	 * the seed and the key of the scope, like the identity of a test.
+	 *
+	 * @param key the stable key of the scope
+	 */
+	public static void startScope(String key) {
+		CURRENT_SCOPE.set(new Scope(ArgsCheck.requireNonNull(key, "No key provided")));
+	}
+
+	/**
+	 * End the scope started with {@link #startScope(String)}. The next values are
+	 * generated from the seed only, until the next scope.
+	 */
+	public static void endScope() {
+		CURRENT_SCOPE.remove();
+	}
+
+	/**
+	 * Set the range of the integral values, like {@link Integer}s and
+	 * {@link Long}s. For smaller types, like {@link Byte}s, this range is limited
+	 * to the values they support.
+	 *
+	 * @param origin the smallest value
+	 * @param bound the value above the biggest value
+	 * @return this {@link RandomGeneratorFactory}
+	 */
+	public RandomGeneratorFactory withIntegerRange(long origin, long bound) {
+		requireRange(origin < bound, origin, bound);
+		this.integerOrigin = origin;
+		this.integerBound = bound;
+		return this;
+	}
+
+	/**
+	 * Set the range of the decimal values, like {@link Float}s and
+	 * {@link Double}s.
+	 *
+	 * @param origin the smallest value
+	 * @param bound the value above the biggest value
+	 * @return this {@link RandomGeneratorFactory}
+	 */
+	public RandomGeneratorFactory withDecimalRange(double origin, double bound) {
+		requireRange(origin < bound, origin, bound);
+		this.decimalOrigin = origin;
+		this.decimalBound = bound;
+		return this;
+	}
+
+	/**
+	 * Set the characters to generate, either alone or in {@link String}s.
+	 *
+	 * @param characters the characters to pick from
+	 * @return this {@link RandomGeneratorFactory}
+	 */
+	public RandomGeneratorFactory withCharacters(String characters) {
+		ArgsCheck.requireNonNull(characters, "No characters provided");
+		if (characters.isEmpty()) {
+			throw new IllegalArgumentException("No characters provided");
+		}
+		this.characters = characters;
+		return this;
+	}
+
+	public RandomGeneratorFactory withStringLength(int origin, int bound) {
+		requireRange(0 <= origin && origin < bound, origin, bound);
+		this.stringLengthOrigin = origin;
+		this.stringLengthBound = bound;
+		return this;
+	}
+
+	/**
+	 * Set the size of the generated collections. {@link Set}s and {@link Map}s may
+	 * be smaller if the same items are generated several times.
+	 *
+	 * @param origin the smallest size
+	 * @param bound the size above the biggest size
+	 * @return this {@link RandomGeneratorFactory}
+	 */
+	public RandomGeneratorFactory withCollectionSize(int origin, int bound) {
+		requireRange(0 <= origin && origin < bound, origin, bound);
+		this.collectionSizeOrigin = origin;
+		this.collectionSizeBound = bound;
+		return this;
+	}
+
+	private static void requireRange(boolean isValid, Object origin, Object bound) {
+		if (!isValid) {
+			throw new IllegalArgumentException("Invalid range: [" + origin + ", " + bound + ")");
+		}
+	}
+
+	private SplittableRandom random() {
+		Scope scope = CURRENT_SCOPE.get();
+		Seed seed = this.seed;
+		ScopedRandom current = randoms.get();
+		if (current == null || current.scope != scope || current.seed != seed) {
+			current = new ScopedRandom(scope, seed, new SplittableRandom(seed.value ^ scope.hash));
+			randoms.set(current);
+		}
+		return current.random;
+	}
+
+	private long nextIntegral(long min, long max) {
+		long origin = Math.max(integerOrigin, min);
+		long bound = Math.min(integerBound, max + 1);
+		if (origin >= bound) {
+			throw new IllegalStateException("No value in [" + integerOrigin + ", " + integerBound
+					+ ") between " + min + " and " + max);
+		}
+		return random().nextLong(origin, bound);
+	}
+
+	private double nextDecimal() {
+		return random().nextDouble(decimalOrigin, decimalBound);
+	}
+
+	private char nextCharacter() {
+		String characters = this.characters;
+		return characters.charAt(random().nextInt(characters.length()));
+	}
+
+	private int nextCollectionSize() {
+		return random().nextInt(collectionSizeOrigin, collectionSizeBound);
+	}
+
+	public ByteGenerator ofBytes() {
+		return () -> (byte) nextIntegral(Byte.MIN_VALUE, Byte.MAX_VALUE);
+	}
+
+	public ShortGenerator ofShorts() {
+		return () -> (short) nextIntegral(Short.MIN_VALUE, Short.MAX_VALUE);
+	}
+
+	public IntGenerator ofIntegers() {
+		return () -> (int) nextIntegral(Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	public LongGenerator ofLongs() {
+		// Long.MAX_VALUE cannot be generated, to not overflow the bound
+		return () -> nextIntegral(Long.MIN_VALUE, Long.MAX_VALUE - 1);
+	}
+
+	public FloatGenerator ofFloats() {
+		return () -> (float) nextDecimal();
+	}
+
+	public DoubleGenerator ofDoubles() {
+		return () -> nextDecimal();
+	}
+
+	public BooleanGenerator ofBooleans() {
+		return () -> random().nextBoolean();
+	}
+
+	public CharGenerator ofCharacters() {
+		return () -> nextCharacter();
+	}
+
+	public Generator<String> ofStrings() {
+		return () -> {
+			int length = random().nextInt(stringLengthOrigin, stringLengthBound);
+			char[] chars = new char[length];
+			for (int i = 0; i < length; i++) {
+				chars[i] = nextCharacter();
+			}
+			return new String(chars);
+		};
+	}
+
+	public Generator<Object> ofObjects() {
+		return Object::new;
+	}
+
+	public <T> Generator<List<T>> ofLists(Class<T> itemClass) {
+		return ofLists(typeFactory.from(itemClass));
+	}
+
+	public <T> Generator<List<T>> ofLists(Type<T> itemType) {
+		return () -> {
+			Generator<T> item = itemType.getGenerator();
+			return IntStream.range(0, nextCollectionSize())
+					.mapToObj(i -> item.create())
+					.collect(Collectors.toList());
+		};
+	}
+
+	public <T> Generator<Set<T>> ofSets(Class<T> itemClass) {
+		return ofSets(typeFactory.from(itemClass));
+	}
+
+	public <T> Generator<Set<T>> ofSets(Type<T> itemType) {
+		Generator<List<T>> list = ofLists(itemType);
+		return () -> new LinkedHashSet<>(list.create());
+	}
+
+	public <K, V> Generator<Map<K, V>> ofMaps(Class<K> keyClass, Class<V> valueClass) {
+		return ofMaps(typeFactory.from(keyClass), typeFactory.from(valueClass));
+	}
+
+	public <K, V> Generator<Map<K, V>> ofMaps(Type<K> keyType, Type<V> valueType) {
+		return () -> {
+			Generator<K> key = keyType.getGenerator();
+			Generator<V> value = valueType.getGenerator();
+			Map<K, V> map = new LinkedHashMap<>();
+			int size = nextCollectionSize();
+			for (int i = 0; i < size; i++) {
+				map.put(key.create(), value.create());
+			}
+			return map;
+		};
+	}
+
+	private static class Seed {
+		private final long value;
+
+		Seed(long value) {
+			this.value = value;
+		}
+	}
+
+	private static class Scope {
+		private final long hash;
+
+		Scope(String key) {
+			this.hash = StableHash.of(key);
+		}
+	}
+
+	private static class ScopedRandom {
+		private final Scope scope;
+		private final Seed seed;
+		private final SplittableRandom random;
+
+		ScopedRandom(Scope scope, Seed seed, SplittableRandom random) {
+			this.scope = scope;
+			this.seed = seed;
+			this.random = random;
+		}
+	}
+}
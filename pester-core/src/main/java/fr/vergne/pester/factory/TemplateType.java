@@ -2,13 +2,14 @@ package fr.vergne.pester.factory;
 
 import java.util.Optional;
 
+import fr.vergne.pester.PesterMetrics;
 import fr.vergne.pester.value.Generator;
 import fr.vergne.pester.value.Modifier;
 import fr.vergne.pester.value.Type;
 
 abstract class TemplateType<T> implements Type<T> {
-	private Optional<Generator<T>> generator = Optional.empty();
-	private Optional<Modifier<T>> modifier = Optional.empty();
+	private volatile Optional<Generator<T>> generator = Optional.empty();
+	private volatile Optional<Modifier<T>> modifier = Optional.empty();
 
 	// TODO return optional?
 	@Override
@@ -20,7 +21,7 @@ abstract class TemplateType<T> implements Type<T> {
 
 	@Override
 	public Type<T> withGenerator(Generator<T> generator) {
-		this.generator = Optional.of(generator);
+		this.generator = Optional.of(MeteredValues.meter(generator, PesterMetrics.current()));
 		return this;
 	}
 
@@ -34,7 +35,7 @@ abstract class TemplateType<T> implements Type<T> {
 
 	@Override
 	public Type<T> withModifier(Modifier<T> modifier) {
-		this.modifier = Optional.of(modifier);
+		this.modifier = Optional.of(MeteredValues.meter(modifier, PesterMetrics.current()));
 		return this;
 	}
 
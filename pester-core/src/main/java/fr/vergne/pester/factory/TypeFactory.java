@@ -1,8 +1,15 @@
 package fr.vergne.pester.factory;
 
-import java.util.HashMap;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import fr.vergne.pester.value.Type;
 
@@ -10,15 +17,25 @@ public class TypeFactory {
 
 	private interface ClassTypeFactory {
 		<T> ClassType<T> createType(Class<T> typeClass);
+
+		<T> GenericType<T> createType(ParameterizedType typeDefinition, Type<T> rawType,
+				List<Type<?>> argumentTypes);
 	}
 
-	private final Map<Class<?>, ClassType<?>> classTypes = new HashMap<>();
-	private ClassTypeFactory classTypeFactory = new ClassTypeFactory() {
+	private final Map<Class<?>, ClassType<?>> classTypes = new ConcurrentHashMap<>();
+	private final Map<ParameterizedType, GenericType<?>> genericTypes = new ConcurrentHashMap<>();
+	private volatile ClassTypeFactory classTypeFactory = new ClassTypeFactory() {
 
 		@Override
 		public <T> ClassType<T> createType(Class<T> typeClass) {
 			return new ClassType<>(typeClass);
 		}
+
+		@Override
+		public <T> GenericType<T> createType(ParameterizedType typeDefinition, Type<T> rawType,
+				List<Type<?>> argumentTypes) {
+			return new GenericType<>(typeDefinition, rawType);
+		}
 	};
 	
 	// Package-scope constructor
@@ -27,6 +44,19 @@ public class TypeFactory {
 
 	public interface Extension {
 		<T> void extendType(Class<T> typeClass, Type<T> type);
+
+		/**
+		 * Extend the {@link Type} of a parameterized type, like
+		 * <code>List&lt;String&gt;</code>. By default, it uses the generator and
+		 * modifier of its raw class.
+		 * 
+		 * @param typeDefinition the parameterized type
+		 * @param type the {@link Type} to extend
+		 * @param argumentTypes the {@link Type}s of its arguments
+		 */
+		default <T> void extendType(ParameterizedType typeDefinition, Type<T> type, List<Type<?>> argumentTypes) {
+			// Nothing to extend
+		}
 	}
 
 	public void addExtension(Extension extension) {
@@ -39,6 +69,14 @@ public class TypeFactory {
 				extension.extendType(typeClass, type);
 				return type;
 			}
+
+			@Override
+			public <T> GenericType<T> createType(ParameterizedType typeDefinition, Type<T> rawType,
+					List<Type<?>> argumentTypes) {
+				GenericType<T> type = oldFactory.createType(typeDefinition, rawType, argumentTypes);
+				extension.extendType(typeDefinition, type, argumentTypes);
+				return type;
+			}
 		};
 	}
 
@@ -47,6 +85,70 @@ public class TypeFactory {
 		return (Type<T>) classTypes.computeIfAbsent(typeClass, t -> classTypeFactory.createType(t));
 	}
 
+	/**
+	 * Resolve the {@link Type} of a type definition, like the generic type of a
+	 * field. {@link ParameterizedType}s are resolved based on their type
+	 * arguments, so a <code>List&lt;String&gt;</code> and a
+	 * <code>List&lt;Integer&gt;</code> have different {@link Type}s. Wildcards and
+	 * type variables are resolved through their bounds, and generic arrays through
+	 * their raw class. Each {@link Type} is resolved once and reused afterwards.
+	 * 
+	 * @param typeDefinition the type definition to resolve
+	 * @return the {@link Type} of this definition
+	 */
+	public Type<?> from(java.lang.reflect.Type typeDefinition) {
+		if (typeDefinition instanceof Class) {
+			return from((Class<?>) typeDefinition);
+		} else if (typeDefinition instanceof ParameterizedType) {
+			return resolveParameterized((ParameterizedType) typeDefinition);
+		} else if (typeDefinition instanceof WildcardType) {
+			WildcardType wildcard = (WildcardType) typeDefinition;
+			java.lang.reflect.Type[] lowerBounds = wildcard.getLowerBounds();
+			return from(lowerBounds.length > 0 ? lowerBounds[0] : wildcard.getUpperBounds()[0]);
+		} else if (typeDefinition instanceof TypeVariable) {
+			// Use the erasure, to not loop on recursive bounds like T extends Comparable<T>
+			return from(rawClassOf(typeDefinition));
+		} else if (typeDefinition instanceof GenericArrayType) {
+			return from(rawClassOf(typeDefinition));
+		} else {
+			throw new IllegalArgumentException("Unsupported type: " + typeDefinition);
+		}
+	}
+
+	private Type<?> resolveParameterized(ParameterizedType typeDefinition) {
+		GenericType<?> type = genericTypes.get(typeDefinition);
+		if (type == null) {
+			// Arguments are resolved out of the map to not update it recursively
+			List<Type<?>> argumentTypes = Stream.of(typeDefinition.getActualTypeArguments())
+					.map(this::from)
+					.collect(Collectors.toList());
+			Type<?> rawType = from(rawClassOf(typeDefinition));
+			GenericType<?> newType = classTypeFactory.createType(typeDefinition, rawType, argumentTypes);
+			type = genericTypes.putIfAbsent(typeDefinition, newType);
+			if (type == null) {
+				type = newType;
+			}
+		}
+		return type;
+	}
+
+	private static Class<?> rawClassOf(java.lang.reflect.Type typeDefinition) {
+		if (typeDefinition instanceof Class) {
+			return (Class<?>) typeDefinition;
+		} else if (typeDefinition instanceof ParameterizedType) {
+			return rawClassOf(((ParameterizedType) typeDefinition).getRawType());
+		} else if (typeDefinition instanceof GenericArrayType) {
+			Class<?> componentClass = rawClassOf(((GenericArrayType) typeDefinition).getGenericComponentType());
+			return java.lang.reflect.Array.newInstance(componentClass, 0).getClass();
+		} else if (typeDefinition instanceof WildcardType) {
+			return rawClassOf(((WildcardType) typeDefinition).getUpperBounds()[0]);
+		} else if (typeDefinition instanceof TypeVariable) {
+			return rawClassOf(((TypeVariable<?>) typeDefinition).getBounds()[0]);
+		} else {
+			throw new IllegalArgumentException("Unsupported type: " + typeDefinition);
+		}
+	}
+
 	public <T> Type<T> as(String name) {
 		return new NamedType<>(name, Optional.empty());
 	}
@@ -0,0 +1,32 @@
+package fr.vergne.pester.factory;
+
+import java.lang.reflect.ParameterizedType;
+
+/**
+ * A {@link TypeLiteral} captures a type definition which cannot be written as
+ * a class literal, like <code>List&lt;String&gt;</code>. Create an anonymous
+ * subclass, and resolve its {@link #getTypeDefinition()} with
+ * {@link TypeFactory#from(java.lang.reflect.Type)}:
+ * 
+ * <pre>
+ * factory.type().from(new TypeLiteral&lt;List&lt;String&gt;&gt;() {}.getTypeDefinition())
+ * </pre>
+ *
+ * @param <T> the captured type
+ */
+public abstract class TypeLiteral<T> {
+
+	private final java.lang.reflect.Type typeDefinition;
+
+	protected TypeLiteral() {
+		java.lang.reflect.Type superclass = getClass().getGenericSuperclass();
+		if (!(superclass instanceof ParameterizedType)) {
+			throw new IllegalStateException("No type argument provided to " + getClass());
+		}
+		this.typeDefinition = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+	}
+
+	public java.lang.reflect.Type getTypeDefinition() {
+		return typeDefinition;
+	}
+}
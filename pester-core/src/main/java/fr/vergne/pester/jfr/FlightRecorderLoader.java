@@ -0,0 +1,41 @@
+package fr.vergne.pester.jfr;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * {@link FlightRecorderLoader} loads the events of the JDK Flight Recorder.
+ * They are compiled apart from the rest of Pester, which targets Java 8 and
+ * cannot refer to <code>jdk.jfr</code>, so they are only known by their name.
+ * Without the JDK Flight Recorder in the JVM, or without these events in the
+ * build of Pester, the events remain disabled.
+ */
+class FlightRecorderLoader {
+
+	private static final Logger LOGGER = Logger.getLogger(FlightRecorderLoader.class.getName());
+	private static final String FACTORY_CLASS = "fr.vergne.pester.jfr.FlightRecorderEvents";
+
+	static final Optional<PesterEventFactory> FACTORY = Boolean.getBoolean(PesterEvents.EVENTS_PROPERTY)
+			? load()
+			: Optional.empty();
+
+	private static Optional<PesterEventFactory> load() {
+		try {
+			Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+			if (!(Boolean) flightRecorder.getMethod("isAvailable").invoke(null)) {
+				LOGGER.warning("The JDK Flight Recorder is not available, Pester events are disabled");
+				return Optional.empty();
+			}
+		} catch (ReflectiveOperationException | LinkageError cause) {
+			LOGGER.warning("No JDK Flight Recorder in this JVM, Pester events are disabled");
+			return Optional.empty();
+		}
+
+		try {
+			return Optional.of((PesterEventFactory) Class.forName(FACTORY_CLASS).getDeclaredConstructor().newInstance());
+		} catch (ReflectiveOperationException | LinkageError cause) {
+			LOGGER.warning("Pester was built without its JDK Flight Recorder events, they are disabled: " + cause);
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package fr.vergne.pester.jfr;
+
+/**
+ * A {@link PesterEvent} records a piece of work of Pester, from its creation
+ * to its {@link #commit()}. The details known at the end of the work are set
+ * just before committing.
+ */
+public interface PesterEvent {
+
+	String PASSED = "passed";
+	String FAILED = "failed";
+	String ABORTED = "aborted";
+
+	/**
+	 * The {@link PesterEvent} used when the events are disabled, which records
+	 * nothing.
+	 */
+	PesterEvent NO_OP = new PesterEvent() {
+	};
+
+	/**
+	 * @param count the number of items produced or found by the work, like test
+	 *              cases or candidate members
+	 * @return this {@link PesterEvent}
+	 */
+	default PesterEvent withCount(long count) {
+		return this;
+	}
+
+	/**
+	 * @param outcome the outcome of the work, like <code>passed</code> or
+	 *                <code>failed</code>
+	 * @return this {@link PesterEvent}
+	 */
+	default PesterEvent withOutcome(String outcome) {
+		return this;
+	}
+
+	default void commit() {
+		// Nothing to record
+	}
+}
@@ -0,0 +1,18 @@
+package fr.vergne.pester.jfr;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link PesterEventFactory} creates the {@link PesterEvent}s of a recorder.
+ * See {@link PesterEvents} for the meaning of each event.
+ */
+interface PesterEventFactory {
+
+	PesterEvent startDefinitionBuild(Class<?> pojoClass);
+
+	PesterEvent startCasesGeneration(Class<?> pojoClass, String testName);
+
+	PesterEvent startCheck(Class<?> pojoClass, Method testMethod, Object[] testCaseArguments);
+
+	PesterEvent startMemberResolution(Class<?> pojoClass, String kind, String member);
+}
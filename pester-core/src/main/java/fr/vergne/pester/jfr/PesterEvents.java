@@ -0,0 +1,73 @@
+package fr.vergne.pester.jfr;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link PesterEvents} creates the {@link PesterEvent}s emitted to the JDK
+ * Flight Recorder. They are disabled by default, in which case nothing is
+ * allocated and {@link PesterEvent#NO_OP} is returned. To enable them, set the
+ * system property {@value #EVENTS_PROPERTY} to <code>true</code> on a JVM
+ * providing the JDK Flight Recorder, and start a recording:
+ * 
+ * <pre>
+ * -XX:StartFlightRecording=filename=pester.jfr -Dpester.jfr=true
+ * </pre>
+ * 
+ * The events are then available in the category <code>Pester</code>. The
+ * classes referring to the JDK Flight Recorder are compiled apart, so a build
+ * of Pester targeting Java 8 without them still has these events disabled.
+ */
+public interface PesterEvents {
+
+	public static final String EVENTS_PROPERTY = "pester.jfr";
+
+	public static boolean isEnabled() {
+		return FlightRecorderLoader.FACTORY.isPresent();
+	}
+
+	/**
+	 * @param pojoClass the POJO class which definition is built
+	 * @return the started {@link PesterEvent}
+	 */
+	public static PesterEvent startDefinitionBuild(Class<?> pojoClass) {
+		return isEnabled() ? FlightRecorderLoader.FACTORY.get().startDefinitionBuild(pojoClass)
+				: PesterEvent.NO_OP;
+	}
+
+	/**
+	 * @param pojoClass the POJO class which test cases are generated
+	 * @param testName  the test method which needs the test cases
+	 * @return the started {@link PesterEvent}, to commit with the number of test
+	 *         cases
+	 */
+	public static PesterEvent startCasesGeneration(Class<?> pojoClass, String testName) {
+		return isEnabled() ? FlightRecorderLoader.FACTORY.get().startCasesGeneration(pojoClass, testName)
+				: PesterEvent.NO_OP;
+	}
+
+	/**
+	 * @param pojoClass         the POJO class which is checked
+	 * @param testMethod        the test method which checks it
+	 * @param testCaseArguments the arguments of the test case, which include the
+	 *                          element of the definition checked
+	 * @return the started {@link PesterEvent}, to commit with the outcome of the
+	 *         check
+	 */
+	public static PesterEvent startCheck(Class<?> pojoClass, Method testMethod, Object[] testCaseArguments) {
+		return isEnabled() ? FlightRecorderLoader.FACTORY.get().startCheck(pojoClass, testMethod, testCaseArguments)
+				: PesterEvent.NO_OP;
+	}
+
+	/**
+	 * @param pojoClass the POJO class which member is searched
+	 * @param kind      the kind of member, like <code>field</code> or
+	 *                  <code>getter</code>
+	 * @param member    the member searched
+	 * @return the started {@link PesterEvent}, to commit with the number of
+	 *         candidates found
+	 */
+	public static PesterEvent startMemberResolution(Class<?> pojoClass, String kind, String member) {
+		return isEnabled() ? FlightRecorderLoader.FACTORY.get().startMemberResolution(pojoClass, kind, member)
+				: PesterEvent.NO_OP;
+	}
+}
@@ -0,0 +1,22 @@
+package fr.vergne.pester.junit;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import fr.vergne.pester.definition.PojoDefinition;
+
+/**
+ * The {@link Dimension}s are the sources of a {@link PojoDefinition} which are
+ * combined to generate test cases. A {@link TestParameter} depends on some of
+ * them, so only these ones need to be enumerated to generate its values.
+ */
+enum Dimension {
+	PARENT_CLASS, INTERFACE, CONSTRUCTOR, PROPERTY;
+
+	static Set<Dimension> of(TestParameter[] testParameters) {
+		Set<Dimension> dimensions = EnumSet.noneOf(Dimension.class);
+		Stream.of(testParameters).map(TestParameter::getDimensions).forEach(dimensions::addAll);
+		return dimensions;
+	}
+}
@@ -1,17 +1,24 @@
 package fr.vergne.pester.junit;
 
+import static fr.vergne.pester.junit.Dimension.*;
+
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.params.provider.Arguments;
 
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Counter;
 import fr.vergne.pester.definition.ConstructorDefinition;
 import fr.vergne.pester.definition.PojoDefinition;
 import fr.vergne.pester.definition.PropertyDefinition;
@@ -20,29 +27,44 @@ import fr.vergne.pester.value.Nullable;
 public class TestCasesGenerator {
 	
 	public static Stream<Arguments> streamTestCases(PojoDefinition<?> pojoDefinition, TestParameter[] testParameters) {
+		PesterMetrics metrics = PesterMetrics.current();
 		return Stream.of(pojoDefinition)
-				.flatMap(toDefinitionItems())
+				.flatMap(toDefinitionItems(Dimension.of(testParameters)))
 				.map(toOptionalArguments(testParameters))
 				.filter(hasAllArguments())
 				.distinct()
-				.map(toTestArguments());
+				.map(toTestArguments())
+				.peek(testCase -> metrics.count(Counter.TEST_CASES));
+	}
+	
+	/**
+	 * Estimate the number of test cases of
+	 * {@link #streamTestCases(PojoDefinition, TestParameter[])} without
+	 * generating them. It counts the combinations of the definition items, before
+	 * removing the ones which miss some arguments, so it is an upper bound.
+	 */
+	public static long estimateTestCases(PojoDefinition<?> pojoDefinition, TestParameter[] testParameters) {
+		Set<Dimension> dimensions = Dimension.of(testParameters);
+		return countValues(dimensions, PARENT_CLASS, () -> pojoDefinition.getParentClass().isPresent() ? 1 : 0)
+				* countValues(dimensions, INTERFACE, () -> pojoDefinition.getInterfaces().size())
+				* countValues(dimensions, CONSTRUCTOR, () -> pojoDefinition.getConstructors().size())
+				* countValues(dimensions, PROPERTY, () -> pojoDefinition.getProperties().size());
+	}
+
+	private static long countValues(Set<Dimension> dimensions, Dimension dimension, IntSupplier countSupplier) {
+		// Like the extra null of retrieveValues
+		return dimensions.contains(dimension) ? Math.max(1, countSupplier.getAsInt()) : 1;
 	}
 	
-	private static <P> Function<PojoDefinition<P>, Stream<DefinitionItem<P>>> toDefinitionItems() {
+	private static <P> Function<PojoDefinition<P>, Stream<DefinitionItem<P>>> toDefinitionItems(Set<Dimension> dimensions) {
 		return pojoDefinition -> {
-			// Retrieve the various data sources
-			Collection<Class<?>> parentClasses = new LinkedList<>(Arrays.asList(pojoDefinition.getParentClass().orElse(null)));
-			Collection<Class<?>> interfaceClasses = new LinkedList<>(pojoDefinition.getInterfaces());
-			Collection<ConstructorDefinition<P>> constructors = new LinkedList<>(pojoDefinition.getConstructors());
-			Collection<PropertyDefinition<P, ?>> properties = new LinkedList<>(pojoDefinition.getProperties());
-			
-			// Ensure each of them has at least one element
-			Stream.of(parentClasses, interfaceClasses, constructors, properties)
-					.filter(collection -> collection.isEmpty())
-					.forEach(collection -> collection.add(null));
+			// Retrieve the various data sources, only for the requested dimensions
+			Collection<Class<?>> parentClasses = retrieveValues(dimensions, PARENT_CLASS, () -> Arrays.asList(pojoDefinition.getParentClass().orElse(null)));
+			Collection<Class<?>> interfaceClasses = retrieveValues(dimensions, INTERFACE, pojoDefinition::getInterfaces);
+			Collection<ConstructorDefinition<P>> constructors = retrieveValues(dimensions, CONSTRUCTOR, pojoDefinition::getConstructors);
+			Collection<PropertyDefinition<P, ?>> properties = retrieveValues(dimensions, PROPERTY, pojoDefinition::getProperties);
 			
 			// Generate the combinations
-			// The extra null prevents from having zero data because of an empty source
 			return parentClasses.stream()
 					.flatMap(parentClass -> interfaceClasses.stream()
 						.flatMap(interfaceClass -> constructors.stream()
@@ -56,6 +78,14 @@ public class TestCasesGenerator {
 		};
 	}
 	
+	private static <T> Collection<T> retrieveValues(Set<Dimension> dimensions, Dimension dimension,
+			Supplier<Collection<T>> valuesSupplier) {
+		Collection<T> values = dimensions.contains(dimension) ? valuesSupplier.get() : Collections.emptyList();
+		// The extra null prevents from having zero data because of an empty source
+		// or an ignored dimension
+		return values.isEmpty() ? Collections.singletonList(null) : values;
+	}
+	
 	private static Function<List<Optional<?>>, Arguments> toTestArguments() {
 		return arguments -> Arguments.of(arguments.stream()
 				.map(Optional::get)
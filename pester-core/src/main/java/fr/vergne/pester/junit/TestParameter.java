@@ -3,7 +3,11 @@ package fr.vergne.pester.junit;
 import static fr.vergne.pester.options.Mutability.*;
 import static java.util.function.Predicate.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -50,61 +54,85 @@ public enum TestParameter {
 	DEFAULT_VALUE(onProperty(PropertyDefinition::getDefaultValue)),
 
 	POJO_CLASS(onPojo(PojoDefinition::getPojoClass)),
-	POJO_PARENT_CLASS(DefinitionItem::getParentClass),
-	POJO_INTERFACE(DefinitionItem::getInterfaceClass),
+	POJO_PARENT_CLASS(new Extractor(DefinitionItem::getParentClass, Dimension.PARENT_CLASS)),
+	POJO_INTERFACE(new Extractor(DefinitionItem::getInterfaceClass, Dimension.INTERFACE)),
 	POJO_GENERATOR(onPojo(PojoDefinition::getPojoGenerator)),
 	VALUE_GENERATOR(onProperty(PropertyDefinition::getGenerator)),
 	VALUE_MODIFIER(onProperty(PropertyDefinition::getModifier));
 
-	private final Function<DefinitionItem<?>, ?> extractor;
+	private final Extractor extractor;
 
-	private <T> TestParameter(Function<DefinitionItem<?>, ?> extractor) {
+	private TestParameter(Extractor extractor) {
 		this.extractor = extractor;
 	}
 
 	Object extractFrom(DefinitionItem<?> data) {
-		return extractor.apply(data);
+		return extractor.function.apply(data);
 	}
 
-	private static Function<DefinitionItem<?>, ?> onPojo(Function<PojoDefinition<?>, Object> extractor) {
-		return definitionData -> definitionData.getPojo().map(extractor).orElse(Optional.empty());
+	/**
+	 * @return the {@link Dimension}s on which the values of this
+	 *         {@link TestParameter} depend
+	 */
+	Set<Dimension> getDimensions() {
+		return extractor.dimensions;
 	}
 
-	private static Function<DefinitionItem<?>, ?> onConstructor(Function<ConstructorDefinition<?>, Object> extractor) {
-		return definitionData -> definitionData.getConstructor().map(extractor).orElse(Optional.empty());
+	private static class Extractor {
+		private final Function<DefinitionItem<?>, ?> function;
+		private final Set<Dimension> dimensions;
+
+		public Extractor(Function<DefinitionItem<?>, ?> function, Dimension... dimensions) {
+			this.function = function;
+			this.dimensions = Collections.unmodifiableSet(
+					dimensions.length == 0 ? EnumSet.noneOf(Dimension.class) : EnumSet.copyOf(Arrays.asList(dimensions)));
+		}
+	}
+
+	private static Extractor onPojo(Function<PojoDefinition<?>, Object> extractor) {
+		return new Extractor(definitionData -> definitionData.getPojo().map(extractor).orElse(Optional.empty()));
+	}
+
+	private static Extractor onConstructor(Function<ConstructorDefinition<?>, Object> extractor) {
+		return new Extractor(definitionData -> definitionData.getConstructor().map(extractor).orElse(Optional.empty()),
+				Dimension.CONSTRUCTOR);
 	}
 
-	private static Function<DefinitionItem<?>, ?> onProperty(Function<PropertyDefinition<?, ?>, Object> extractor) {
-		return definitionData -> definitionData.getProperty().map(extractor).orElse(Optional.empty());
+	private static Extractor onProperty(Function<PropertyDefinition<?, ?>, Object> extractor) {
+		return new Extractor(definitionData -> definitionData.getProperty().map(extractor).orElse(Optional.empty()),
+				Dimension.PROPERTY);
 	}
 
-	private static Function<DefinitionItem<?>, ?> onField(Function<FieldDefinition<?, ?>, Object> extractor) {
-		return definitionData -> definitionData
+	private static Extractor onField(Function<FieldDefinition<?, ?>, Object> extractor) {
+		return new Extractor(definitionData -> definitionData
 				.getProperty()
 				.map(def -> def.getFieldDefinition().orElse(null))
 				.map(extractor)
-				.orElse(Optional.empty());
+				.orElse(Optional.empty()),
+				Dimension.PROPERTY);
 	}
 
-	private static Function<DefinitionItem<?>, ?> onGetter(Function<GetterDefinition<?, ?>, Object> extractor) {
-		return definitionData -> definitionData
+	private static Extractor onGetter(Function<GetterDefinition<?, ?>, Object> extractor) {
+		return new Extractor(definitionData -> definitionData
 				.getProperty()
 				.map(def -> def.getGetterDefinition().orElse(null))
 				.map(extractor)
-				.orElse(Optional.empty());
+				.orElse(Optional.empty()),
+				Dimension.PROPERTY);
 	}
 
-	private static Function<DefinitionItem<?>, ?> onSetter(Function<SetterDefinition<?, ?>, Object> extractor) {
-		return definitionData -> definitionData
+	private static Extractor onSetter(Function<SetterDefinition<?, ?>, Object> extractor) {
+		return new Extractor(definitionData -> definitionData
 				.getProperty()
 				.map(def -> def.getSetterDefinition().orElse(null))
 				.map(extractor)
-				.orElse(Optional.empty());
+				.orElse(Optional.empty()),
+				Dimension.PROPERTY);
 	}
 
-	private static Function<DefinitionItem<?>, ?> onConstructorProperty(
+	private static Extractor onConstructorProperty(
 			BiFunction<ConstructorDefinition<?>, PropertyDefinition<?, ?>, ?> extractor) {
-		return definitionData -> {
+		return new Extractor(definitionData -> {
 			Optional<? extends ConstructorDefinition<?>> constructorOpt = definitionData.getConstructor();
 			Optional<? extends PropertyDefinition<?, ?>> propertyOpt = definitionData.getProperty();
 			if (constructorOpt.isPresent() && propertyOpt.isPresent()) {
@@ -115,6 +143,6 @@ public enum TestParameter {
 				}
 			}
 			return Optional.empty();
-		};
+		}, Dimension.CONSTRUCTOR, Dimension.PROPERTY);
 	}
 }
@@ -0,0 +1,51 @@
+package fr.vergne.pester.junit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.params.provider.Arguments;
+
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Timer;
+import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.util.cache.Cache;
+
+/**
+ * A {@link TestPlan} provides the test cases of a {@link PojoDefinition}. The
+ * cases of given {@link TestParameter}s are generated once, so they can be
+ * shared between the components which need them.
+ */
+public class TestPlan {
+
+	private final PojoDefinition<?> pojoDefinition;
+	private final Function<TestParameter[], List<Arguments>> testCases;
+
+	public TestPlan(PojoDefinition<?> pojoDefinition) {
+		this.pojoDefinition = pojoDefinition;
+		this.testCases = Cache.onFunction(this::generateTestCases);
+	}
+
+	public PojoDefinition<?> getPojoDefinition() {
+		return pojoDefinition;
+	}
+
+	public List<Arguments> getTestCases(TestParameter[] testParameters) {
+		return testCases.apply(testParameters);
+	}
+
+	public boolean hasTestCases(TestParameter[] testParameters) {
+		return !getTestCases(testParameters).isEmpty();
+	}
+
+	private List<Arguments> generateTestCases(TestParameter[] testParameters) {
+		PesterMetrics metrics = PesterMetrics.current();
+		long start = metrics.startTimer();
+		List<Arguments> testCases = Collections.unmodifiableList(TestCasesGenerator
+				.streamTestCases(pojoDefinition, testParameters)
+				.collect(Collectors.toList()));
+		metrics.stopTimer(Timer.TEST_CASES_GENERATION, start);
+		return testCases;
+	}
+}
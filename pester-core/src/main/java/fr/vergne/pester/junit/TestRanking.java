@@ -0,0 +1,123 @@
+package fr.vergne.pester.junit;
+
+import static fr.vergne.pester.junit.TestParameter.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import fr.vergne.pester.junit.annotation.DefinitionSource;
+import fr.vergne.pester.util.cache.Cache;
+
+/**
+ * {@link TestRanking} computes once the rank of each test {@link Method}, such
+ * that the lower the rank, the earlier the test should run. The rank packs all
+ * the ordering criteria in a single <code>long</code>, from the most to the
+ * least significant bits:
+ * <ol>
+ * <li>tests using {@link TestParameter}s first,</li>
+ * <li>the category of tested parameters (constructor, field, getter, etc.),</li>
+ * <li>the number of parameters, fewer first,</li>
+ * <li>the parameters themselves, in the order of their enum.</li>
+ * </ol>
+ * Two methods of the same rank are not ordered, so callers may complete it,
+ * like {@link PesterTestComparator} does with the method names.
+ */
+public class TestRanking {
+
+	private static final int PARAMETER_BITS = Integer.SIZE - Integer.numberOfLeadingZeros(TestParameter.values().length);
+	private static final int LENGTH_BITS = 4;
+	private static final int CATEGORY_BITS = 4;
+	// Keep the sign bit and the unparameterized bit out of the parameters bits
+	static final int MAX_RANKED_PARAMETERS = (Long.SIZE - 2 - CATEGORY_BITS - LENGTH_BITS) / PARAMETER_BITS;
+	private static final int PARAMETERS_SHIFT = 0;
+	private static final int LENGTH_SHIFT = PARAMETERS_SHIFT + MAX_RANKED_PARAMETERS * PARAMETER_BITS;
+	private static final int CATEGORY_SHIFT = LENGTH_SHIFT + LENGTH_BITS;
+	private static final long UNPARAMETERIZED = 1L << (CATEGORY_SHIFT + CATEGORY_BITS);
+
+	// Identify the tested parameters.
+	private static final Predicate<Set<TestParameter>> POJO_CLASS_TESTED = parameters -> parameters.contains(POJO_CLASS);
+	private static final Predicate<Set<TestParameter>> CONSTRUCTOR_TESTED = parameters -> parameters.contains(CONSTRUCTOR) || parameters.contains(DEFAULT_CONSTRUCTOR);
+	private static final Predicate<Set<TestParameter>> FIELD_TESTED = parameters -> parameters.contains(FIELD) || parameters.contains(MUTABLE_FIELD);
+	private static final Predicate<Set<TestParameter>> GETTER_TESTED = parameters -> parameters.contains(GETTER);
+	private static final Predicate<Set<TestParameter>> SETTER_TESTED = parameters -> parameters.contains(SETTER);
+	private static final Predicate<Set<TestParameter>> NO_FIELD_TESTED = FIELD_TESTED.negate();
+	private static final Predicate<Set<TestParameter>> NO_GETTER_TESTED = GETTER_TESTED.negate();
+	private static final Predicate<Set<TestParameter>> NO_SETTER_TESTED = SETTER_TESTED.negate();
+
+	// Identify the different categories (patterns of parameters).
+	// They are ordered by priority to establish the comparison.
+	private static final List<Predicate<Set<TestParameter>>> CATEGORIES = Arrays.asList(
+			POJO_CLASS_TESTED,
+			CONSTRUCTOR_TESTED.and(NO_FIELD_TESTED).and(NO_GETTER_TESTED),
+			CONSTRUCTOR_TESTED.and(FIELD_TESTED).and(NO_GETTER_TESTED),
+			CONSTRUCTOR_TESTED.and(NO_FIELD_TESTED).and(GETTER_TESTED),
+			CONSTRUCTOR_TESTED.and(FIELD_TESTED).and(GETTER_TESTED),
+			FIELD_TESTED.and(NO_GETTER_TESTED).and(NO_SETTER_TESTED),
+			NO_FIELD_TESTED.and(GETTER_TESTED).and(NO_SETTER_TESTED),
+			FIELD_TESTED.and(GETTER_TESTED).and(NO_SETTER_TESTED),
+			NO_FIELD_TESTED.and(NO_GETTER_TESTED).and(SETTER_TESTED),
+			FIELD_TESTED.and(NO_GETTER_TESTED).and(SETTER_TESTED),
+			NO_FIELD_TESTED.and(GETTER_TESTED).and(SETTER_TESTED),
+			FIELD_TESTED.and(GETTER_TESTED).and(SETTER_TESTED));
+
+	private static final Function<Method, Long> RANKS = Cache.onFunction(TestRanking::computeRank);
+
+	private TestRanking() {
+		// Static usage only
+	}
+
+	public static long rankOf(Method method) {
+		return RANKS.apply(method);
+	}
+
+	private static long computeRank(Method method) {
+		return AnnotationSupport.findAnnotation(method, DefinitionSource.class)
+				.map(DefinitionSource::value)
+				.map(TestRanking::computeRank)
+				// Prioritize parameters-based methods
+				.orElse(UNPARAMETERIZED);
+	}
+
+	private static long computeRank(TestParameter[] parameters) {
+		return (long) computeCategory(parameters) << CATEGORY_SHIFT
+				| (long) Math.min(parameters.length, (1 << LENGTH_BITS) - 1) << LENGTH_SHIFT
+				| computeParametersScore(parameters) << PARAMETERS_SHIFT;
+	}
+
+	private static int computeCategory(TestParameter[] parameters) {
+		Set<TestParameter> parametersSet = parameters.length == 0
+				? EnumSet.noneOf(TestParameter.class)
+				: EnumSet.copyOf(Arrays.asList(parameters));
+		for (int index = 0; index < CATEGORIES.size(); index++) {
+			if (CATEGORIES.get(index).test(parametersSet)) {
+				return index;
+			}
+		}
+		throw new RuntimeException("Situation not considered: " + Arrays.deepToString(parameters));
+	}
+
+	private static long computeParametersScore(TestParameter[] parameters) {
+		// A single parameter is assigned a score based on its priority.
+		// The priority is decided by the position of the parameter in its enum.
+		// A better score corresponds to a higher place, so a lower score (smaller index in the enum).
+		// The scores are sorted by increasing value, so the lowest decides first.
+		int[] scores = Arrays.stream(parameters).mapToInt(TestParameter::ordinal).sorted().toArray();
+
+		// Beyond the bits available, remaining parameters are not discriminated
+		long score = 0;
+		for (int i = 0; i < MAX_RANKED_PARAMETERS; i++) {
+			score <<= PARAMETER_BITS;
+			if (i < scores.length) {
+				score |= scores[i];
+			}
+		}
+		return score;
+	}
+}
@@ -1,6 +1,5 @@
 package fr.vergne.pester.junit.extension;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -9,10 +8,12 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.platform.commons.support.AnnotationSupport;
 
+import fr.vergne.pester.PesterMetrics;
 import fr.vergne.pester.PesterTest;
-import fr.vergne.pester.definition.PojoDefinition;
-import fr.vergne.pester.junit.TestCasesGenerator;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
 import fr.vergne.pester.junit.TestParameter;
+import fr.vergne.pester.junit.TestPlan;
 import fr.vergne.pester.junit.annotation.DefinitionSource;
 import fr.vergne.pester.util.cache.Cache;
 import fr.vergne.pester.util.cache.Key;
@@ -20,20 +21,26 @@ import fr.vergne.pester.util.cache.ParameteredKey;
 
 public class DefinitionCasesProvider implements ArgumentsProvider {
 	
-	public static final Key<List<Object[]>> PARAMETERIZED_TEST_CASES = ParameteredKey.create(new Object());
+	public static final Key<Arguments[]> PARAMETERIZED_TEST_CASES = ParameteredKey.create(new Object());
 	
 	@Override
 	public Stream<Arguments> provideArguments(ExtensionContext context) throws Exception {
+		TestPlan testPlan = getTestPlan(context);
+		String testName = context.getRequiredTestMethod().getName();
+		PesterEvent event = PesterEvents.startCasesGeneration(testPlan.getPojoDefinition().getPojoClass(), testName);
+		List<Arguments> testCases = testPlan.getTestCases(getTestParameters(context));
+		event.withCount(testCases.size()).commit();
+		PesterMetrics.current().countCases(testName, testCases.size());
+		// Cache them all before any invocation, for reuse elsewhere even with concurrent invocations
+		// Stored as an array to retrieve each invocation's case directly by its index
 		Cache cache = new ExtensionCache(context).getTestCache(context.getUniqueId());
-		List<Object[]> testCases = cache.get(PARAMETERIZED_TEST_CASES, LinkedList::new);
-		return TestCasesGenerator
-				.streamTestCases(getDefinition(context), getTestParameters(context))
-				.peek(args -> testCases.add(args.get())); // Cache them for reuse elsewhere
+		cache.get(PARAMETERIZED_TEST_CASES, () -> testCases.toArray(new Arguments[testCases.size()]));
+		return testCases.stream();
 	}
 	
-	private PojoDefinition<?> getDefinition(ExtensionContext context) {
+	private TestPlan getTestPlan(ExtensionContext context) {
 		PesterTest<?> testInstance = (PesterTest<?>) context.getRequiredTestInstance();
-		return new ExtensionCache(context).getPojoDefinition(testInstance);
+		return new ExtensionCache(context).getTestPlan(testInstance);
 	}
 	
 	private TestParameter[] getTestParameters(ExtensionContext context) {
@@ -2,15 +2,24 @@ package fr.vergne.pester.junit.extension;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.TestAbortedException;
 
+import fr.vergne.pester.PesterTest;
 import fr.vergne.pester.factory.IncompleteDefinitionException;
+import fr.vergne.pester.factory.RandomGeneratorFactory;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
 import fr.vergne.pester.junit.TestParameter;
 import fr.vergne.pester.junit.annotation.DefinitionSource;
 import fr.vergne.pester.junit.annotation.TestTarget;
@@ -18,13 +27,58 @@ import fr.vergne.pester.model.DefinitionSourcer;
 import fr.vergne.pester.model.DefinitionUnfulfilledException;
 import fr.vergne.pester.util.cache.Cache;
 
-public class DefinitionSourcerExtension implements TestExecutionExceptionHandler {
+public class DefinitionSourcerExtension
+		implements TestExecutionExceptionHandler, BeforeTestExecutionCallback, AfterTestExecutionCallback {
 
 	private static final Logger LOGGER = Logger.getLogger(DefinitionSourcerExtension.class.getName());
+	private static final String INVOCATION_NUMBER_PREFIX = "test-template-invocation:#";
+	private static final Namespace NAMESPACE = Namespace.create(DefinitionSourcerExtension.class);
+	private static final String CHECK_EVENT = "checkEvent";
+
+	@Override
+	public void beforeTestExecution(ExtensionContext context) {
+		if (!AnnotationSupport.isAnnotated(context.getTestMethod(), DefinitionSource.class)) {
+			return;
+		}
+		RandomGeneratorFactory.startScope(context.getUniqueId());
+		if (PesterEvents.isEnabled()) {
+			PesterTest<?> testInstance = (PesterTest<?>) context.getRequiredTestInstance();
+			Class<?> pojoClass = new ExtensionCache(context).getTestPlan(testInstance).getPojoDefinition().getPojoClass();
+			PesterEvent event = PesterEvents.startCheck(pojoClass, context.getRequiredTestMethod(),
+					getTestCaseArguments(context));
+			context.getStore(NAMESPACE).put(CHECK_EVENT, event);
+		}
+	}
+
+	@Override
+	public void afterTestExecution(ExtensionContext context) {
+		RandomGeneratorFactory.endScope();
+		PesterEvent event = context.getStore(NAMESPACE).remove(CHECK_EVENT, PesterEvent.class);
+		if (event != null) {
+			String outcome = context.getExecutionException()
+					.map(cause -> cause instanceof TestAbortedException ? PesterEvent.ABORTED : PesterEvent.FAILED)
+					.orElse(PesterEvent.PASSED);
+			event.withOutcome(outcome).commit();
+		}
+	}
 
 	@Override
 	public void handleTestExecutionException(ExtensionContext context, Throwable cause) throws Throwable {
 		Method testMethod = context.getTestMethod().get();
+		throw sourceFailure(testMethod, () -> getTestCaseArguments(context), cause);
+	}
+
+	/**
+	 * Attribute the failure of a test to the definition it targets, so the
+	 * failure is reported with the stack trace of this definition.
+	 * 
+	 * @param testMethod the test which failed
+	 * @param testCaseArguments the arguments of the failing test case
+	 * @param cause the failure of the test
+	 * @return the failure to report, which is the cause itself if it cannot be
+	 *         attributed to a definition
+	 */
+	public static Throwable sourceFailure(Method testMethod, Supplier<Object[]> testCaseArguments, Throwable cause) {
 		Optional<DefinitionSource> sourceAnnot = AnnotationSupport.findAnnotation(testMethod, DefinitionSource.class);
 		Optional<TestTarget> targetAnnot = AnnotationSupport.findAnnotation(testMethod, TestTarget.class);
 		if (!sourceAnnot.isPresent()) {
@@ -36,7 +90,7 @@ public class DefinitionSourcerExtension implements TestExecutionExceptionHandler
 		} else {
 			TestParameter parameter = targetAnnot.get().value();
 			int parameterIndex = Arrays.asList(sourceAnnot.get().value()).indexOf(parameter);
-			Object argument = getTestCaseArguments(context)[parameterIndex];
+			Object argument = testCaseArguments.get()[parameterIndex];
 
 			if (!(argument instanceof DefinitionSourcer)) {
 				LOGGER.warning(String.format(
@@ -54,28 +108,56 @@ public class DefinitionSourcerExtension implements TestExecutionExceptionHandler
 					rootCause = new RuntimeException("An unexpected exception occurred in Pester, please contact the Pester team", cause);
 				}
 				rootCause.setStackTrace(definitionStackTrace);
-				throw rootCause;
+				return rootCause;
 			}
 		}
-		throw cause; // By default, just throw again the exception
+		return cause; // By default, just throw again the exception
+	}
+
+	/**
+	 * @param testMethod        the test to consider
+	 * @param testCaseArguments the arguments of one of its test cases
+	 * @return the argument targeted by the test, as indicated by its
+	 *         {@link TestTarget}, if any
+	 */
+	public static Optional<Object> findTestTarget(Method testMethod, Object[] testCaseArguments) {
+		Optional<DefinitionSource> sourceAnnot = AnnotationSupport.findAnnotation(testMethod, DefinitionSource.class);
+		Optional<TestTarget> targetAnnot = AnnotationSupport.findAnnotation(testMethod, TestTarget.class);
+		if (!sourceAnnot.isPresent() || !targetAnnot.isPresent()) {
+			return Optional.empty();
+		} else {
+			int parameterIndex = Arrays.asList(sourceAnnot.get().value()).indexOf(targetAnnot.get().value());
+			return Optional.ofNullable(testCaseArguments[parameterIndex]);
+		}
 	}
 	
-	private Object[] getTestCaseArguments(ExtensionContext context) {
-		List<Object[]> testCases = getParameterizedTestCases(context);
+	static Object[] getTestCaseArguments(ExtensionContext context) {
+		Arguments[] testCases = getParameterizedTestCases(context);
 		int testCaseIndex = getParameterizedTestCaseIndex(context);
-		return testCases.get(testCaseIndex);
+		return testCases[testCaseIndex].get();
 	}
 
-	private List<Object[]> getParameterizedTestCases(ExtensionContext context) {
+	private static Arguments[] getParameterizedTestCases(ExtensionContext context) {
 		ExtensionContext parentContext = context.getParent().get();
 		Cache cache = new ExtensionCache(context).getTestCache(parentContext.getUniqueId());
 		return cache.get(DefinitionCasesProvider.PARAMETERIZED_TEST_CASES);
 	}
 
-	private int getParameterizedTestCaseIndex(ExtensionContext context) {
+	/**
+	 * The unique ID of an invocation ends with its number, like in
+	 * <code>.../[test-template-invocation:#12]</code>.
+	 */
+	private static int getParameterizedTestCaseIndex(ExtensionContext context) {
 		String contextId = context.getUniqueId();
-		String invocationNumber = contextId.replaceFirst(".*test-template-invocation:#(\\d+).*", "\\1");
-		int oneBasedInvocationIndex = Integer.parseInt(invocationNumber);
-		return oneBasedInvocationIndex - 1;
+		int position = contextId.lastIndexOf(INVOCATION_NUMBER_PREFIX) + INVOCATION_NUMBER_PREFIX.length();
+		int end = contextId.indexOf(']', position);
+		if (position < INVOCATION_NUMBER_PREFIX.length() || end < 0) {
+			throw new IllegalStateException("No invocation number in " + contextId);
+		}
+		try {
+			return Integer.parseInt(contextId.substring(position, end)) - 1;
+		} catch (NumberFormatException cause) {
+			throw new IllegalStateException("No invocation number in " + contextId, cause);
+		}
 	}
 }
@@ -12,9 +12,8 @@ import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.support.AnnotationSupport;
 
 import fr.vergne.pester.PesterTest;
-import fr.vergne.pester.definition.PojoDefinition;
-import fr.vergne.pester.junit.TestCasesGenerator;
 import fr.vergne.pester.junit.TestParameter;
+import fr.vergne.pester.junit.TestPlan;
 import fr.vergne.pester.junit.annotation.DefinitionSource;
 
 /**
@@ -44,11 +43,9 @@ public class EmptyParameterizedDefinitionTestsDisabler implements ExecutionCondi
 	}
 
 	private boolean hasCases(ExtensionContext context, Method testMethod) {
-		PojoDefinition<?> definition = getPojoDefinition(context);
 		TestParameter[] parameters = getTestParameters(testMethod);
 		try {
-			return TestCasesGenerator.streamTestCases(definition, parameters)
-					.findAny().isPresent();
+			return getTestPlan(context).hasTestCases(parameters);
 		} catch (Exception cause) {
 			throw new CannotCheckCasesPresenceException(cause);
 		}
@@ -61,9 +58,9 @@ public class EmptyParameterizedDefinitionTestsDisabler implements ExecutionCondi
 		}
 	}
 
-	private PojoDefinition<?> getPojoDefinition(ExtensionContext context) {
+	private TestPlan getTestPlan(ExtensionContext context) {
 		PesterTest<?> testInstance = (PesterTest<?>) context.getRequiredTestInstance();
-		return new ExtensionCache(context).getPojoDefinition(testInstance);
+		return new ExtensionCache(context).getTestPlan(testInstance);
 	}
 	
 	private TestParameter[] getTestParameters(Method testMethod) {
@@ -6,7 +6,9 @@ import org.junit.jupiter.api.extension.ExtensionContext.Store;
 
 import fr.vergne.pester.PesterTest;
 import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.junit.TestPlan;
 import fr.vergne.pester.util.cache.Cache;
+import fr.vergne.pester.util.cache.ParameteredKey;
 
 class ExtensionCache {
 
@@ -25,6 +27,13 @@ class ExtensionCache {
 						PojoDefinition.class);
 	}
 
+	public TestPlan getTestPlan(PesterTest<?> testInstance) {
+		return store.getOrComputeIfAbsent(
+				ParameteredKey.create(TestPlan.class, testInstance),
+				key -> new TestPlan(getPojoDefinition(testInstance)),
+				TestPlan.class);
+	}
+
 	public Cache getTestCache(String contextId) {
 		return store.getOrComputeIfAbsent(
 				"testCache" + contextId,
@@ -0,0 +1,60 @@
+package fr.vergne.pester.junit.extension;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.TestAbortedException;
+
+import fr.vergne.pester.junit.PesterTestComparator;
+import fr.vergne.pester.junit.annotation.DefinitionSource;
+import fr.vergne.pester.model.PojoMember;
+
+/**
+ * {@link MissingMembersSkipper} skips the test cases using a {@link PojoMember}
+ * already known to be missing. {@link PesterTestComparator} runs the presence
+ * test of a member before most of the tests using it, so once this presence
+ * test fails, the other tests are skipped instead of searching again the
+ * member and failing the same way. A test case with a single argument checks
+ * the member itself, like its presence, so it is never skipped.
+ */
+public class MissingMembersSkipper implements BeforeTestExecutionCallback {
+
+	@Override
+	public void beforeTestExecution(ExtensionContext context) {
+		if (AnnotationSupport.isAnnotated(context.getTestMethod(), DefinitionSource.class)) {
+			assumeNoMissingMember(DefinitionSourcerExtension.getTestCaseArguments(context));
+		}
+	}
+
+	/**
+	 * @param testCaseArguments the arguments of a test case
+	 * @throws TestAbortedException if one of the arguments is a
+	 *                              {@link PojoMember} known to be missing
+	 */
+	public static void assumeNoMissingMember(Object[] testCaseArguments) {
+		Optional<PojoMember> missingMember = findMissingMember(testCaseArguments);
+		if (missingMember.isPresent()) {
+			throw new TestAbortedException(missingMember.get() + " not found, skip the tests using it");
+		}
+	}
+
+	/**
+	 * @param testCaseArguments the arguments of a test case
+	 * @return the argument which is a {@link PojoMember} known to be missing, if
+	 *         the test case should be skipped
+	 */
+	public static Optional<PojoMember> findMissingMember(Object[] testCaseArguments) {
+		if (testCaseArguments.length < 2) {
+			return Optional.empty();
+		} else {
+			return Arrays.stream(testCaseArguments)
+					.filter(PojoMember.class::isInstance)
+					.map(PojoMember.class::cast)
+					.filter(PojoMember::isKnownMissing)
+					.findFirst();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package fr.vergne.pester.metrics;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+import fr.vergne.pester.util.argscheck.ArgsCheck;
+
+/**
+ * {@link ConsoleMetricsSink} prints a summary of the measures, one per line.
+ */
+public class ConsoleMetricsSink implements MetricsSink {
+
+	private final PrintStream out;
+
+	public ConsoleMetricsSink(PrintStream out) {
+		this.out = ArgsCheck.requireNonNull(out, "No stream provided");
+	}
+
+	@Override
+	public String format(MetricsSnapshot snapshot) {
+		StringBuilder summary = new StringBuilder("Pester metrics:\n");
+		snapshot.getCounters().forEach((counter, count) -> summary.append(String.format(Locale.ROOT,
+				"  %-30s %12d%n", JsonMetricsSink.nameOf(counter), count)));
+		snapshot.getTimerNanos().forEach((timer, nanos) -> summary.append(String.format(Locale.ROOT,
+				"  %-30s %12.3f ms over %d%n", JsonMetricsSink.nameOf(timer), nanos / 1_000_000.0,
+				snapshot.getTimerCounts().get(timer))));
+		if (!snapshot.getCasesPerTest().isEmpty()) {
+			summary.append("Test cases per test:\n");
+			snapshot.getCasesPerTest().forEach((testName, count) -> summary.append(String.format(Locale.ROOT,
+					"  %-60s %8d%n", testName, count)));
+		}
+		return summary.toString();
+	}
+
+	@Override
+	public void publish(MetricsSnapshot snapshot) {
+		out.print(format(snapshot));
+		out.flush();
+	}
+}
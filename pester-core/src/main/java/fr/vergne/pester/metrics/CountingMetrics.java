@@ -0,0 +1,98 @@
+package fr.vergne.pester.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.vergne.pester.PesterMetrics;
+
+/**
+ * {@link CountingMetrics} accumulates the measures in {@link LongAdder}s, so
+ * concurrent tests count without contending. Timers are optional, since they
+ * cost two calls to {@link System#nanoTime()} per measure.
+ */
+public class CountingMetrics implements PesterMetrics {
+
+	private final boolean timed;
+	private final Map<Counter, LongAdder> counters = new EnumMap<>(Counter.class);
+	private final Map<Timer, LongAdder> timerCounts = new EnumMap<>(Timer.class);
+	private final Map<Timer, LongAdder> timerNanos = new EnumMap<>(Timer.class);
+	private final Map<String, LongAdder> cases = new ConcurrentHashMap<>();
+
+	public CountingMetrics(boolean timed) {
+		this.timed = timed;
+		// Filled once, so the maps are only read afterwards
+		for (Counter counter : Counter.values()) {
+			counters.put(counter, new LongAdder());
+		}
+		for (Timer timer : Timer.values()) {
+			timerCounts.put(timer, new LongAdder());
+			timerNanos.put(timer, new LongAdder());
+		}
+	}
+
+	public boolean isTimed() {
+		return timed;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void count(Counter counter, long count) {
+		counters.get(counter).add(count);
+	}
+
+	@Override
+	public void countCases(String testName, long count) {
+		cases.computeIfAbsent(testName, name -> new LongAdder()).add(count);
+	}
+
+	@Override
+	public long startTimer() {
+		return timed ? System.nanoTime() : 0;
+	}
+
+	@Override
+	public void stopTimer(Timer timer, long start) {
+		if (timed) {
+			timerNanos.get(timer).add(System.nanoTime() - start);
+			timerCounts.get(timer).increment();
+		}
+	}
+
+	/**
+	 * @return a copy of the current measures, which is not updated by the next
+	 *         measures
+	 */
+	public MetricsSnapshot snapshot() {
+		Map<Counter, Long> countersSnapshot = new EnumMap<>(Counter.class);
+		counters.forEach((counter, adder) -> countersSnapshot.put(counter, adder.sum()));
+		Map<String, Long> casesSnapshot = new TreeMap<>();
+		cases.forEach((testName, adder) -> casesSnapshot.put(testName, adder.sum()));
+		Map<Timer, Long> timerCountsSnapshot = new EnumMap<>(Timer.class);
+		Map<Timer, Long> timerNanosSnapshot = new EnumMap<>(Timer.class);
+		if (timed) {
+			timerCounts.forEach((timer, adder) -> timerCountsSnapshot.put(timer, adder.sum()));
+			timerNanos.forEach((timer, adder) -> timerNanosSnapshot.put(timer, adder.sum()));
+		}
+		return new MetricsSnapshot(Collections.unmodifiableMap(countersSnapshot),
+				Collections.unmodifiableMap(casesSnapshot), Collections.unmodifiableMap(timerCountsSnapshot),
+				Collections.unmodifiableMap(timerNanosSnapshot));
+	}
+
+	/**
+	 * Reset all the measures to zero.
+	 */
+	public void reset() {
+		counters.values().forEach(LongAdder::reset);
+		timerCounts.values().forEach(LongAdder::reset);
+		timerNanos.values().forEach(LongAdder::reset);
+		cases.clear();
+	}
+}
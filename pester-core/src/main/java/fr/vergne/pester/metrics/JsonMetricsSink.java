@@ -0,0 +1,86 @@
+package fr.vergne.pester.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import fr.vergne.pester.util.argscheck.ArgsCheck;
+
+/**
+ * {@link JsonMetricsSink} writes the measures in a JSON file, replacing its
+ * previous content:
+ *
+ * <pre>
+ * {
+ *   "counters": {"field.lookups": 12, ...},
+ *   "timers": {"definition.build": {"count": 3, "nanos": 1234567}, ...},
+ *   "casesPerTest": {"testFieldIsPresent": 7, ...}
+ * }
+ * </pre>
+ */
+public class JsonMetricsSink implements MetricsSink {
+
+	private final Path file;
+
+	public JsonMetricsSink(Path file) {
+		this.file = ArgsCheck.requireNonNull(file, "No file provided");
+	}
+
+	@Override
+	public String format(MetricsSnapshot snapshot) {
+		StringBuilder json = new StringBuilder("{\n");
+		json.append("  \"counters\": ");
+		appendObject(json, snapshot.getCounters(), JsonMetricsSink::nameOf, (counter, count) -> count.toString());
+		json.append(",\n  \"timers\": ");
+		appendObject(json, snapshot.getTimerNanos(), JsonMetricsSink::nameOf, (timer, nanos) -> "{\"count\": "
+				+ snapshot.getTimerCounts().get(timer) + ", \"nanos\": " + nanos + "}");
+		json.append(",\n  \"casesPerTest\": ");
+		appendObject(json, snapshot.getCasesPerTest(), name -> name, (name, count) -> count.toString());
+		json.append("\n}\n");
+		return json.toString();
+	}
+
+	@Override
+	public void publish(MetricsSnapshot snapshot) {
+		try {
+			Path parent = file.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Files.write(file, format(snapshot).getBytes(StandardCharsets.UTF_8));
+		} catch (IOException cause) {
+			throw new UncheckedIOException(cause);
+		}
+	}
+
+	/**
+	 * Write a JSON object, with each value written as raw JSON.
+	 */
+	private static <K, V> void appendObject(StringBuilder json, Map<K, V> map, Function<K, String> keyWriter,
+			BiFunction<K, V, String> valueWriter) {
+		json.append("{");
+		Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<K, V> entry = iterator.next();
+			json.append('"').append(escape(keyWriter.apply(entry.getKey()))).append("\": ")
+					.append(valueWriter.apply(entry.getKey(), entry.getValue()));
+			json.append(iterator.hasNext() ? ", " : "");
+		}
+		json.append("}");
+	}
+
+	static String nameOf(Enum<?> metric) {
+		return metric.name().toLowerCase(Locale.ROOT).replace('_', '.');
+	}
+
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+}
@@ -0,0 +1,13 @@
+package fr.vergne.pester.metrics;
+
+/**
+ * {@link MetricsSink} publishes the measures of {@link CountingMetrics}.
+ */
+public interface MetricsSink {
+	/**
+	 * @return the text this {@link MetricsSink} publishes for the snapshot
+	 */
+	String format(MetricsSnapshot snapshot);
+
+	void publish(MetricsSnapshot snapshot);
+}
@@ -0,0 +1,57 @@
+package fr.vergne.pester.metrics;
+
+import java.util.Map;
+
+import fr.vergne.pester.PesterMetrics.Counter;
+import fr.vergne.pester.PesterMetrics.Timer;
+
+/**
+ * {@link MetricsSnapshot} holds the measures of {@link CountingMetrics} at a
+ * given time. Timers are empty if they were disabled.
+ */
+public class MetricsSnapshot {
+
+	private final Map<Counter, Long> counters;
+	private final Map<String, Long> casesPerTest;
+	private final Map<Timer, Long> timerCounts;
+	private final Map<Timer, Long> timerNanos;
+
+	// Package-scope constructor
+	MetricsSnapshot(Map<Counter, Long> counters, Map<String, Long> casesPerTest, Map<Timer, Long> timerCounts,
+			Map<Timer, Long> timerNanos) {
+		this.counters = counters;
+		this.casesPerTest = casesPerTest;
+		this.timerCounts = timerCounts;
+		this.timerNanos = timerNanos;
+	}
+
+	public Map<Counter, Long> getCounters() {
+		return counters;
+	}
+
+	public long getCount(Counter counter) {
+		return counters.getOrDefault(counter, 0L);
+	}
+
+	/**
+	 * @return the number of test cases generated for each test method, sorted by
+	 *         test name
+	 */
+	public Map<String, Long> getCasesPerTest() {
+		return casesPerTest;
+	}
+
+	/**
+	 * @return the number of measures of each timer
+	 */
+	public Map<Timer, Long> getTimerCounts() {
+		return timerCounts;
+	}
+
+	/**
+	 * @return the total time measured by each timer, in nanoseconds
+	 */
+	public Map<Timer, Long> getTimerNanos() {
+		return timerNanos;
+	}
+}
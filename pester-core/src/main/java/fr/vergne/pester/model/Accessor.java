@@ -0,0 +1,323 @@
+package fr.vergne.pester.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link Accessor} resolves a reflective member once into a
+ * {@link MethodHandle} and reuses it for each invocation. Reflection remains
+ * the fallback when no handle can be created, or when the arguments would not
+ * be accepted as is, so that errors are reported the same way.
+ */
+class Accessor {
+
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+	private static final Object[] NO_ARGUMENT = {};
+	private static final MethodType INT_READER = MethodType.methodType(int.class, Object.class);
+	private static final MethodType LONG_READER = MethodType.methodType(long.class, Object.class);
+	private static final MethodType DOUBLE_READER = MethodType.methodType(double.class, Object.class);
+	private static final MethodType INT_WRITER = MethodType.methodType(void.class, Object.class, int.class);
+	private static final MethodType LONG_WRITER = MethodType.methodType(void.class, Object.class, long.class);
+	private static final MethodType DOUBLE_WRITER = MethodType.methodType(void.class, Object.class, double.class);
+
+	private final Optional<MethodHandle> directHandle;
+	private final Map<MethodType, Optional<MethodHandle>> primitiveHandles = new ConcurrentHashMap<>();
+	private final Optional<MethodHandle> handle;
+	private final Optional<Class<?>> receiverClass;
+	private final Class<?> returnClass;
+	private final Class<?>[] parameterClasses;
+	private final Class<?>[] argumentClasses;
+	private final boolean[] nullableArguments;
+	private final ReflectiveInvoker fallback;
+
+	private interface ReflectiveInvoker {
+		Object invoke(Object target, Object[] arguments)
+				throws InvocationTargetException, IllegalAccessException, InstantiationException;
+	}
+
+	private interface Unreflector {
+		MethodHandle unreflect() throws IllegalAccessException;
+	}
+
+	private Accessor(AccessibleObject member, int modifiers, Class<?> declaringClass, Class<?> returnClass,
+			Class<?>[] parameterClasses, Unreflector unreflector, ReflectiveInvoker fallback) {
+		member.setAccessible(true);
+		boolean isStatic = Modifier.isStatic(modifiers);
+		this.receiverClass = isStatic ? Optional.empty() : Optional.of(declaringClass);
+		this.returnClass = returnClass;
+		this.parameterClasses = parameterClasses;
+		this.argumentClasses = new Class<?>[parameterClasses.length];
+		this.nullableArguments = new boolean[parameterClasses.length];
+		for (int i = 0; i < parameterClasses.length; i++) {
+			Class<?> parameterClass = parameterClasses[i];
+			this.argumentClasses[i] = MethodType.methodType(parameterClass).wrap().returnType();
+			this.nullableArguments[i] = !parameterClass.isPrimitive();
+		}
+		this.directHandle = createDirectHandle(unreflector, isStatic);
+		this.handle = directHandle.map(direct -> normalize(direct, parameterClasses.length));
+		this.fallback = fallback;
+	}
+
+	public static Accessor onFieldGet(java.lang.reflect.Field field) {
+		return new Accessor(field, field.getModifiers(), field.getDeclaringClass(), field.getType(), new Class<?>[0],
+				() -> LOOKUP.unreflectGetter(field),
+				(target, arguments) -> field.get(target));
+	}
+
+	public static Accessor onFieldSet(java.lang.reflect.Field field) {
+		return new Accessor(field, field.getModifiers(), field.getDeclaringClass(), void.class,
+				new Class<?>[] { field.getType() },
+				() -> LOOKUP.unreflectSetter(field),
+				(target, arguments) -> {
+					field.set(target, arguments[0]);
+					return null;
+				});
+	}
+
+	public static Accessor onMethod(java.lang.reflect.Method method) {
+		return new Accessor(method, method.getModifiers(), method.getDeclaringClass(), method.getReturnType(),
+				method.getParameterTypes(),
+				() -> LOOKUP.unreflect(method),
+				method::invoke);
+	}
+
+	public static Accessor onConstructor(java.lang.reflect.Constructor<?> constructor) {
+		// A constructor has no receiver, so we consider it as static
+		return new Accessor(constructor, Modifier.STATIC, constructor.getDeclaringClass(),
+				constructor.getDeclaringClass(), constructor.getParameterTypes(),
+				() -> LOOKUP.unreflectConstructor(constructor),
+				(target, arguments) -> constructor.newInstance(arguments));
+	}
+
+	private static Optional<MethodHandle> createDirectHandle(Unreflector unreflector, boolean isStatic) {
+		MethodHandle handle;
+		try {
+			handle = unreflector.unreflect();
+		} catch (IllegalAccessException cause) {
+			// Some members, like final fields, cannot be accessed through handles
+			return Optional.empty();
+		}
+		if (isStatic) {
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+		}
+		return Optional.of(handle);
+	}
+
+	private static MethodHandle normalize(MethodHandle handle, int parameterCount) {
+		// Normalize to (Object, Object[])Object to invoke it exactly
+		return handle
+				.asType(MethodType.genericMethodType(parameterCount + 1))
+				.asSpreader(Object[].class, parameterCount);
+	}
+
+	/**
+	 * Adapt the member to the given primitive type. It is only possible if the
+	 * member has a primitive type converted to it without loss, like when widening
+	 * a byte to an int, so no value is cast, boxed or unboxed.
+	 */
+	private Optional<MethodHandle> getPrimitiveHandle(MethodType type) {
+		return primitiveHandles.computeIfAbsent(type, t -> directHandle.map(direct -> direct.asType(t)));
+	}
+
+	private static boolean widensWithoutLoss(Class<?> sourceClass, Class<?> targetClass) {
+		if (sourceClass == targetClass) {
+			return sourceClass.isPrimitive();
+		} else if (targetClass == int.class) {
+			return sourceClass == byte.class || sourceClass == short.class || sourceClass == char.class;
+		} else if (targetClass == long.class) {
+			return sourceClass == int.class || widensWithoutLoss(sourceClass, int.class);
+		} else if (targetClass == double.class) {
+			return sourceClass == float.class || sourceClass == int.class || widensWithoutLoss(sourceClass, int.class);
+		} else {
+			return false;
+		}
+	}
+
+	public Object invoke(Object target) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+		return invoke(target, NO_ARGUMENT);
+	}
+
+	public Object invoke(Object target, Object... arguments)
+			throws InvocationTargetException, IllegalAccessException, InstantiationException {
+		if (handle.isPresent() && accepts(target, arguments)) {
+			try {
+				return (Object) handle.get().invokeExact(target, arguments);
+			} catch (Throwable cause) {
+				// Arguments are already checked, so it can only come from the member
+				throw new InvocationTargetException(cause);
+			}
+		} else {
+			return fallback.invoke(target, arguments);
+		}
+	}
+
+	public int invokeForInt(Object target) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+		Optional<MethodHandle> handle = getReaderHandle(target, INT_READER);
+		if (handle.isPresent()) {
+			try {
+				return (int) handle.get().invokeExact(target);
+			} catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
+		} else {
+			return toInt(invoke(target));
+		}
+	}
+
+	public long invokeForLong(Object target) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+		Optional<MethodHandle> handle = getReaderHandle(target, LONG_READER);
+		if (handle.isPresent()) {
+			try {
+				return (long) handle.get().invokeExact(target);
+			} catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
+		} else {
+			return toLong(invoke(target));
+		}
+	}
+
+	public double invokeForDouble(Object target) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+		Optional<MethodHandle> handle = getReaderHandle(target, DOUBLE_READER);
+		if (handle.isPresent()) {
+			try {
+				return (double) handle.get().invokeExact(target);
+			} catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
+		} else {
+			return toDouble(invoke(target));
+		}
+	}
+
+	public void invokeWithInt(Object target, int value) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+		Optional<MethodHandle> handle = getWriterHandle(target, INT_WRITER);
+		if (handle.isPresent()) {
+			try {
+				handle.get().invokeExact(target, value);
+			} catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
+		} else {
+			invoke(target, value);
+		}
+	}
+
+	public void invokeWithLong(Object target, long value) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+		Optional<MethodHandle> handle = getWriterHandle(target, LONG_WRITER);
+		if (handle.isPresent()) {
+			try {
+				handle.get().invokeExact(target, value);
+			} catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
+		} else {
+			invoke(target, value);
+		}
+	}
+
+	public void invokeWithDouble(Object target, double value) throws InvocationTargetException, IllegalAccessException, InstantiationException {
+		Optional<MethodHandle> handle = getWriterHandle(target, DOUBLE_WRITER);
+		if (handle.isPresent()) {
+			try {
+				handle.get().invokeExact(target, value);
+			} catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
+		} else {
+			invoke(target, value);
+		}
+	}
+
+	/**
+	 * @return the handle reading a primitive value, or nothing if the member
+	 *         cannot be unreflected, in which case the reflective call returns a
+	 *         boxed value of its primitive type
+	 * @throws IncompatibleValueException if the member does not return a
+	 *                                    primitive type converted without loss
+	 */
+	private Optional<MethodHandle> getReaderHandle(Object target, MethodType type) {
+		checkPrimitive(parameterClasses.length == 0, returnClass, type.returnType());
+		checkReceiver(target);
+		return getPrimitiveHandle(type);
+	}
+
+	/**
+	 * @return the handle writing a primitive value, or nothing if the member
+	 *         cannot be unreflected, in which case the reflective call converts
+	 *         the boxed value to the primitive type of the member
+	 * @throws IncompatibleValueException if the value cannot be converted without
+	 *                                    loss to the primitive type of the member
+	 */
+	private Optional<MethodHandle> getWriterHandle(Object target, MethodType type) {
+		checkPrimitive(parameterClasses.length == 1, type.parameterType(1),
+				parameterClasses.length == 1 ? parameterClasses[0] : void.class);
+		checkReceiver(target);
+		return getPrimitiveHandle(type);
+	}
+
+	private static void checkPrimitive(boolean hasValue, Class<?> sourceClass, Class<?> targetClass) {
+		if (!hasValue || !widensWithoutLoss(sourceClass, targetClass)) {
+			throw new IncompatibleValueException(sourceClass + " values cannot be used as " + targetClass);
+		}
+	}
+
+	private void checkReceiver(Object target) {
+		if (target == null && receiverClass.isPresent()) {
+			throw new NullPointerException("No instance of " + receiverClass.get() + " provided");
+		} else if (!acceptsReceiver(target)) {
+			throw new IllegalArgumentException(target + " is not an instance of " + receiverClass.get());
+		}
+	}
+
+	private static int toInt(Object value) {
+		return value instanceof Character ? (Character) value : ((Number) value).intValue();
+	}
+
+	private static long toLong(Object value) {
+		return value instanceof Character ? (Character) value : ((Number) value).longValue();
+	}
+
+	private static double toDouble(Object value) {
+		return value instanceof Character ? (Character) value : ((Number) value).doubleValue();
+	}
+
+	/**
+	 * Thrown when a primitive value is read from or written to a member which
+	 * type cannot be converted to it without loss.
+	 */
+	@SuppressWarnings("serial")
+	static class IncompatibleValueException extends IllegalArgumentException {
+		IncompatibleValueException(String message) {
+			super(message);
+		}
+	}
+
+	private boolean acceptsReceiver(Object target) {
+		return !receiverClass.isPresent() || receiverClass.get().isInstance(target);
+	}
+
+	private boolean accepts(Object target, Object[] arguments) {
+		if (!acceptsReceiver(target)) {
+			return false;
+		} else if (arguments.length != argumentClasses.length) {
+			return false;
+		} else {
+			for (int i = 0; i < arguments.length; i++) {
+				Object argument = arguments[i];
+				if (argument == null ? !nullableArguments[i] : !argumentClasses[i].isInstance(argument)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package fr.vergne.pester.model;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link ClassMembers} indexes the declared members of a {@link Class}. Each
+ * {@link Class} is scanned only once, whatever the number of model objects
+ * querying it, to avoid copying the members arrays at each search.
+ */
+public class ClassMembers {
+
+	private static final ClassValue<ClassMembers> INDEX = new ClassValue<ClassMembers>() {
+		@Override
+		protected ClassMembers computeValue(Class<?> type) {
+			return new ClassMembers(type);
+		}
+	};
+
+	private final Map<String, Field> fields;
+	private final List<Method> methods;
+	private final Map<String, List<Method>> methodsByName;
+	private final Map<Integer, List<Method>> methodsByArity;
+	private final List<Constructor<?>> constructors;
+	private final Map<Integer, List<Constructor<?>>> constructorsByArity;
+	private final Map<List<Class<?>>, Constructor<?>> constructorsByParameters;
+
+	private ClassMembers(Class<?> type) {
+		this.fields = Collections.unmodifiableMap(Stream.of(type.getDeclaredFields())
+				.collect(Collectors.toMap(Field::getName, field -> field, (f1, f2) -> f1, LinkedHashMap::new)));
+
+		this.methods = Collections.unmodifiableList(Arrays.asList(type.getDeclaredMethods()));
+		this.methodsByName = groupBy(methods, Method::getName);
+		this.methodsByArity = groupBy(methods, Method::getParameterCount);
+
+		this.constructors = Collections.unmodifiableList(Arrays.asList(type.getDeclaredConstructors()));
+		this.constructorsByArity = groupBy(constructors, Constructor::getParameterCount);
+		this.constructorsByParameters = Collections.unmodifiableMap(constructors.stream()
+				.collect(Collectors.toMap(
+						constructor -> Arrays.asList(constructor.getParameterTypes()),
+						constructor -> constructor)));
+	}
+
+	public static ClassMembers of(Class<?> type) {
+		return INDEX.get(type);
+	}
+
+	private static <K, M> Map<K, List<M>> groupBy(List<M> members, Function<M, K> keyExtractor) {
+		Map<K, List<M>> groups = members.stream()
+				.collect(Collectors.groupingBy(keyExtractor, LinkedHashMap::new, Collectors.toList()));
+		groups.replaceAll((key, group) -> Collections.unmodifiableList(group));
+		return Collections.unmodifiableMap(groups);
+	}
+
+	// FIELDS
+
+	public Collection<Field> getFields() {
+		return fields.values();
+	}
+
+	public Optional<Field> findField(String name) {
+		return Optional.ofNullable(fields.get(name));
+	}
+
+	// METHODS
+
+	public List<Method> getMethods() {
+		return methods;
+	}
+
+	public List<Method> getMethods(String name) {
+		return methodsByName.getOrDefault(name, Collections.emptyList());
+	}
+
+	public List<Method> getMethods(int arity) {
+		return methodsByArity.getOrDefault(arity, Collections.emptyList());
+	}
+
+	public Optional<Method> findMethod(String name, Class<?>... parameterTypes) {
+		return getMethods(name).stream()
+				.filter(method -> Arrays.equals(method.getParameterTypes(), parameterTypes))
+				.findFirst();
+	}
+
+	// CONSTRUCTORS
+
+	public List<Constructor<?>> getConstructors() {
+		return constructors;
+	}
+
+	public List<Constructor<?>> getConstructors(int arity) {
+		return constructorsByArity.getOrDefault(arity, Collections.emptyList());
+	}
+
+	public Optional<Constructor<?>> findConstructor(Class<?>... parameterTypes) {
+		return Optional.ofNullable(constructorsByParameters.get(Arrays.asList(parameterTypes)));
+	}
+}
@@ -5,24 +5,31 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Counter;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
 import fr.vergne.pester.options.Option;
 import fr.vergne.pester.options.Visibility;
 import fr.vergne.pester.util.argscheck.ArgsCheck;
+import fr.vergne.pester.util.cache.Cache;
 import fr.vergne.pester.util.indexer.IndexedValue;
 import fr.vergne.pester.util.indexer.Indexer;
 import fr.vergne.pester.util.indexer.impl.IteratorIndexer;
 import fr.vergne.pester.value.Type;
 
-public class Constructor<P> implements DefinitionSourcer {
+public class Constructor<P> implements DefinitionSourcer, PojoMember {
 	
 	private final Class<P> pojoClass;
 	private final List<Type<?>> parameterTypes;
 	private final Predicate<java.lang.reflect.Constructor<?>> candidatePredicate;
 	private final String signature;
-	private final StackTraceElement[] definitionStackTrace;
+	private final Supplier<StackTraceElement[]> definitionStackTrace;
+	private final MemberSearch<java.lang.reflect.Constructor<P>> search = new MemberSearch<>(this::searchConstructor);
+	private final Supplier<Accessor> accessor = Cache.onSupplier(() -> Accessor.onConstructor(retrieveConstructor()));
 
 	public Constructor(Class<P> pojoClass, List<Type<?>> parameterTypes) {
 		this.pojoClass = ArgsCheck.requireNonNull(pojoClass, "No POJO class provided");
@@ -37,7 +44,7 @@ public class Constructor<P> implements DefinitionSourcer {
 				+ parameterTypes.stream().map(Type::getName).collect(Collectors.joining(", "))
 				+ ")";
 		
-		this.definitionStackTrace = createDefinitionStackTraceFromHere();
+		this.definitionStackTrace = captureDefinitionStackTraceFromHere();
 	}
 
 	private Map<Integer, Class<?>> retrieveExpectedClasses(List<Type<?>> parameterTypes) {
@@ -59,11 +66,17 @@ public class Constructor<P> implements DefinitionSourcer {
 	
 	@Override
 	public StackTraceElement[] getDefinitionStackTrace() {
-		return definitionStackTrace;
+		return definitionStackTrace.get();
 	}
 
+	@Override
 	public boolean isPresent() {
-		return searchConstructor().isPresent();
+		return search.get().isPresent();
+	}
+
+	@Override
+	public boolean isKnownMissing() {
+		return search.isKnownMissing();
 	}
 	
 	public Visibility getVisibility() {
@@ -71,10 +84,10 @@ public class Constructor<P> implements DefinitionSourcer {
 	}
 
 	public P invoke(List<?> arguments) {
-		java.lang.reflect.Constructor<P> constructor = retrieveConstructor();
-		constructor.setAccessible(true);
+		PesterMetrics.current().count(Counter.CONSTRUCTOR_INVOCATIONS);
+		Accessor accessor = this.accessor.get();
 		try {
-			return constructor.newInstance(arguments.toArray());
+			return pojoClass.cast(accessor.invoke(null, arguments.toArray()));
 		} catch (InvocationTargetException cause) {
 			throw new DefinitionUnfulfilledException(signature + " throws an exception", cause.getCause());
 		} catch (IllegalArgumentException cause) {
@@ -89,16 +102,19 @@ public class Constructor<P> implements DefinitionSourcer {
 	}
 
 	private java.lang.reflect.Constructor<P> retrieveConstructor() {
-		return searchConstructor().orElseThrow(() -> new DefinitionUnfulfilledException(signature + " not found"));
+		return search.get().orElseThrow(() -> new DefinitionUnfulfilledException(signature + " not found"));
 	}
 
 	private Optional<java.lang.reflect.Constructor<P>> searchConstructor() {
+		PesterMetrics.current().count(Counter.CONSTRUCTOR_LOOKUPS);
+		PesterEvent event = PesterEvents.startMemberResolution(pojoClass, "constructor", signature);
 		@SuppressWarnings("unchecked")
-		List<java.lang.reflect.Constructor<P>> candidates = Stream.of(pojoClass.getDeclaredConstructors())
+		List<java.lang.reflect.Constructor<P>> candidates = ClassMembers.of(pojoClass).getConstructors(parameterTypes.size()).stream()
 				.filter(candidatePredicate)
 				.map(constructor -> (java.lang.reflect.Constructor<P>) constructor)
 				.sorted((m1, m2) -> m1.toString().compareTo(m2.toString()))
 				.collect(Collectors.toList());
+		event.withCount(candidates.size()).commit();
 		
 		if (candidates.size() > 1) {
 			throw new DefinitionUnfulfilledException("More than one constructor found, consider setting classes for " + parameterTypes + ": " + candidates);
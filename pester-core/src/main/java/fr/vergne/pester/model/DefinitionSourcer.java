@@ -1,19 +1,15 @@
 package fr.vergne.pester.model;
 
-import java.util.Arrays;
-import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 public interface DefinitionSourcer {
 	StackTraceElement[] getDefinitionStackTrace();
 
+	default Supplier<StackTraceElement[]> captureDefinitionStackTraceFromHere() {
+		return new DefinitionStackTrace();
+	}
+
 	default StackTraceElement[] createDefinitionStackTraceFromHere() {
-		StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-		Predicate<StackTraceElement> hasReachedDefinition = element -> "createPojoDefinition"
-				.equals(element.getMethodName());
-		int startIndex = 0;
-		while (startIndex < stackTrace.length && !hasReachedDefinition.test(stackTrace[startIndex])) {
-			startIndex++;
-		}
-		return Arrays.copyOfRange(stackTrace, startIndex, stackTrace.length);
+		return captureDefinitionStackTraceFromHere().get();
 	}
 }
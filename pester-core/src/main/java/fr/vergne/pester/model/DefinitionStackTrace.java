@@ -0,0 +1,35 @@
+package fr.vergne.pester.model;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * {@link DefinitionStackTrace} records the current stack when instantiated,
+ * but resolves its {@link StackTraceElement}s only when requested. Since they
+ * are used only to report failures, most of them are never resolved.
+ */
+class DefinitionStackTrace implements Supplier<StackTraceElement[]> {
+
+	private static final String DEFINITION_METHOD = "createPojoDefinition";
+
+	private final Throwable capture = new Throwable();
+	private volatile StackTraceElement[] stackTrace;
+
+	@Override
+	public StackTraceElement[] get() {
+		StackTraceElement[] result = stackTrace;
+		if (result == null) {
+			result = trimToDefinition(capture.getStackTrace());
+			stackTrace = result;
+		}
+		return result;
+	}
+
+	private static StackTraceElement[] trimToDefinition(StackTraceElement[] stackTrace) {
+		int startIndex = 0;
+		while (startIndex < stackTrace.length && !DEFINITION_METHOD.equals(stackTrace[startIndex].getMethodName())) {
+			startIndex++;
+		}
+		return Arrays.copyOfRange(stackTrace, startIndex, stackTrace.length);
+	}
+}
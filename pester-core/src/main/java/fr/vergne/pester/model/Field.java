@@ -1,39 +1,60 @@
 package fr.vergne.pester.model;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Counter;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
 import fr.vergne.pester.options.Mutability;
 import fr.vergne.pester.options.Option;
 import fr.vergne.pester.options.Scope;
 import fr.vergne.pester.options.Visibility;
 import fr.vergne.pester.util.argscheck.ArgsCheck;
+import fr.vergne.pester.util.cache.Cache;
 
-public class Field<P> implements DefinitionSourcer {
+public class Field<P> implements DefinitionSourcer, PropertyReader<P>, PropertyWriter<P> {
 
 	private final Class<P> pojoClass;
 	private final String name;
-	private final StackTraceElement[] definitionStackTrace;
+	private final Supplier<StackTraceElement[]> definitionStackTrace;
+	private final MemberSearch<java.lang.reflect.Field> search = new MemberSearch<>(this::searchField);
+	private final Supplier<Accessor> reader = Cache.onSupplier(() -> Accessor.onFieldGet(retrieveField()));
+	private final Supplier<Accessor> writer = Cache.onSupplier(() -> Accessor.onFieldSet(retrieveField()));
 
 	public Field(Class<P> pojoClass, String name) {
 		this.pojoClass = ArgsCheck.requireNonNull(pojoClass, "No POJO class provided");
 		this.name = ArgsCheck.requireNonNullNorEmpty(name, "No field name provided");
 		
-		this.definitionStackTrace = createDefinitionStackTraceFromHere();
+		this.definitionStackTrace = captureDefinitionStackTraceFromHere();
 	}
 	
 	@Override
 	public StackTraceElement[] getDefinitionStackTrace() {
-		return definitionStackTrace;
+		return definitionStackTrace.get();
 	}
 
+	@Override
 	public boolean isPresent() {
-		return searchField().isPresent();
+		return search.get().isPresent();
+	}
+
+	@Override
+	public boolean isKnownMissing() {
+		return search.isKnownMissing();
 	}
 
 	public Class<?> getFieldClass() {
 		return retrieveField().getType();
 	}
 
+	@Override
+	public Class<?> getValueClass() {
+		return getFieldClass();
+	}
+
 	public Visibility getVisibility() {
 		return Option.getFromModifiers(retrieveField().getModifiers(), Visibility.class);
 	}
@@ -46,38 +67,126 @@ public class Field<P> implements DefinitionSourcer {
 		return Option.getFromModifiers(retrieveField().getModifiers(), Scope.class);
 	}
 
+	@Override
 	public void setTo(P pojo, Object value) {
-		java.lang.reflect.Field field = retrieveField();
-		field.setAccessible(true);
+		Accessor accessor = writer();
+		try {
+			accessor.invoke(pojo, value);
+		} catch (Exception cause) {
+			throw writeFailure(cause);
+		}
+	}
+
+	@Override
+	public void setIntTo(P pojo, int value) {
+		Accessor accessor = writer();
 		try {
-			field.set(pojo, value);
-		} catch (IllegalArgumentException cause) {
-			throw new DefinitionUnfulfilledException("Field " + name + " only accepts " + field.getType() + " values", cause);
-		} catch (IllegalAccessException cause) {
-			throw new ShouldNotOccurException(cause);
+			accessor.invokeWithInt(pojo, value);
+		} catch (Exception cause) {
+			throw writeFailure(cause);
 		}
 	}
 
+	@Override
+	public void setLongTo(P pojo, long value) {
+		Accessor accessor = writer();
+		try {
+			accessor.invokeWithLong(pojo, value);
+		} catch (Exception cause) {
+			throw writeFailure(cause);
+		}
+	}
+
+	@Override
+	public void setDoubleTo(P pojo, double value) {
+		Accessor accessor = writer();
+		try {
+			accessor.invokeWithDouble(pojo, value);
+		} catch (Exception cause) {
+			throw writeFailure(cause);
+		}
+	}
+
+	@Override
 	public Object getFrom(P pojo) {
-		java.lang.reflect.Field field = retrieveField();
-		field.setAccessible(true);
+		Accessor accessor = reader();
 		try {
-			return field.get(pojo);
-		} catch (IllegalAccessException cause) {
-			throw new ShouldNotOccurException(cause);
+			return accessor.invoke(pojo);
+		} catch (Exception cause) {
+			throw readFailure(cause);
+		}
+	}
+
+	@Override
+	public int getIntFrom(P pojo) {
+		Accessor accessor = reader();
+		try {
+			return accessor.invokeForInt(pojo);
+		} catch (Exception cause) {
+			throw readFailure(cause);
+		}
+	}
+
+	@Override
+	public long getLongFrom(P pojo) {
+		Accessor accessor = reader();
+		try {
+			return accessor.invokeForLong(pojo);
+		} catch (Exception cause) {
+			throw readFailure(cause);
+		}
+	}
+
+	@Override
+	public double getDoubleFrom(P pojo) {
+		Accessor accessor = reader();
+		try {
+			return accessor.invokeForDouble(pojo);
+		} catch (Exception cause) {
+			throw readFailure(cause);
+		}
+	}
+
+	private Accessor reader() {
+		PesterMetrics.current().count(Counter.FIELD_READS);
+		return reader.get();
+	}
+
+	private Accessor writer() {
+		PesterMetrics.current().count(Counter.FIELD_WRITES);
+		return writer.get();
+	}
+
+	private RuntimeException writeFailure(Exception cause) {
+		if (cause instanceof IllegalArgumentException) {
+			return new DefinitionUnfulfilledException("Field " + name + " only accepts " + getFieldClass() + " values", cause);
+		} else {
+			return readFailure(cause);
+		}
+	}
+
+	private RuntimeException readFailure(Exception cause) {
+		if (cause instanceof Accessor.IncompatibleValueException) {
+			return new DefinitionUnfulfilledException("Field " + name + " only provides " + getFieldClass() + " values", cause);
+		} else if (cause instanceof InvocationTargetException || cause instanceof IllegalAccessException
+				|| cause instanceof InstantiationException) {
+			return new ShouldNotOccurException(cause);
+		} else {
+			// Like when the POJO is null
+			return (RuntimeException) cause;
 		}
 	}
 
 	private java.lang.reflect.Field retrieveField() {
-		return searchField().orElseThrow(() -> new DefinitionUnfulfilledException("Field " + name + " not found"));
+		return search.get().orElseThrow(() -> new DefinitionUnfulfilledException("Field " + name + " not found"));
 	}
 	
 	private Optional<java.lang.reflect.Field> searchField() {
-		try {
-			return Optional.of(pojoClass.getDeclaredField(name));
-		} catch (NoSuchFieldException cause) {
-			return Optional.empty();
-		}
+		PesterMetrics.current().count(Counter.FIELD_LOOKUPS);
+		PesterEvent event = PesterEvents.startMemberResolution(pojoClass, "field", name);
+		Optional<java.lang.reflect.Field> field = ClassMembers.of(pojoClass).findField(name);
+		event.withCount(field.isPresent() ? 1 : 0).commit();
+		return field;
 	}
 	
 	@Override
@@ -4,21 +4,29 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Counter;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
 import fr.vergne.pester.options.Mutability;
 import fr.vergne.pester.options.Option;
 import fr.vergne.pester.options.Scope;
 import fr.vergne.pester.options.Visibility;
 import fr.vergne.pester.util.argscheck.ArgsCheck;
+import fr.vergne.pester.util.cache.Cache;
 import fr.vergne.pester.util.namer.Namer;
 
-public class Getter<P> implements DefinitionSourcer {
+public class Getter<P> implements DefinitionSourcer, PropertyReader<P> {
 	private final Class<P> pojoClass;
 	private final Optional<String> expectedName;
 	private final Predicate<Method> methodPredicate;
 	private final String defaultName;
-	private final StackTraceElement[] definitionStackTrace;
+	private final Supplier<StackTraceElement[]> definitionStackTrace;
+	private final MemberSearch<Method> search = new MemberSearch<>(this::searchMethod);
+	private final Supplier<Accessor> accessor = Cache.onSupplier(() -> Accessor.onMethod(retrieveMethod()));
 
 	public Getter(Class<P> pojoClass, Namer namer) {
 		this.pojoClass = ArgsCheck.requireNonNull(pojoClass, "No POJO class provided");
@@ -27,22 +35,33 @@ public class Getter<P> implements DefinitionSourcer {
 		this.methodPredicate = method -> method.getParameters().length == 0 && namer.getNamePredicate().test(method.getName());
 		this.defaultName = namer.getDefaultName();
 
-		this.definitionStackTrace = createDefinitionStackTraceFromHere();
+		this.definitionStackTrace = captureDefinitionStackTraceFromHere();
 	}
 
 	@Override
 	public StackTraceElement[] getDefinitionStackTrace() {
-		return definitionStackTrace;
+		return definitionStackTrace.get();
 	}
 
+	@Override
 	public boolean isPresent() {
-		return searchMethod().isPresent();
+		return search.get().isPresent();
+	}
+
+	@Override
+	public boolean isKnownMissing() {
+		return search.isKnownMissing();
 	}
 
 	public Class<?> getReturnClass() {
 		return retrieveMethod().getReturnType();
 	}
 
+	@Override
+	public Class<?> getValueClass() {
+		return getReturnClass();
+	}
+
 	public Visibility getVisibility() {
 		return Option.getFromModifiers(retrieveMethod().getModifiers(), Visibility.class);
 	}
@@ -55,20 +74,61 @@ public class Getter<P> implements DefinitionSourcer {
 		return Option.getFromModifiers(retrieveMethod().getModifiers(), Scope.class);
 	}
 
+	@Override
 	public Object getFrom(P pojo) {
-		Method method = retrieveMethod();
-		method.setAccessible(true);
+		Accessor accessor = accessor();
 		try {
-			return method.invoke(pojo);
-		} catch (InvocationTargetException cause) {
-			throw new DefinitionUnfulfilledException(getSignature() + " throws an exception", cause.getCause());
-		} catch (IllegalAccessException cause) {
-			throw new ShouldNotOccurException(cause);
+			return accessor.invoke(pojo);
+		} catch (Exception cause) {
+			throw readFailure(cause);
+		}
+	}
+
+	@Override
+	public int getIntFrom(P pojo) {
+		Accessor accessor = accessor();
+		try {
+			return accessor.invokeForInt(pojo);
+		} catch (Exception cause) {
+			throw readFailure(cause);
+		}
+	}
+
+	@Override
+	public long getLongFrom(P pojo) {
+		Accessor accessor = accessor();
+		try {
+			return accessor.invokeForLong(pojo);
+		} catch (Exception cause) {
+			throw readFailure(cause);
+		}
+	}
+
+	@Override
+	public double getDoubleFrom(P pojo) {
+		Accessor accessor = accessor();
+		try {
+			return accessor.invokeForDouble(pojo);
+		} catch (Exception cause) {
+			throw readFailure(cause);
+		}
+	}
+
+	private RuntimeException readFailure(Exception cause) {
+		if (cause instanceof Accessor.IncompatibleValueException) {
+			return new DefinitionUnfulfilledException(getSignature() + " only provides " + getReturnClass() + " values", cause);
+		} else if (cause instanceof InvocationTargetException) {
+			return new DefinitionUnfulfilledException(getSignature() + " throws an exception", cause.getCause());
+		} else if (cause instanceof IllegalAccessException || cause instanceof InstantiationException) {
+			return new ShouldNotOccurException(cause);
+		} else {
+			// Like when the POJO is null
+			return (RuntimeException) cause;
 		}
 	}
 
 	private Method retrieveMethod() {
-		return searchMethod().orElseThrow(() -> new DefinitionUnfulfilledException(getSignature() + " not found"));
+		return search.get().orElseThrow(() -> new DefinitionUnfulfilledException(getSignature() + " not found"));
 	}
 
 	@Override
@@ -80,15 +140,29 @@ public class Getter<P> implements DefinitionSourcer {
 		return searchMethodName().map(name -> name + "()").orElse(defaultName);
 	}
 
+	private Accessor accessor() {
+		PesterMetrics.current().count(Counter.GETTER_INVOCATIONS);
+		return accessor.get();
+	}
+
 	private Optional<Method> searchMethod() {
-		return Stream.of(pojoClass.getDeclaredMethods()).filter(methodPredicate).findAny();
+		PesterMetrics.current().count(Counter.GETTER_LOOKUPS);
+		PesterEvent event = PesterEvents.startMemberResolution(pojoClass, "getter", defaultName);
+		Optional<Method> method = streamCandidates().filter(methodPredicate).findAny();
+		event.withCount(method.isPresent() ? 1 : 0).commit();
+		return method;
+	}
+
+	private Stream<Method> streamCandidates() {
+		ClassMembers members = ClassMembers.of(pojoClass);
+		return expectedName.map(members::getMethods).orElseGet(() -> members.getMethods(0)).stream();
 	}
 
 	private Optional<String> searchMethodName() {
 		if (expectedName.isPresent()) {
 			return expectedName;
 		} else {
-			return searchMethod().map(Method::getName);
+			return search.get().map(Method::getName);
 		}
 	}
 }
@@ -0,0 +1,36 @@
+package fr.vergne.pester.model;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * {@link MemberSearch} searches once a member of a POJO class and remembers
+ * the result, so it can tell whether the member is known to be missing
+ * without searching it again. A failing search, like when several members
+ * match, is not remembered and fails again at the next request.
+ */
+class MemberSearch<M> implements Supplier<Optional<M>> {
+
+	private final Supplier<Optional<M>> search;
+	private volatile Optional<M> result; // null until searched
+
+	public MemberSearch(Supplier<Optional<M>> search) {
+		this.search = search;
+	}
+
+	@Override
+	public Optional<M> get() {
+		Optional<M> result = this.result;
+		if (result == null) {
+			// Concurrent requests may search twice, but find the same member
+			result = search.get();
+			this.result = result;
+		}
+		return result;
+	}
+
+	public boolean isKnownMissing() {
+		Optional<M> result = this.result;
+		return result != null && !result.isPresent();
+	}
+}
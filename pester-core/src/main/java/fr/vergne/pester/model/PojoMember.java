@@ -0,0 +1,15 @@
+package fr.vergne.pester.model;
+
+/**
+ * A {@link PojoMember} is a member of a POJO class, like a field, a getter, a
+ * setter or a constructor, which is searched once and then reused.
+ */
+public interface PojoMember {
+	boolean isPresent();
+
+	/**
+	 * @return <code>true</code> if this member has already been searched and not
+	 *         found, <code>false</code> if it has been found or not searched yet
+	 */
+	boolean isKnownMissing();
+}
@@ -0,0 +1,19 @@
+package fr.vergne.pester.model;
+
+/**
+ * A {@link PropertyReader} reads the value of a property from a POJO, like a
+ * {@link Field} or a {@link Getter}. Primitive values can be read without
+ * boxing them, the other primitive types widening to <code>int</code>,
+ * <code>long</code> and <code>double</code>.
+ */
+public interface PropertyReader<P> extends PojoMember {
+	Class<?> getValueClass();
+
+	Object getFrom(P pojo);
+
+	int getIntFrom(P pojo);
+
+	long getLongFrom(P pojo);
+
+	double getDoubleFrom(P pojo);
+}
@@ -0,0 +1,18 @@
+package fr.vergne.pester.model;
+
+/**
+ * A {@link PropertyWriter} writes the value of a property to a POJO, like a
+ * {@link Field} or a {@link Setter}. Primitive values can be written without
+ * boxing them.
+ */
+public interface PropertyWriter<P> extends PojoMember {
+	Class<?> getValueClass();
+
+	void setTo(P pojo, Object value);
+
+	void setIntTo(P pojo, int value);
+
+	void setLongTo(P pojo, long value);
+
+	void setDoubleTo(P pojo, double value);
+}
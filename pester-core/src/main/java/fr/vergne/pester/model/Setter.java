@@ -5,24 +5,32 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Counter;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
 import fr.vergne.pester.options.Mutability;
 import fr.vergne.pester.options.Option;
 import fr.vergne.pester.options.Scope;
 import fr.vergne.pester.options.Visibility;
 import fr.vergne.pester.util.argscheck.ArgsCheck;
+import fr.vergne.pester.util.cache.Cache;
 import fr.vergne.pester.util.namer.Namer;
 import fr.vergne.pester.value.Type;
 
-public class Setter<P> implements DefinitionSourcer {
+public class Setter<P> implements DefinitionSourcer, PropertyWriter<P> {
 	private final Class<P> pojoClass;
 	private final Type<?> parameterType;
-	private final StackTraceElement[] definitionStackTrace;
+	private final Supplier<StackTraceElement[]> definitionStackTrace;
+	private final MemberSearch<Method> search = new MemberSearch<>(this::searchMethod);
 	private final Predicate<Method> methodPredicate;
 	private final Optional<String> expectedName;
 	private final String defaultName;
+	private final Supplier<Accessor> accessor = Cache.onSupplier(() -> Accessor.onMethod(retrieveMethod()));
 
 	public Setter(Class<P> pojoClass, Type<?> parameterType, Namer namer) {
 		this.pojoClass = ArgsCheck.requireNonNull(pojoClass, "No POJO class provided");
@@ -40,16 +48,22 @@ public class Setter<P> implements DefinitionSourcer {
 		}
 		this.methodPredicate = predicate;
 
-		this.definitionStackTrace = createDefinitionStackTraceFromHere();
+		this.definitionStackTrace = captureDefinitionStackTraceFromHere();
 	}
 
 	@Override
 	public StackTraceElement[] getDefinitionStackTrace() {
-		return definitionStackTrace;
+		return definitionStackTrace.get();
 	}
 
+	@Override
 	public boolean isPresent() {
-		return searchMethod().isPresent();
+		return search.get().isPresent();
+	}
+
+	@Override
+	public boolean isKnownMissing() {
+		return search.isKnownMissing();
 	}
 
 	public Visibility getVisibility() {
@@ -64,17 +78,58 @@ public class Setter<P> implements DefinitionSourcer {
 		return Option.getFromModifiers(retrieveMethod().getModifiers(), Scope.class);
 	}
 
+	@Override
 	public void setTo(P pojo, Object value) {
-		Method method = retrieveMethod();
-		method.setAccessible(true);
+		Accessor accessor = accessor();
+		try {
+			accessor.invoke(pojo, value);
+		} catch (Exception cause) {
+			throw writeFailure(value, cause);
+		}
+	}
+
+	@Override
+	public void setIntTo(P pojo, int value) {
+		Accessor accessor = accessor();
+		try {
+			accessor.invokeWithInt(pojo, value);
+		} catch (Exception cause) {
+			throw writeFailure(value, cause);
+		}
+	}
+
+	@Override
+	public void setLongTo(P pojo, long value) {
+		Accessor accessor = accessor();
 		try {
-			method.invoke(pojo, value);
-		} catch (IllegalArgumentException cause) {
-			throw new DefinitionUnfulfilledException(getSignature() + " does not accept '" + value + "'", cause);
-		} catch (InvocationTargetException cause) {
-			throw new DefinitionUnfulfilledException(getSignature() + " throws an exception", cause.getCause());
-		} catch (IllegalAccessException cause) {
-			throw new ShouldNotOccurException(cause);
+			accessor.invokeWithLong(pojo, value);
+		} catch (Exception cause) {
+			throw writeFailure(value, cause);
+		}
+	}
+
+	@Override
+	public void setDoubleTo(P pojo, double value) {
+		Accessor accessor = accessor();
+		try {
+			accessor.invokeWithDouble(pojo, value);
+		} catch (Exception cause) {
+			throw writeFailure(value, cause);
+		}
+	}
+
+	private RuntimeException writeFailure(Object value, Exception cause) {
+		if (cause instanceof Accessor.IncompatibleValueException) {
+			return new DefinitionUnfulfilledException(getSignature() + " only accepts " + getParameterClass() + " values", cause);
+		} else if (cause instanceof IllegalArgumentException) {
+			return new DefinitionUnfulfilledException(getSignature() + " does not accept '" + value + "'", cause);
+		} else if (cause instanceof InvocationTargetException) {
+			return new DefinitionUnfulfilledException(getSignature() + " throws an exception", cause.getCause());
+		} else if (cause instanceof IllegalAccessException || cause instanceof InstantiationException) {
+			return new ShouldNotOccurException(cause);
+		} else {
+			// Like when the POJO is null
+			return (RuntimeException) cause;
 		}
 	}
 
@@ -82,15 +137,28 @@ public class Setter<P> implements DefinitionSourcer {
 		return retrieveMethod().getParameterTypes()[0];
 	}
 
+	@Override
+	public Class<?> getValueClass() {
+		return getParameterClass();
+	}
+
 	private Method retrieveMethod() {
-		return searchMethod().orElseThrow(() -> new DefinitionUnfulfilledException(getSignature() + " not found"));
+		return search.get().orElseThrow(() -> new DefinitionUnfulfilledException(getSignature() + " not found"));
+	}
+
+	private Accessor accessor() {
+		PesterMetrics.current().count(Counter.SETTER_INVOCATIONS);
+		return accessor.get();
 	}
 
 	private Optional<Method> searchMethod() {
-		List<Method> candidates = Stream.of(pojoClass.getDeclaredMethods())
+		PesterMetrics.current().count(Counter.SETTER_LOOKUPS);
+		PesterEvent event = PesterEvents.startMemberResolution(pojoClass, "setter", defaultName);
+		List<Method> candidates = streamCandidates()
 				.filter(methodPredicate)
 				.sorted((m1, m2) -> m1.toString().compareTo(m2.toString()))
 				.collect(Collectors.toList());
+		event.withCount(candidates.size()).commit();
 		
 		if (candidates.size() > 1) {
 			throw new DefinitionUnfulfilledException(
@@ -100,6 +168,11 @@ public class Setter<P> implements DefinitionSourcer {
 		}
 	}
 
+	private Stream<Method> streamCandidates() {
+		ClassMembers members = ClassMembers.of(pojoClass);
+		return expectedName.map(members::getMethods).orElseGet(() -> members.getMethods(1)).stream();
+	}
+
 	@Override
 	public String toString() {
 		return getSignature();
@@ -113,7 +186,7 @@ public class Setter<P> implements DefinitionSourcer {
 		if (expectedName.isPresent()) {
 			return expectedName;
 		} else {
-			return searchMethod().map(Method::getName);
+			return search.get().map(Method::getName);
 		}
 	}
 }
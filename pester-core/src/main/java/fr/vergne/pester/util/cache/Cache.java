@@ -1,7 +1,7 @@
 package fr.vergne.pester.util.cache;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -12,7 +12,7 @@ public interface Cache {
 	<T> T get(Key<T> key, Supplier<T> supplier);
 
 	public static Cache create() {
-		Map<Key<?>, Object> map = new HashMap<>();
+		Map<Key<?>, Object> map = new ConcurrentHashMap<>();
 		return new Cache() {
 			
 			@Override
@@ -0,0 +1,20 @@
+package fr.vergne.pester.util.hash;
+
+public interface StableHash {
+
+	/**
+	 * FNV-1a hash, which does not depend on the JVM running it, unlike identity
+	 * hash codes.
+	 * 
+	 * @param text the text to hash
+	 * @return the hash of the text
+	 */
+	public static long of(String text) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < text.length(); i++) {
+			hash ^= text.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,14 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Generator} of <code>boolean</code> values, which creates them without
+ * boxing them.
+ */
+public interface BooleanGenerator extends Generator<Boolean> {
+	boolean createBoolean();
+
+	@Override
+	default Boolean create() {
+		return createBoolean();
+	}
+}
@@ -0,0 +1,16 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Modifier} of <code>boolean</code> values, which modifies them without
+ * boxing them. A <code>null</code> value has no <code>boolean</code>
+ * equivalent, so implementations supporting it must override
+ * {@link #modify(Boolean)}.
+ */
+public interface BooleanModifier extends Modifier<Boolean> {
+	boolean modifyBoolean(boolean value);
+
+	@Override
+	default Boolean modify(Boolean value) {
+		return modifyBoolean(value);
+	}
+}
@@ -0,0 +1,14 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Generator} of <code>byte</code> values, which creates them without
+ * boxing them.
+ */
+public interface ByteGenerator extends Generator<Byte> {
+	byte createByte();
+
+	@Override
+	default Byte create() {
+		return createByte();
+	}
+}
@@ -0,0 +1,16 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Modifier} of <code>byte</code> values, which modifies them without
+ * boxing them. A <code>null</code> value has no <code>byte</code>
+ * equivalent, so implementations supporting it must override
+ * {@link #modify(Byte)}.
+ */
+public interface ByteModifier extends Modifier<Byte> {
+	byte modifyByte(byte value);
+
+	@Override
+	default Byte modify(Byte value) {
+		return modifyByte(value);
+	}
+}
@@ -0,0 +1,14 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Generator} of <code>char</code> values, which creates them without
+ * boxing them.
+ */
+public interface CharGenerator extends Generator<Character> {
+	char createChar();
+
+	@Override
+	default Character create() {
+		return createChar();
+	}
+}
@@ -0,0 +1,16 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Modifier} of <code>char</code> values, which modifies them without
+ * boxing them. A <code>null</code> value has no <code>char</code>
+ * equivalent, so implementations supporting it must override
+ * {@link #modify(Character)}.
+ */
+public interface CharModifier extends Modifier<Character> {
+	char modifyChar(char value);
+
+	@Override
+	default Character modify(Character value) {
+		return modifyChar(value);
+	}
+}
@@ -0,0 +1,14 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Generator} of <code>double</code> values, which creates them without
+ * boxing them.
+ */
+public interface DoubleGenerator extends Generator<Double> {
+	double createDouble();
+
+	@Override
+	default Double create() {
+		return createDouble();
+	}
+}
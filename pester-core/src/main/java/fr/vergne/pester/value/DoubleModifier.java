@@ -0,0 +1,16 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Modifier} of <code>double</code> values, which modifies them without
+ * boxing them. A <code>null</code> value has no <code>double</code>
+ * equivalent, so implementations supporting it must override
+ * {@link #modify(Double)}.
+ */
+public interface DoubleModifier extends Modifier<Double> {
+	double modifyDouble(double value);
+
+	@Override
+	default Double modify(Double value) {
+		return modifyDouble(value);
+	}
+}
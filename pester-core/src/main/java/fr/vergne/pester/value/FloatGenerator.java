@@ -0,0 +1,14 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Generator} of <code>float</code> values, which creates them without
+ * boxing them.
+ */
+public interface FloatGenerator extends Generator<Float> {
+	float createFloat();
+
+	@Override
+	default Float create() {
+		return createFloat();
+	}
+}
@@ -0,0 +1,16 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Modifier} of <code>float</code> values, which modifies them without
+ * boxing them. A <code>null</code> value has no <code>float</code>
+ * equivalent, so implementations supporting it must override
+ * {@link #modify(Float)}.
+ */
+public interface FloatModifier extends Modifier<Float> {
+	float modifyFloat(float value);
+
+	@Override
+	default Float modify(Float value) {
+		return modifyFloat(value);
+	}
+}
@@ -0,0 +1,14 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Generator} of <code>int</code> values, which creates them without
+ * boxing them.
+ */
+public interface IntGenerator extends Generator<Integer> {
+	int createInt();
+
+	@Override
+	default Integer create() {
+		return createInt();
+	}
+}
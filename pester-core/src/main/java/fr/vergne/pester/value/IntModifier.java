@@ -0,0 +1,16 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Modifier} of <code>int</code> values, which modifies them without
+ * boxing them. A <code>null</code> value has no <code>int</code>
+ * equivalent, so implementations supporting it must override
+ * {@link #modify(Integer)}.
+ */
+public interface IntModifier extends Modifier<Integer> {
+	int modifyInt(int value);
+
+	@Override
+	default Integer modify(Integer value) {
+		return modifyInt(value);
+	}
+}
@@ -0,0 +1,14 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Generator} of <code>long</code> values, which creates them without
+ * boxing them.
+ */
+public interface LongGenerator extends Generator<Long> {
+	long createLong();
+
+	@Override
+	default Long create() {
+		return createLong();
+	}
+}
@@ -0,0 +1,16 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Modifier} of <code>long</code> values, which modifies them without
+ * boxing them. A <code>null</code> value has no <code>long</code>
+ * equivalent, so implementations supporting it must override
+ * {@link #modify(Long)}.
+ */
+public interface LongModifier extends Modifier<Long> {
+	long modifyLong(long value);
+
+	@Override
+	default Long modify(Long value) {
+		return modifyLong(value);
+	}
+}
@@ -0,0 +1,14 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Generator} of <code>short</code> values, which creates them without
+ * boxing them.
+ */
+public interface ShortGenerator extends Generator<Short> {
+	short createShort();
+
+	@Override
+	default Short create() {
+		return createShort();
+	}
+}
@@ -0,0 +1,16 @@
+package fr.vergne.pester.value;
+
+/**
+ * {@link Modifier} of <code>short</code> values, which modifies them without
+ * boxing them. A <code>null</code> value has no <code>short</code>
+ * equivalent, so implementations supporting it must override
+ * {@link #modify(Short)}.
+ */
+public interface ShortModifier extends Modifier<Short> {
+	short modifyShort(short value);
+
+	@Override
+	default Short modify(Short value) {
+		return modifyShort(value);
+	}
+}
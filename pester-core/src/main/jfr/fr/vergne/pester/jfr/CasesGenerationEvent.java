@@ -0,0 +1,31 @@
+package fr.vergne.pester.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("fr.vergne.pester.CasesGeneration")
+@Label("Test Cases Generation")
+@Description("Generation, or retrieval if already generated, of the test cases of a test method")
+@Category("Pester")
+@StackTrace(false)
+class CasesGenerationEvent extends Event implements PesterEvent {
+
+	@Label("POJO Class")
+	Class<?> pojoClass;
+
+	@Label("Test Name")
+	String testName;
+
+	@Label("Test Cases")
+	long casesCount;
+
+	@Override
+	public PesterEvent withCount(long count) {
+		this.casesCount = count;
+		return this;
+	}
+}
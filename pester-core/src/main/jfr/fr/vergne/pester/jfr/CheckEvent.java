@@ -0,0 +1,34 @@
+package fr.vergne.pester.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("fr.vergne.pester.Check")
+@Label("Check")
+@Description("Execution of a test case on a POJO class")
+@Category("Pester")
+@StackTrace(false)
+class CheckEvent extends Event implements PesterEvent {
+
+	@Label("POJO Class")
+	Class<?> pojoClass;
+
+	@Label("Test Name")
+	String testName;
+
+	@Label("Property")
+	String property;
+
+	@Label("Outcome")
+	String outcome;
+
+	@Override
+	public PesterEvent withOutcome(String outcome) {
+		this.outcome = outcome;
+		return this;
+	}
+}
@@ -0,0 +1,28 @@
+package fr.vergne.pester.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("fr.vergne.pester.DefinitionBuild")
+@Label("Definition Build")
+@Description("Build of the definition of a POJO class")
+@Category("Pester")
+@StackTrace(false)
+class DefinitionBuildEvent extends Event implements PesterEvent {
+
+	@Label("POJO Class")
+	Class<?> pojoClass;
+
+	@Label("Outcome")
+	String outcome;
+
+	@Override
+	public PesterEvent withOutcome(String outcome) {
+		this.outcome = outcome;
+		return this;
+	}
+}
@@ -0,0 +1,53 @@
+package fr.vergne.pester.jfr;
+
+import java.lang.reflect.Method;
+
+import fr.vergne.pester.junit.extension.DefinitionSourcerExtension;
+
+/**
+ * {@link FlightRecorderEvents} is the only class referring to the JDK Flight
+ * Recorder, with the events themselves. It is compiled apart from the rest of
+ * Pester, and {@link FlightRecorderLoader} loads it only when the events are
+ * enabled, so a JVM without the JDK Flight Recorder never loads them.
+ */
+class FlightRecorderEvents implements PesterEventFactory {
+
+	@Override
+	public PesterEvent startDefinitionBuild(Class<?> pojoClass) {
+		DefinitionBuildEvent event = new DefinitionBuildEvent();
+		event.pojoClass = pojoClass;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public PesterEvent startCasesGeneration(Class<?> pojoClass, String testName) {
+		CasesGenerationEvent event = new CasesGenerationEvent();
+		event.pojoClass = pojoClass;
+		event.testName = testName;
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public PesterEvent startCheck(Class<?> pojoClass, Method testMethod, Object[] testCaseArguments) {
+		CheckEvent event = new CheckEvent();
+		event.pojoClass = pojoClass;
+		event.testName = testMethod.getName();
+		event.property = DefinitionSourcerExtension.findTestTarget(testMethod, testCaseArguments)
+				.map(Object::toString)
+				.orElse(null);
+		event.begin();
+		return event;
+	}
+
+	@Override
+	public PesterEvent startMemberResolution(Class<?> pojoClass, String kind, String member) {
+		MemberResolutionEvent event = new MemberResolutionEvent();
+		event.pojoClass = pojoClass;
+		event.kind = kind;
+		event.member = member;
+		event.begin();
+		return event;
+	}
+}
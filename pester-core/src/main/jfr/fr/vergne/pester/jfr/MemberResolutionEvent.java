@@ -0,0 +1,34 @@
+package fr.vergne.pester.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("fr.vergne.pester.MemberResolution")
+@Label("Member Resolution")
+@Description("Reflective search of a field, getter, setter or constructor")
+@Category("Pester")
+@StackTrace(false)
+class MemberResolutionEvent extends Event implements PesterEvent {
+
+	@Label("POJO Class")
+	Class<?> pojoClass;
+
+	@Label("Kind")
+	String kind;
+
+	@Label("Member")
+	String member;
+
+	@Label("Candidates")
+	long candidatesCount;
+
+	@Override
+	public PesterEvent withCount(long count) {
+		this.candidatesCount = count;
+		return this;
+	}
+}
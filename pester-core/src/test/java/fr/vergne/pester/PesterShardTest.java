@@ -0,0 +1,147 @@
+package fr.vergne.pester;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import fr.vergne.pester.PesterShard.Unit;
+import fr.vergne.pester.util.hash.StableHash;
+
+class PesterShardTest {
+
+	private static final int SHARDS_COUNT = 4;
+
+	private static List<String> createUnits(int count) {
+		return IntStream.rangeClosed(1, count).mapToObj(i -> "unit" + i).collect(Collectors.toList());
+	}
+
+	private static long weightOf(String unit) {
+		// From 1 to 10, not sorted like the names
+		return Math.floorMod(StableHash.of(unit), 10) + 1;
+	}
+
+	private static List<List<String>> selectInAllShards(List<String> units) {
+		List<List<String>> selections = new ArrayList<>();
+		for (int index = 1; index <= SHARDS_COUNT; index++) {
+			PesterShard shard = new PesterShard(index, SHARDS_COUNT, Unit.METHOD);
+			selections.add(shard.select(units, Function.identity(), PesterShardTest::weightOf));
+		}
+		return selections;
+	}
+
+	@Test
+	void testSelectAssignsEachUnitToOneShard() {
+		List<String> units = createUnits(50);
+
+		List<List<String>> selections = selectInAllShards(units);
+
+		List<String> allSelected = selections.stream().flatMap(List::stream).collect(Collectors.toList());
+		assertEquals(units.size(), allSelected.size());
+		assertEquals(new HashSet<>(units), new HashSet<>(allSelected));
+	}
+
+	@Test
+	void testSelectBalancesWeights() {
+		List<String> units = createUnits(50);
+
+		List<List<String>> selections = selectInAllShards(units);
+
+		long maxWeight = units.stream().mapToLong(PesterShardTest::weightOf).max().getAsLong();
+		List<Long> loads = selections.stream()
+				.map(selection -> selection.stream().mapToLong(PesterShardTest::weightOf).sum())
+				.collect(Collectors.toList());
+		long minLoad = Collections.min(loads);
+		long maxLoad = Collections.max(loads);
+		assertTrue(maxLoad - minLoad <= maxWeight, loads::toString);
+	}
+
+	@Test
+	void testSelectBalancesUnitsOfEqualWeights() {
+		List<String> units = createUnits(10);
+		PesterShard shard1 = new PesterShard(1, 3, Unit.CLASS);
+		PesterShard shard2 = new PesterShard(2, 3, Unit.CLASS);
+		PesterShard shard3 = new PesterShard(3, 3, Unit.CLASS);
+
+		List<Integer> counts = Arrays.asList(
+				shard1.select(units, Function.identity(), unit -> 5).size(),
+				shard2.select(units, Function.identity(), unit -> 5).size(),
+				shard3.select(units, Function.identity(), unit -> 5).size());
+
+		assertEquals(Arrays.asList(4, 3, 3), counts);
+	}
+
+	@Test
+	void testSelectIsDeterministicWhateverTheOrderOfUnits() {
+		List<String> units = createUnits(50);
+		List<String> shuffledUnits = new ArrayList<>(units);
+		Collections.shuffle(shuffledUnits, new Random(42));
+
+		List<List<String>> selections = selectInAllShards(units);
+		List<List<String>> shuffledSelections = selectInAllShards(shuffledUnits);
+
+		for (int i = 0; i < SHARDS_COUNT; i++) {
+			assertEquals(new HashSet<>(selections.get(i)), new HashSet<>(shuffledSelections.get(i)));
+		}
+		assertEquals(selections, selectInAllShards(units));
+	}
+
+	@Test
+	void testSelectKeepsOrderOfUnits() {
+		List<String> units = createUnits(50);
+
+		for (List<String> selection : selectInAllShards(units)) {
+			List<String> expected = new ArrayList<>(units);
+			expected.retainAll(selection);
+			assertEquals(expected, selection);
+		}
+	}
+
+	@Test
+	void testSelectBreaksTiesOfWeightsWithStableHashOfNames() {
+		List<String> units = createUnits(2);
+		String firstUnit = StableHash.of(units.get(0)) < StableHash.of(units.get(1)) ? units.get(0) : units.get(1);
+		PesterShard shard1 = new PesterShard(1, 2, Unit.METHOD);
+
+		assertEquals(Arrays.asList(firstUnit), shard1.select(units, Function.identity(), unit -> 1));
+		Collections.reverse(units);
+		assertEquals(Arrays.asList(firstUnit), shard1.select(units, Function.identity(), unit -> 1));
+	}
+
+	@Test
+	void testInvalidUnitListsExpectedUnits() {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(PesterShard.SHARD_PROPERTY, "1/2");
+		properties.put(PesterShard.UNIT_PROPERTY, "package");
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> PesterShard.fromProperties(key -> Optional.ofNullable(properties.get(key))));
+
+		assertTrue(exception.getMessage().contains(PesterShard.UNIT_PROPERTY), exception.getMessage());
+		assertTrue(exception.getMessage().contains("[CLASS, METHOD]"), exception.getMessage());
+		assertTrue(exception.getMessage().contains("package"), exception.getMessage());
+	}
+
+	@Test
+	void testUnitIsCaseInsensitive() {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(PesterShard.SHARD_PROPERTY, "1/2");
+		properties.put(PesterShard.UNIT_PROPERTY, " class ");
+
+		Optional<PesterShard> shard = PesterShard.fromProperties(key -> Optional.ofNullable(properties.get(key)));
+
+		assertEquals(Optional.of(Unit.CLASS), shard.map(PesterShard::getUnit));
+	}
+}
@@ -0,0 +1,82 @@
+package fr.vergne.pester;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.opentest4j.TestAbortedException;
+
+import fr.vergne.pester.definition.PojoDefinition;
+
+class PesterSuiteTest {
+
+	public static class NumberPojo {
+		private int number;
+
+		public int getNumber() {
+			return number;
+		}
+
+		public void setNumber(int number) {
+			this.number = number;
+		}
+	}
+
+	public static class NamePojo {
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(PesterShard.Unit.class)
+	void testShardsSharingCacheFileKeepPassesOfEachOther(PesterShard.Unit unit, @TempDir Path tempDir) {
+		Path cacheFile = tempDir.resolve("pester-cache.bin");
+		// Both shards load the cache before any of them saves it
+		PesterSuite shard1 = PesterSuite.ofClasses(NumberPojo.class, NamePojo.class)
+				.withResultCache(cacheFile)
+				.inShard(new PesterShard(1, 2, unit));
+		PesterSuite shard2 = PesterSuite.ofClasses(NumberPojo.class, NamePojo.class)
+				.withResultCache(cacheFile)
+				.inShard(new PesterShard(2, 2, unit));
+		shard1.verify().forEach(PesterSuiteResult::assertSuccessful);
+		shard2.verify().forEach(PesterSuiteResult::assertSuccessful);
+
+		List<PesterSuiteResult> results = PesterSuite.ofClasses(NumberPojo.class, NamePojo.class)
+				.withResultCache(cacheFile)
+				.verify();
+
+		assertTrue(results.stream().allMatch(PesterSuiteResult::isCached), results::toString);
+	}
+
+	@Test
+	void testAbortedCasesAreSkipped() {
+		PesterSuite suite = PesterSuite.ofClasses(NumberPojo.class).withDefinitions(pojoClass -> {
+			PojoDefinition<NumberPojo> definition = new PojoDefinition<>(NumberPojo.class);
+			definition.addProperty(int.class, "number").withField().withGetter().withSetter()
+					.withGenerator(() -> {
+						throw new TestAbortedException("no number to test");
+					});
+			definition.addConstructor();
+			return definition;
+		});
+		PesterSuiteResult verifiedResult = PesterSuite.ofClasses(NumberPojo.class).verify().get(0);
+
+		PesterSuiteResult abortedResult = suite.verify().get(0);
+
+		abortedResult.assertSuccessful();
+		assertTrue(abortedResult.getCasesCount() > 0);
+		assertTrue(abortedResult.getCasesCount() < verifiedResult.getCasesCount(), abortedResult::toString);
+	}
+}
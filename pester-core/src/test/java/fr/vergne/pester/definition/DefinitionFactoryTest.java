@@ -0,0 +1,81 @@
+package fr.vergne.pester.definition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "unused", "rawtypes" })
+class DefinitionFactoryTest {
+
+	static class RawGetterPojo {
+		private List<String> items;
+
+		public List getItems() {
+			return items;
+		}
+	}
+
+	static class WildcardSetterPojo {
+		private List<String> items;
+
+		public void setItems(List<? extends String> items) {
+			this.items = (List<String>) items;
+		}
+	}
+
+	static class GenericGetterPojo {
+		private List items;
+
+		public List<String> getItems() {
+			return items;
+		}
+	}
+
+	static class ConflictingPojo {
+		private int value;
+
+		public long getValue() {
+			return value;
+		}
+	}
+
+	@Test
+	void testRawGetterOfGenericFieldIsSameProperty() {
+		PojoDefinition<RawGetterPojo> definition = new DefinitionFactory().guessFromClass(RawGetterPojo.class);
+
+		PropertyDefinition<RawGetterPojo, ?> property = definition.findProperty("items").get();
+		assertEquals("java.util.List<java.lang.String>", property.getType().getName());
+		assertTrue(property.getFieldDefinition().isPresent());
+		assertTrue(property.getGetterDefinition().isPresent());
+		assertEquals(1, definition.getProperties().size());
+	}
+
+	@Test
+	void testWildcardSetterOfGenericFieldIsSameProperty() {
+		PojoDefinition<WildcardSetterPojo> definition = new DefinitionFactory()
+				.guessFromClass(WildcardSetterPojo.class);
+
+		PropertyDefinition<WildcardSetterPojo, ?> property = definition.findProperty("items").get();
+		assertEquals("java.util.List<java.lang.String>", property.getType().getName());
+		assertTrue(property.getSetterDefinition().isPresent());
+	}
+
+	@Test
+	void testGenericGetterOfRawFieldIsSameProperty() {
+		PojoDefinition<GenericGetterPojo> definition = new DefinitionFactory()
+				.guessFromClass(GenericGetterPojo.class);
+
+		PropertyDefinition<GenericGetterPojo, ?> property = definition.findProperty("items").get();
+		assertEquals(List.class.getName(), property.getType().getName());
+		assertTrue(property.getGetterDefinition().isPresent());
+	}
+
+	@Test
+	void testAccessorsOfOtherClassesConflict() {
+		DefinitionFactory factory = new DefinitionFactory();
+
+		assertThrows(IllegalArgumentException.class, () -> factory.guessFromClass(ConflictingPojo.class));
+	}
+}
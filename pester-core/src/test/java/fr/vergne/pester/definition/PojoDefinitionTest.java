@@ -0,0 +1,166 @@
+package fr.vergne.pester.definition;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.junit.annotation.ConstructorPropertiesHelper;
+import fr.vergne.pester.value.Type;
+
+class PojoDefinitionTest {
+
+	public static class Pojo {
+		private final int id;
+		private String name;
+		private long count;
+
+		public Pojo(int id) {
+			this.id = id;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+	}
+
+	private static final PojoDefinition<Pojo> SHARED_DEFINITION = createDefinition();
+
+	private static PojoDefinition<Pojo> createDefinition() {
+		PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+		PropertyDefinition<Pojo, Integer> id = definition.addProperty(int.class, "id").withField().withGetter();
+		definition.addProperty(String.class, "name").withField().withGetter().withSetter();
+		definition.addProperty(long.class, "count").withField().withGetter().withSetter();
+		definition.addConstructor(id);
+		return definition;
+	}
+
+	public static class SharedDefinitionPester implements PesterTest<Pojo> {
+		@Override
+		public PojoDefinition<Pojo> createPojoDefinition() {
+			return SHARED_DEFINITION;
+		}
+	}
+
+	public static class OtherSharedDefinitionPester implements PesterTest<Pojo> {
+		@Override
+		public PojoDefinition<Pojo> createPojoDefinition() {
+			return SHARED_DEFINITION;
+		}
+	}
+
+	public static class OwnDefinitionPester implements PesterTest<Pojo> {
+		@Override
+		public PojoDefinition<Pojo> createPojoDefinition() {
+			return createDefinition();
+		}
+	}
+
+	@Test
+	void testDefinitionsAreVerifiedInParallel() {
+		Events events = EngineTestKit.engine("junit-jupiter")
+				.configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+				.configurationParameter("junit.jupiter.execution.parallel.mode.default", "concurrent")
+				.configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+				.selectors(
+						selectClass(SharedDefinitionPester.class),
+						selectClass(OtherSharedDefinitionPester.class),
+						selectClass(OwnDefinitionPester.class))
+				.execute()
+				.tests();
+
+		assertTrue(events.started().count() > 0);
+		events.assertStatistics(stats -> stats.failed(0));
+	}
+
+	@Test
+	void testComputePropertyIfAbsentAddsAbsentProperty() {
+		PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+		Type<String> type = definition.create().type().from(String.class);
+
+		PropertyDefinition<Pojo, String> property = definition.computePropertyIfAbsent(type, "name");
+
+		assertEquals("name", property.getName());
+		assertEquals(type, property.getType());
+		assertEquals(Optional.of(property), definition.findProperty("name"));
+	}
+
+	@Test
+	void testComputePropertyIfAbsentReturnsExistingPropertyOfSameType() {
+		PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+		PropertyDefinition<Pojo, String> existing = definition.addProperty(String.class, "name").withField();
+		Type<String> type = definition.create().type().from(String.class);
+
+		PropertyDefinition<Pojo, String> property = definition.computePropertyIfAbsent(type, "name");
+
+		assertSame(existing, property);
+		assertEquals(1, definition.getProperties().size());
+	}
+
+	@Test
+	void testComputePropertyIfAbsentRejectsExistingPropertyOfOtherType() {
+		PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+		PropertyDefinition<Pojo, String> existing = definition.addProperty(String.class, "name");
+		Type<Integer> type = definition.create().type().from(int.class);
+
+		assertThrows(IllegalArgumentException.class, () -> definition.computePropertyIfAbsent(type, "name"));
+		assertEquals(Optional.of(existing), definition.findProperty("name"));
+		assertEquals(1, definition.getProperties().size());
+	}
+
+	@Test
+	void testComputePropertyIfAbsentAlwaysAddsNonProperty() {
+		PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+		Type<Integer> type = definition.create().type().from(int.class);
+
+		PropertyDefinition<Pojo, Integer> property1 = definition.computePropertyIfAbsent(type,
+				ConstructorPropertiesHelper.NON_PROPERTY);
+		PropertyDefinition<Pojo, Integer> property2 = definition.computePropertyIfAbsent(type,
+				ConstructorPropertiesHelper.NON_PROPERTY);
+
+		assertNotSame(property1, property2);
+		assertNotEquals(property1.getName(), property2.getName());
+		assertEquals(2, definition.getProperties().size());
+		assertEquals(Optional.empty(), definition.findProperty(ConstructorPropertiesHelper.NON_PROPERTY));
+	}
+
+	@Test
+	void testFindPropertyReturnsPropertyOfName() {
+		PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+		PropertyDefinition<Pojo, String> name = definition.addProperty(String.class, "name");
+		PropertyDefinition<Pojo, Long> count = definition.addProperty(long.class, "count");
+
+		assertEquals(Optional.of(name), definition.findProperty("name"));
+		assertEquals(Optional.of(count), definition.findProperty("count"));
+	}
+
+	@Test
+	void testFindPropertyReturnsNothingForUnknownName() {
+		PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+		definition.addProperty(String.class, "name");
+
+		assertEquals(Optional.empty(), definition.findProperty("id"));
+		assertEquals(Optional.empty(), definition.findProperty("Name"));
+	}
+}
@@ -0,0 +1,41 @@
+package fr.vergne.pester.definition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class PropertyDefinitionTest {
+
+	static class TestClass {
+		private int property15;
+
+		public int getProperty15() {
+			return property15;
+		}
+
+		public int property15() {
+			return property15;
+		}
+
+		public void setProperty15(int value) {
+			this.property15 = value;
+		}
+	}
+
+	@Test
+	void testGetterDoesNotMatchLongerName() {
+		PojoDefinition<TestClass> definition = new PojoDefinition<>(TestClass.class);
+		PropertyDefinition<TestClass, Integer> property = definition.addProperty(int.class, "property1").withGetter();
+
+		assertFalse(property.getGetterDefinition().get().getInstance().isPresent());
+	}
+
+	@Test
+	void testSetterDoesNotMatchLongerName() {
+		PojoDefinition<TestClass> definition = new PojoDefinition<>(TestClass.class);
+		PropertyDefinition<TestClass, Integer> property = definition.addProperty(int.class, "property1").withSetter();
+
+		assertFalse(property.getSetterDefinition().get().getInstance().isPresent());
+	}
+}
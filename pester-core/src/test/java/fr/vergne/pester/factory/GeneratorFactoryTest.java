@@ -0,0 +1,129 @@
+package fr.vergne.pester.factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import fr.vergne.pester.value.IntGenerator;
+import fr.vergne.pester.value.IntModifier;
+import fr.vergne.pester.value.Modifier;
+import fr.vergne.pester.value.Type;
+
+class GeneratorFactoryTest {
+
+	private static final int LARGE_LENGTH = 100_000;
+
+	@Test
+	void testOfArraysGeneratesLargeByteArrayFromConstants() {
+		Factory factory = new Factory();
+
+		byte[] array = factory.generator().ofArrays(byte[].class, LARGE_LENGTH).create();
+
+		assertArrayEquals(iterate(factory.type().from(byte.class), array[0]), array);
+	}
+
+	@Test
+	void testOfArraysGeneratesLargeByteArrayFromRandomValues() {
+		Factory factory = new Factory().useRandomGenerators(42);
+
+		byte[] array = factory.generator().ofArrays(byte[].class, LARGE_LENGTH).create();
+
+		assertArrayEquals(iterate(factory.type().from(byte.class), array[0]), array);
+	}
+
+	@Test
+	void testOfArraysGeneratesLargeIntArrayFromConstants() {
+		Factory factory = new Factory();
+
+		int[] array = factory.generator().ofArrays(int[].class, LARGE_LENGTH).create();
+
+		assertArrayEquals(iterate(factory.type().from(int.class), array[0]), array);
+	}
+
+	@Test
+	void testOfArraysGeneratesLargeIntArrayFromRandomValues() {
+		Factory factory = new Factory().useRandomGenerators(42);
+		factory.random().withIntegerRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+		int[] array = factory.generator().ofArrays(int[].class, LARGE_LENGTH).create();
+
+		assertArrayEquals(iterate(factory.type().from(int.class), array[0]), array);
+	}
+
+	@Test
+	void testOfArraysDoesNotBoxPrimitiveItems() {
+		Factory factory = new Factory();
+		factory.type().from(int.class)
+				.withGenerator(new IntGenerator() {
+					@Override
+					public int createInt() {
+						return 7;
+					}
+
+					@Override
+					public Integer create() {
+						return fail("Boxed generation");
+					}
+				})
+				.withModifier(new IntModifier() {
+					@Override
+					public int modifyInt(int value) {
+						return value + 1;
+					}
+
+					@Override
+					public Integer modify(Integer value) {
+						return fail("Boxed modification");
+					}
+				});
+
+		int[] array = factory.generator().ofArrays(int[].class, LARGE_LENGTH).create();
+
+		assertEquals(7, array[0]);
+		assertEquals(7 + LARGE_LENGTH - 1, array[LARGE_LENGTH - 1]);
+	}
+
+	@Test
+	void testOfArraysDoesNotCopyCycleOfCustomModifier() {
+		Factory factory = new Factory();
+		int[] modificationsCount = { 0 };
+		factory.type().from(int.class)
+				.withModifier(new IntModifier() {
+					@Override
+					public int modifyInt(int value) {
+						// Cycle on 0 and 1 until the fourth modification
+						return ++modificationsCount[0] < 4 ? 1 - value : 2;
+					}
+
+					@Override
+					public Integer modify(Integer value) {
+						return modifyInt(value);
+					}
+				});
+
+		int[] array = factory.generator().ofArrays(int[].class, 6).create();
+
+		assertEquals(array.length - 1, modificationsCount[0]);
+		assertEquals(2, array[array.length - 1]);
+	}
+
+	private static byte[] iterate(Type<Byte> itemType, byte firstItem) {
+		Modifier<Byte> modifier = itemType.getModifier();
+		byte[] array = new byte[LARGE_LENGTH];
+		array[0] = firstItem;
+		for (int i = 1; i < array.length; i++) {
+			array[i] = modifier.modify(array[i - 1]);
+		}
+		return array;
+	}
+
+	private static int[] iterate(Type<Integer> itemType, int firstItem) {
+		Modifier<Integer> modifier = itemType.getModifier();
+		int[] array = new int[LARGE_LENGTH];
+		array[0] = firstItem;
+		for (int i = 1; i < array.length; i++) {
+			array[i] = modifier.modify(array[i - 1]);
+		}
+		return array;
+	}
+}
@@ -0,0 +1,89 @@
+package fr.vergne.pester.factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import fr.vergne.pester.value.IntModifier;
+import fr.vergne.pester.value.Modifier;
+
+class ModifierFactoryTest {
+
+	@Test
+	void testOfArraysModifiesEachPrimitiveItem() {
+		Factory factory = new Factory();
+
+		int[] array = factory.modifier().ofArrays(int[].class).modify(new int[] { 1, 5, 10 });
+
+		assertArrayEquals(new int[] { 2, 6, 0 }, array);
+	}
+
+	@Test
+	void testOfArraysDoesNotBoxPrimitiveItems() {
+		Factory factory = new Factory();
+		factory.type().from(int.class)
+				.withModifier(new IntModifier() {
+					@Override
+					public int modifyInt(int value) {
+						return value * 2;
+					}
+
+					@Override
+					public Integer modify(Integer value) {
+						return fail("Boxed modification");
+					}
+				});
+
+		int[] array = factory.modifier().ofArrays(int[].class).modify(new int[] { 1, 2, 3 });
+
+		assertArrayEquals(new int[] { 2, 4, 6 }, array);
+	}
+
+	@Test
+	void testOfArraysModifiesPrimitiveItemsWithBoxedModifier() {
+		Factory factory = new Factory();
+		Modifier<Integer> boxedModifier = value -> value * 2;
+		factory.type().from(int.class).withModifier(boxedModifier);
+
+		int[] array = factory.modifier().ofArrays(int[].class).modify(new int[] { 1, 2, 3 });
+
+		assertArrayEquals(new int[] { 2, 4, 6 }, array);
+	}
+
+	@Test
+	void testOfArraysModifiesEachObjectItem() {
+		Factory factory = new Factory();
+
+		String[] array = factory.modifier().ofArrays(String[].class).modify(new String[] { "a", "b" });
+
+		assertArrayEquals(new String[] { "a*", "b*" }, array);
+	}
+
+	@Test
+	void testOfArraysKeepsOriginalArray() {
+		Factory factory = new Factory();
+		char[] original = { 'a', 'b' };
+
+		char[] array = factory.modifier().ofArrays(char[].class).modify(original);
+
+		assertNotSame(original, array);
+		assertArrayEquals(new char[] { 'a', 'b' }, original);
+		assertArrayEquals(new char[] { 'b', 'c' }, array);
+	}
+
+	@Test
+	void testOfArraysGeneratesArrayFromNull() {
+		Factory factory = new Factory();
+
+		long[] array = factory.modifier().ofArrays(long[].class).modify(null);
+
+		assertNotNull(array);
+	}
+
+	@Test
+	void testOfArraysRejectsNonArrayClass() {
+		Factory factory = new Factory();
+
+		assertThrows(IllegalArgumentException.class, () -> factory.modifier().ofArrays(Integer.class));
+	}
+}
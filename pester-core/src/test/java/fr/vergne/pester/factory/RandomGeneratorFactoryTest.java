@@ -0,0 +1,107 @@
+package fr.vergne.pester.factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import fr.vergne.pester.value.Generator;
+
+class RandomGeneratorFactoryTest {
+
+	private static final int VALUES_COUNT = 10;
+
+	@AfterEach
+	void endScope() {
+		RandomGeneratorFactory.endScope();
+	}
+
+	@Test
+	void testSameSeedGeneratesSameValues() {
+		assertEquals(generate(new Factory().useRandomGenerators(42), "test"),
+				generate(new Factory().useRandomGenerators(42), "test"));
+	}
+
+	@Test
+	void testOtherSeedGeneratesOtherValues() {
+		assertNotEquals(generate(new Factory().useRandomGenerators(42), "test"),
+				generate(new Factory().useRandomGenerators(43), "test"));
+	}
+
+	@Test
+	void testOtherScopeGeneratesOtherValues() {
+		Factory factory = new Factory().useRandomGenerators(42);
+		assertNotEquals(generate(factory, "test1"), generate(factory, "test2"));
+	}
+
+	@Test
+	void testSameScopeRestartsItsValues() {
+		Factory factory = new Factory().useRandomGenerators(42);
+		List<Object> values = generate(factory, "test");
+		generate(factory, "other");
+		assertEquals(values, generate(factory, "test"));
+	}
+
+	@Test
+	void testSameSeedGeneratesSameValuesAcrossThreads() throws InterruptedException, ExecutionException {
+		List<String> keys = IntStream.range(0, 100).mapToObj(i -> "test" + i).collect(Collectors.toList());
+		Factory sequentialFactory = new Factory().useRandomGenerators(42);
+		List<List<Object>> expectedValues = keys.stream()
+				.map(key -> generate(sequentialFactory, key))
+				.collect(Collectors.toList());
+
+		Factory parallelFactory = new Factory().useRandomGenerators(42);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<List<Object>>> futures = new ArrayList<>();
+		try {
+			// Reversed, so threads generate in another order
+			for (int i = keys.size() - 1; i >= 0; i--) {
+				String key = keys.get(i);
+				futures.add(0, executor.submit(() -> {
+					try {
+						return generate(parallelFactory, key);
+					} finally {
+						RandomGeneratorFactory.endScope();
+					}
+				}));
+			}
+			for (int i = 0; i < keys.size(); i++) {
+				assertEquals(expectedValues.get(i), futures.get(i).get(), keys.get(i));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void testRandomGeneratorsApplyToCollections() {
+		Factory factory = new Factory().useRandomGenerators(42);
+		factory.random().withCollectionSize(7, 8);
+		@SuppressWarnings("unchecked")
+		Generator<List<Integer>> generator = (Generator<List<Integer>>) factory.type()
+				.from(new TypeLiteral<List<Integer>>() {}.getTypeDefinition())
+				.getGenerator();
+
+		assertEquals(7, generator.create().size());
+	}
+
+	private static List<Object> generate(Factory factory, String key) {
+		RandomGeneratorFactory.startScope(key);
+		List<Object> values = new ArrayList<>();
+		for (int i = 0; i < VALUES_COUNT; i++) {
+			values.add(factory.type().from(int.class).getGenerator().create());
+			values.add(factory.type().from(double.class).getGenerator().create());
+			values.add(factory.type().from(String.class).getGenerator().create());
+		}
+		return values;
+	}
+}
@@ -0,0 +1,152 @@
+package fr.vergne.pester.factory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import fr.vergne.pester.value.Type;
+
+@SuppressWarnings("unused")
+class TypeFactoryTest {
+
+	static class Types<T extends Number, C extends Comparable<C>, I extends Integer> {
+		private List<Map<String, Integer>> nestedIntegers;
+		private List<Map<String, Integer>> nestedIntegersAgain;
+		private List<Map<String, Long>> nestedLongs;
+		private List<? extends Integer> upperBounded;
+		private List<? super Integer> lowerBounded;
+		private List<?> unbounded;
+		private T variable;
+		private C recursiveVariable;
+		private List<I> listOfVariables;
+		private T[] arrayOfVariables;
+		private Optional<List<String>> optionalList;
+	}
+
+	private static java.lang.reflect.Type typeOf(String fieldName) {
+		try {
+			return Types.class.getDeclaredField(fieldName).getGenericType();
+		} catch (NoSuchFieldException cause) {
+			throw new IllegalArgumentException(cause);
+		}
+	}
+
+	@Test
+	void testNestedGenericsWithSameArgumentsShareTheirType() {
+		TypeFactory factory = new Factory().type();
+
+		Type<?> type1 = factory.from(typeOf("nestedIntegers"));
+		Type<?> type2 = factory.from(typeOf("nestedIntegersAgain"));
+
+		assertSame(type1, type2);
+	}
+
+	@Test
+	void testNestedGenericsWithOtherArgumentsHaveOtherTypes() {
+		TypeFactory factory = new Factory().type();
+
+		Type<?> integersType = factory.from(typeOf("nestedIntegers"));
+		Type<?> longsType = factory.from(typeOf("nestedLongs"));
+
+		assertNotEquals(integersType, longsType);
+		assertEquals(Optional.of(List.class), integersType.getTypeClass());
+		assertEquals("java.util.List<java.util.Map<java.lang.String, java.lang.Long>>", longsType.getName());
+	}
+
+	@Test
+	void testNestedGenericsGenerateItemsOfTheirArguments() {
+		TypeFactory factory = new Factory().type();
+
+		List<?> list = (List<?>) factory.from(typeOf("nestedLongs")).getGenerator().create();
+
+		assertFalse(list.isEmpty());
+		Map<?, ?> map = (Map<?, ?>) list.get(0);
+		assertFalse(map.isEmpty());
+		Map.Entry<?, ?> entry = map.entrySet().iterator().next();
+		assertEquals(String.class, entry.getKey().getClass());
+		assertEquals(Long.class, entry.getValue().getClass());
+	}
+
+	@Test
+	void testUpperBoundedWildcardGeneratesItemsOfItsBound() {
+		TypeFactory factory = new Factory().type();
+
+		List<?> list = (List<?>) factory.from(typeOf("upperBounded")).getGenerator().create();
+
+		assertEquals(Integer.class, list.get(0).getClass());
+	}
+
+	@Test
+	void testLowerBoundedWildcardGeneratesItemsOfItsBound() {
+		TypeFactory factory = new Factory().type();
+
+		List<?> list = (List<?>) factory.from(typeOf("lowerBounded")).getGenerator().create();
+
+		assertEquals(Integer.class, list.get(0).getClass());
+	}
+
+	@Test
+	void testUnboundedWildcardGeneratesObjects() {
+		TypeFactory factory = new Factory().type();
+
+		List<?> list = (List<?>) factory.from(typeOf("unbounded")).getGenerator().create();
+
+		assertEquals(factory.from(Object.class).getGenerator().create(), list.get(0));
+	}
+
+	@Test
+	void testTypeVariableIsResolvedAsItsBound() {
+		TypeFactory factory = new Factory().type();
+
+		assertSame(factory.from(Number.class), factory.from(typeOf("variable")));
+	}
+
+	@Test
+	void testRecursiveTypeVariableIsResolvedAsItsErasure() {
+		TypeFactory factory = new Factory().type();
+
+		assertSame(factory.from(Comparable.class), factory.from(typeOf("recursiveVariable")));
+	}
+
+	@Test
+	void testTypeVariableAsArgumentIsResolvedAsItsBound() {
+		TypeFactory factory = new Factory().type();
+
+		Type<?> type = factory.from(typeOf("listOfVariables"));
+
+		assertEquals(Optional.of(List.class), type.getTypeClass());
+		List<?> list = (List<?>) type.getGenerator().create();
+		assertEquals(Integer.class, list.get(0).getClass());
+	}
+
+	@Test
+	void testGenericArrayIsResolvedAsItsRawClass() {
+		TypeFactory factory = new Factory().type();
+
+		assertSame(factory.from(Number[].class), factory.from(typeOf("arrayOfVariables")));
+	}
+
+	@Test
+	void testOptionalOfGenericGeneratesPresentValue() {
+		TypeFactory factory = new Factory().type();
+
+		Optional<?> optional = (Optional<?>) factory.from(typeOf("optionalList")).getGenerator().create();
+
+		assertTrue(optional.isPresent());
+		assertTrue(optional.get() instanceof List);
+	}
+
+	@Test
+	void testGenericTypeModifiesIntoAnotherValue() {
+		@SuppressWarnings("unchecked")
+		Type<Object> type = (Type<Object>) new Factory().type().from(typeOf("nestedIntegers"));
+
+		Object value = type.getGenerator().create();
+
+		assertNotEquals(value, type.getModifier().modify(value));
+	}
+}
@@ -0,0 +1,139 @@
+package fr.vergne.pester.junit;
+
+import static fr.vergne.pester.junit.TestParameter.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.junit.annotation.DefinitionSource;
+
+class TestRankingTest {
+
+	static class OverflowingTests {
+		@DefinitionSource({ FIELD, FIELD_SCOPE, FIELD_MUTABILITY, CONSTRUCTOR_PARAMETERS_GENERATOR,
+				CONSTRUCTOR_PARAMETERS_MODIFIER, CONSTRUCTOR_FIELD, CONSTRUCTOR_GETTER, CONSTRUCTOR_PARAMETER_INDEX,
+				CONSTRUCTOR_VISIBILITY, DEFAULT_CONSTRUCTOR, CONSTRUCTOR, MUTABLE_FIELD })
+		void testTwelveParameters() {
+		}
+
+		@DefinitionSource({ FIELD, FIELD_SCOPE, FIELD_MUTABILITY, CONSTRUCTOR_PARAMETERS_GENERATOR,
+				CONSTRUCTOR_PARAMETERS_MODIFIER, CONSTRUCTOR_FIELD, CONSTRUCTOR_GETTER, CONSTRUCTOR_PARAMETER_INDEX,
+				CONSTRUCTOR_VISIBILITY, DEFAULT_CONSTRUCTOR, CONSTRUCTOR })
+		void testElevenParameters() {
+		}
+
+		@DefinitionSource({ FIELD, FIELD_SCOPE, FIELD_MUTABILITY, CONSTRUCTOR_PARAMETERS_GENERATOR,
+				CONSTRUCTOR_PARAMETERS_MODIFIER, CONSTRUCTOR_FIELD, CONSTRUCTOR_GETTER, CONSTRUCTOR_PARAMETER_INDEX,
+				CONSTRUCTOR_VISIBILITY, CONSTRUCTOR, MUTABLE_FIELD })
+		void testElevenOtherParameters() {
+		}
+	}
+
+	@Test
+	void testRanksSortTestsLikeComparisonOfParameters() {
+		List<Method> methods = new ArrayList<>(Arrays.asList(PesterTest.class.getMethods()));
+		methods.addAll(Arrays.asList(OverflowingTests.class.getDeclaredMethods()));
+		assertTrue(Arrays.stream(OverflowingTests.class.getDeclaredMethods())
+				.allMatch(method -> method.getAnnotation(DefinitionSource.class).value().length > TestRanking.MAX_RANKED_PARAMETERS));
+
+		List<Method> sortedByComparison = methods.stream()
+				.sorted(LegacyComparator.INSTANCE.thenComparing(Method::getName))
+				.collect(Collectors.toList());
+		List<Method> sortedByRank = methods.stream()
+				.sorted(new PesterTestComparator())
+				.collect(Collectors.toList());
+
+		assertEquals(sortedByComparison, sortedByRank);
+	}
+
+	/**
+	 * Compare the tests criterion after criterion, like it was done before
+	 * computing a rank per test.
+	 */
+	private static class LegacyComparator implements Comparator<Method> {
+		static final Comparator<Method> INSTANCE = new LegacyComparator();
+
+		private static final Predicate<Set<TestParameter>> POJO_CLASS_TESTED = parameters -> parameters.contains(POJO_CLASS);
+		private static final Predicate<Set<TestParameter>> CONSTRUCTOR_TESTED = parameters -> parameters.contains(CONSTRUCTOR) || parameters.contains(DEFAULT_CONSTRUCTOR);
+		private static final Predicate<Set<TestParameter>> FIELD_TESTED = parameters -> parameters.contains(FIELD) || parameters.contains(MUTABLE_FIELD);
+		private static final Predicate<Set<TestParameter>> GETTER_TESTED = parameters -> parameters.contains(GETTER);
+		private static final Predicate<Set<TestParameter>> SETTER_TESTED = parameters -> parameters.contains(SETTER);
+		private static final List<Predicate<Set<TestParameter>>> CATEGORIES = Arrays.asList(
+				POJO_CLASS_TESTED,
+				CONSTRUCTOR_TESTED.and(FIELD_TESTED.negate()).and(GETTER_TESTED.negate()),
+				CONSTRUCTOR_TESTED.and(FIELD_TESTED).and(GETTER_TESTED.negate()),
+				CONSTRUCTOR_TESTED.and(FIELD_TESTED.negate()).and(GETTER_TESTED),
+				CONSTRUCTOR_TESTED.and(FIELD_TESTED).and(GETTER_TESTED),
+				FIELD_TESTED.and(GETTER_TESTED.negate()).and(SETTER_TESTED.negate()),
+				FIELD_TESTED.negate().and(GETTER_TESTED).and(SETTER_TESTED.negate()),
+				FIELD_TESTED.and(GETTER_TESTED).and(SETTER_TESTED.negate()),
+				FIELD_TESTED.negate().and(GETTER_TESTED.negate()).and(SETTER_TESTED),
+				FIELD_TESTED.and(GETTER_TESTED.negate()).and(SETTER_TESTED),
+				FIELD_TESTED.negate().and(GETTER_TESTED).and(SETTER_TESTED),
+				FIELD_TESTED.and(GETTER_TESTED).and(SETTER_TESTED));
+
+		@Override
+		public int compare(Method method1, Method method2) {
+			Optional<TestParameter[]> parameters1 = findParameters(method1);
+			Optional<TestParameter[]> parameters2 = findParameters(method2);
+			if (parameters1.isPresent() && parameters2.isPresent()) {
+				return compare(parameters1.get(), parameters2.get());
+			} else if (parameters1.isPresent()) {
+				return -1;
+			} else if (parameters2.isPresent()) {
+				return 1;
+			} else {
+				return 0;
+			}
+		}
+
+		private static Optional<TestParameter[]> findParameters(Method method) {
+			return AnnotationSupport.findAnnotation(method, DefinitionSource.class).map(DefinitionSource::value);
+		}
+
+		private static int compare(TestParameter[] parameters1, TestParameter[] parameters2) {
+			int comparison = Integer.compare(categoryOf(parameters1), categoryOf(parameters2));
+			if (comparison != 0) {
+				return comparison;
+			}
+			comparison = Integer.compare(parameters1.length, parameters2.length);
+			if (comparison != 0) {
+				return comparison;
+			}
+			int[] scores1 = Arrays.stream(parameters1).mapToInt(TestParameter::ordinal).sorted().toArray();
+			int[] scores2 = Arrays.stream(parameters2).mapToInt(TestParameter::ordinal).sorted().toArray();
+			for (int i = 0; i < scores1.length; i++) {
+				comparison = Integer.compare(scores1[i], scores2[i]);
+				if (comparison != 0) {
+					return comparison;
+				}
+			}
+			return 0;
+		}
+
+		private static int categoryOf(TestParameter[] parameters) {
+			Set<TestParameter> parametersSet = parameters.length == 0
+					? EnumSet.noneOf(TestParameter.class)
+					: EnumSet.copyOf(Arrays.asList(parameters));
+			for (int index = 0; index < CATEGORIES.size(); index++) {
+				if (CATEGORIES.get(index).test(parametersSet)) {
+					return index;
+				}
+			}
+			throw new RuntimeException("Situation not considered: " + Arrays.deepToString(parameters));
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package fr.vergne.pester.junit.extension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Event;
+import org.junit.platform.testkit.engine.Events;
+
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.definition.PojoDefinition;
+
+class DefinitionSourcerExtensionTest {
+
+	private static final int PROPERTIES_COUNT = 12;
+
+	public static class EmptyPojo {
+	}
+
+	public static class AbsentFieldsPester implements PesterTest<EmptyPojo> {
+		@Override
+		public PojoDefinition<EmptyPojo> createPojoDefinition() {
+			PojoDefinition<EmptyPojo> definition = new PojoDefinition<>(EmptyPojo.class);
+			for (int i = 1; i <= PROPERTIES_COUNT; i++) {
+				definition.addProperty(int.class, "property" + i).withField();
+			}
+			return definition;
+		}
+	}
+
+	@Test
+	void testFailureOfInvocationIsSourcedToDefinitionOfItsCase() {
+		Events events = EngineTestKit.engine("junit-jupiter")
+				.selectors(selectMethod(AbsentFieldsPester.class, "testFieldIsPresent", "fr.vergne.pester.model.Field"))
+				.execute()
+				.tests();
+
+		events.assertStatistics(stats -> stats.started(PROPERTIES_COUNT).failed(PROPERTIES_COUNT));
+		List<Event> failures = events.failed().stream().collect(Collectors.toList());
+		for (Event failure : failures) {
+			String fieldName = failure.getTestDescriptor().getDisplayName().replace(" is present", "");
+			String message = failure.getPayload(TestExecutionResult.class).get().getThrowable().get().getMessage();
+			assertTrue(message.startsWith("Definition of " + fieldName + " not fulfilled"), message);
+		}
+	}
+}
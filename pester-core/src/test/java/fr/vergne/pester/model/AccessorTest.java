@@ -0,0 +1,147 @@
+package fr.vergne.pester.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+class AccessorTest {
+
+	@SuppressWarnings("serial")
+	static class TestException extends RuntimeException {
+	}
+
+	static class TestClass {
+		int intField;
+		byte byteField;
+		long longField;
+		static int staticField;
+		TestException exception = new TestException();
+
+		TestClass() {
+		}
+
+		TestClass(int value) {
+			this.intField = value;
+		}
+
+		int getIntField() {
+			return intField;
+		}
+
+		void setIntField(int value) {
+			this.intField = value;
+		}
+
+		void fail() {
+			throw exception;
+		}
+	}
+
+	@Test
+	void testFieldAccessorsReadAndWriteField() throws Exception {
+		TestClass pojo = new TestClass();
+		java.lang.reflect.Field field = TestClass.class.getDeclaredField("intField");
+
+		Accessor.onFieldSet(field).invoke(pojo, 123);
+
+		assertEquals(123, pojo.intField);
+		assertEquals(123, Accessor.onFieldGet(field).invoke(pojo));
+	}
+
+	@Test
+	void testFieldAccessorsSupportStaticField() throws Exception {
+		java.lang.reflect.Field field = TestClass.class.getDeclaredField("staticField");
+
+		Accessor.onFieldSet(field).invoke(null, 123);
+
+		assertEquals(123, TestClass.staticField);
+		assertEquals(123, Accessor.onFieldGet(field).invoke(null));
+	}
+
+	@Test
+	void testFieldAccessorFallsBackOnWideningConversion() throws Exception {
+		TestClass pojo = new TestClass();
+		java.lang.reflect.Field field = TestClass.class.getDeclaredField("intField");
+
+		Accessor.onFieldSet(field).invoke(pojo, (byte) 123);
+
+		assertEquals(123, pojo.intField);
+	}
+
+	@Test
+	void testFieldAccessorFallsBackOnInvalidValue() throws Exception {
+		TestClass pojo = new TestClass();
+		java.lang.reflect.Field field = TestClass.class.getDeclaredField("intField");
+		Accessor accessor = Accessor.onFieldSet(field);
+
+		assertThrows(IllegalArgumentException.class, () -> accessor.invoke(pojo, "foo"));
+		assertThrows(IllegalArgumentException.class, () -> accessor.invoke(pojo, (Object) null));
+	}
+
+	@Test
+	void testMethodAccessorsCallMethods() throws Exception {
+		TestClass pojo = new TestClass();
+		Accessor setter = Accessor.onMethod(TestClass.class.getDeclaredMethod("setIntField", int.class));
+		Accessor getter = Accessor.onMethod(TestClass.class.getDeclaredMethod("getIntField"));
+
+		assertNull(setter.invoke(pojo, 123));
+		assertEquals(123, getter.invoke(pojo));
+	}
+
+	@Test
+	void testMethodAccessorWrapsMethodException() throws Exception {
+		TestClass pojo = new TestClass();
+		Accessor accessor = Accessor.onMethod(TestClass.class.getDeclaredMethod("fail"));
+
+		InvocationTargetException exception = assertThrows(InvocationTargetException.class, () -> accessor.invoke(pojo));
+		assertEquals(pojo.exception, exception.getCause());
+	}
+
+	@Test
+	void testConstructorAccessorCreatesInstance() throws Exception {
+		Accessor accessor = Accessor.onConstructor(TestClass.class.getDeclaredConstructor(int.class));
+
+		Object pojo = accessor.invoke(null, 123);
+
+		assertEquals(123, ((TestClass) pojo).intField);
+	}
+
+	@Test
+	void testConstructorAccessorFallsBackOnWrongNumberOfArguments() throws Exception {
+		Accessor accessor = Accessor.onConstructor(TestClass.class.getDeclaredConstructor(int.class));
+
+		Exception exception = assertThrows(IllegalArgumentException.class, () -> accessor.invoke(null, 1, 2));
+		assertEquals("wrong number of arguments", exception.getMessage());
+	}
+
+	@Test
+	void testPrimitiveAccessorsReadAndWriteWithoutBoxing() throws Exception {
+		TestClass pojo = new TestClass();
+		java.lang.reflect.Field field = TestClass.class.getDeclaredField("longField");
+
+		Accessor.onFieldSet(field).invokeWithLong(pojo, 123L);
+
+		assertEquals(123L, pojo.longField);
+		assertEquals(123L, Accessor.onFieldGet(field).invokeForLong(pojo));
+	}
+
+	@Test
+	void testPrimitiveAccessorsSupportWideningConversion() throws Exception {
+		TestClass pojo = new TestClass();
+		pojo.byteField = 12;
+
+		assertEquals(12, Accessor.onFieldGet(TestClass.class.getDeclaredField("byteField")).invokeForInt(pojo));
+		Accessor.onFieldSet(TestClass.class.getDeclaredField("longField")).invokeWithInt(pojo, 34);
+		assertEquals(34L, pojo.longField);
+	}
+
+	@Test
+	void testPrimitiveAccessorsFallBackOnNarrowingConversion() throws Exception {
+		TestClass pojo = new TestClass();
+		Accessor accessor = Accessor.onFieldSet(TestClass.class.getDeclaredField("byteField"));
+
+		assertThrows(IllegalArgumentException.class, () -> accessor.invokeWithInt(pojo, 12));
+	}
+}
@@ -0,0 +1,79 @@
+package fr.vergne.pester.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unused")
+class ClassMembersTest {
+
+	static class TestClass {
+		int field1;
+		String field2;
+
+		TestClass() {
+		}
+
+		TestClass(int value) {
+		}
+
+		TestClass(String value) {
+		}
+
+		void method() {
+		}
+
+		void method(int value) {
+		}
+
+		void other(int value) {
+		}
+	}
+
+	@Test
+	void testOfReturnsSameIndexForSameClass() {
+		assertSame(ClassMembers.of(TestClass.class), ClassMembers.of(TestClass.class));
+	}
+
+	@Test
+	void testFindFieldReturnsDeclaredField() throws NoSuchFieldException {
+		ClassMembers members = ClassMembers.of(TestClass.class);
+		assertEquals(TestClass.class.getDeclaredField("field1"), members.findField("field1").get());
+		assertFalse(members.findField("unknown").isPresent());
+	}
+
+	@Test
+	void testGetMethodsByNameReturnsAllOverloads() {
+		ClassMembers members = ClassMembers.of(TestClass.class);
+		assertEquals(2, members.getMethods("method").size());
+		assertEquals(Collections.emptyList(), members.getMethods("unknown"));
+	}
+
+	@Test
+	void testGetMethodsByArityReturnsMatchingMethods() {
+		ClassMembers members = ClassMembers.of(TestClass.class);
+		assertEquals(new HashSet<>(Arrays.asList("method", "other")), members.getMethods(1).stream()
+				.map(java.lang.reflect.Method::getName)
+				.collect(Collectors.toSet()));
+	}
+
+	@Test
+	void testFindMethodReturnsMethodWithParameterTypes() throws NoSuchMethodException {
+		ClassMembers members = ClassMembers.of(TestClass.class);
+		assertEquals(TestClass.class.getDeclaredMethod("method", int.class), members.findMethod("method", int.class).get());
+		assertFalse(members.findMethod("method", String.class).isPresent());
+	}
+
+	@Test
+	void testConstructorsAreIndexedByArityAndParameterTypes() throws NoSuchMethodException {
+		ClassMembers members = ClassMembers.of(TestClass.class);
+		assertEquals(2, members.getConstructors(1).size());
+		assertEquals(TestClass.class.getDeclaredConstructor(String.class), members.findConstructor(String.class).get());
+		assertFalse(members.findConstructor(long.class).isPresent());
+	}
+}
@@ -6,12 +6,17 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterMetrics.Counter;
+import fr.vergne.pester.metrics.CountingMetrics;
+import fr.vergne.pester.metrics.MetricsSnapshot;
 import fr.vergne.pester.options.Mutability;
 import fr.vergne.pester.options.Scope;
 import fr.vergne.pester.options.Visibility;
@@ -185,10 +190,122 @@ class FieldTest {
 		assertEquals(expectedValue, actualValue);
 	}
 
+	@Test
+	void testGetIntFromWidensCurrentValue() {
+		TestClass pojo = new TestClass();
+		pojo.myField = 123;
+
+		PropertyReader<TestClass> field = new Field<>(TestClass.class, "myField");
+		assertEquals(123, field.getIntFrom(pojo));
+	}
+
+	@Test
+	void testSetIntToFailsDefinitionOnNarrowingClass() {
+		TestClass pojo = new TestClass();
+
+		PropertyWriter<TestClass> field = new Field<>(TestClass.class, "myField");
+		Exception exception = assertThrows(DefinitionUnfulfilledException.class, () -> field.setIntTo(pojo, 123));
+		assertEquals("Field myField only accepts byte values", exception.getMessage());
+	}
+
+	@Test
+	void testIsKnownMissingOnceSearchedAndNotFound() {
+		Field<TestClass> field = new Field<>(TestClass.class, "absentField");
+		assertFalse(field.isKnownMissing());
+		field.isPresent();
+		assertTrue(field.isKnownMissing());
+	}
+
+	@Test
+	void testIsKnownMissingReturnsFalseOnFoundField() {
+		Field<TestClass> field = new Field<>(TestClass.class, "myField");
+		field.isPresent();
+		assertFalse(field.isKnownMissing());
+	}
+
 	@Test
 	void testToStringReturnsFieldName() {
 		String fieldName = "myField";
 		Field<TestClass> field = new Field<>(TestClass.class, fieldName);
 		assertEquals(fieldName, field.toString());
 	}
+
+	@Test
+	@ResourceLock(PesterMetrics.METRICS_PROPERTY)
+	void testAccessesAreCountedInInstalledMetrics() {
+		CountingMetrics metrics = new CountingMetrics(false);
+		PesterMetrics previousMetrics = PesterMetrics.current();
+		PesterMetrics.install(metrics);
+		try {
+			TestClass pojo = new TestClass();
+			Field<TestClass> field = new Field<>(TestClass.class, "myField");
+			field.setTo(pojo, (byte) 123);
+			field.getFrom(pojo);
+			field.getFrom(pojo);
+
+			MetricsSnapshot snapshot = metrics.snapshot();
+			assertEquals(1, snapshot.getCount(Counter.FIELD_LOOKUPS));
+			assertEquals(1, snapshot.getCount(Counter.FIELD_WRITES));
+			assertEquals(2, snapshot.getCount(Counter.FIELD_READS));
+		} finally {
+			PesterMetrics.install(previousMetrics);
+		}
+	}
+
+	static class PrimitiveTestClass {
+		long longField;
+		Integer boxedField;
+		Number numberField = 1;
+	}
+
+	@Test
+	void testGetLongFromReadsWrittenIntValue() {
+		PrimitiveTestClass pojo = new PrimitiveTestClass();
+
+		Field<PrimitiveTestClass> field = new Field<>(PrimitiveTestClass.class, "longField");
+		field.setIntTo(pojo, 123);
+		assertEquals(123L, field.getLongFrom(pojo));
+	}
+
+	@Test
+	void testGetIntFromFailsDefinitionOnNarrowingClass() {
+		PrimitiveTestClass pojo = new PrimitiveTestClass();
+
+		PropertyReader<PrimitiveTestClass> field = new Field<>(PrimitiveTestClass.class, "longField");
+		Exception exception = assertThrows(DefinitionUnfulfilledException.class, () -> field.getIntFrom(pojo));
+		assertEquals("Field longField only provides long values", exception.getMessage());
+	}
+
+	@Test
+	void testGetIntFromFailsDefinitionOnNullBoxedValue() {
+		PrimitiveTestClass pojo = new PrimitiveTestClass();
+
+		PropertyReader<PrimitiveTestClass> field = new Field<>(PrimitiveTestClass.class, "boxedField");
+		Exception exception = assertThrows(DefinitionUnfulfilledException.class, () -> field.getIntFrom(pojo));
+		assertEquals("Field boxedField only provides class java.lang.Integer values", exception.getMessage());
+	}
+
+	@Test
+	void testGetDoubleFromFailsDefinitionOnReferenceClass() {
+		PrimitiveTestClass pojo = new PrimitiveTestClass();
+
+		PropertyReader<PrimitiveTestClass> field = new Field<>(PrimitiveTestClass.class, "numberField");
+		Exception exception = assertThrows(DefinitionUnfulfilledException.class, () -> field.getDoubleFrom(pojo));
+		assertEquals("Field numberField only provides class java.lang.Number values", exception.getMessage());
+	}
+
+	@Test
+	void testSetIntToFailsDefinitionOnReferenceClass() {
+		PrimitiveTestClass pojo = new PrimitiveTestClass();
+
+		PropertyWriter<PrimitiveTestClass> field = new Field<>(PrimitiveTestClass.class, "boxedField");
+		Exception exception = assertThrows(DefinitionUnfulfilledException.class, () -> field.setIntTo(pojo, 123));
+		assertEquals("Field boxedField only accepts class java.lang.Integer values", exception.getMessage());
+	}
+
+	@Test
+	void testGetIntFromFailsOnNullPojo() {
+		PropertyReader<TestClass> field = new Field<>(TestClass.class, "myField");
+		assertThrows(NullPointerException.class, () -> field.getIntFrom(null));
+	}
 }
@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -232,4 +233,56 @@ class GetterTest {
 		TestNamer predicateNamer = new TestNamer(methodName + "()", name -> methodName.equals(name));
 		return Stream.of(nameNamer, predicateNamer);
 	}
+
+	static class PrimitiveTestClass {
+		int getInt() {
+			return 123;
+		}
+
+		long getLong() {
+			return 123L;
+		}
+
+		Integer getBoxed() {
+			return null;
+		}
+
+		Object getObject() {
+			return 123;
+		}
+
+		Number getNumber() {
+			return 123;
+		}
+	}
+
+	@Test
+	void testGetDoubleFromWidensReturnedValue() {
+		Getter<PrimitiveTestClass> getter = new Getter<>(PrimitiveTestClass.class, new TestNamer("getInt"));
+		assertEquals(123.0, getter.getDoubleFrom(new PrimitiveTestClass()));
+	}
+
+	static Stream<Arguments> testGetIntFromFailsDefinitionOnIncompatibleClass() {
+		return Stream.of(
+				Arguments.of("getLong", "long"),
+				Arguments.of("getBoxed", "class java.lang.Integer"),
+				Arguments.of("getObject", "class java.lang.Object"),
+				Arguments.of("getNumber", "class java.lang.Number"));
+	}
+
+	@ParameterizedTest
+	@MethodSource
+	void testGetIntFromFailsDefinitionOnIncompatibleClass(String name, String returnClass) {
+		Getter<PrimitiveTestClass> getter = new Getter<>(PrimitiveTestClass.class, new TestNamer(name));
+		Exception exception = assertThrows(DefinitionUnfulfilledException.class,
+				() -> getter.getIntFrom(new PrimitiveTestClass()));
+		assertTrue(exception.getMessage().endsWith(" only provides " + returnClass + " values"),
+				exception.getMessage());
+	}
+
+	@Test
+	void testGetIntFromFailsOnNullPojo() {
+		Getter<TestClass> getter = new Getter<>(TestClass.class, new TestNamer("myGetter"));
+		assertThrows(NullPointerException.class, () -> getter.getIntFrom(null));
+	}
 }
@@ -330,4 +330,57 @@ class SetterTest {
 		Type<?> constrainedNamedType = type.as(typeName + "[" + typeClass + "]", typeClass);
 		return Stream.of(classType, constrainedNamedType, namedType);
 	}
+
+	static class PrimitiveTestClass {
+		long longValue;
+
+		void setLong(long value) {
+			longValue = value;
+		}
+
+		void setByte(byte value) {
+		}
+
+		void setBoxed(Integer value) {
+		}
+
+		void setObject(Object value) {
+		}
+	}
+
+	@Test
+	void testSetIntToWidensValue() {
+		Type<?> type = new Factory().type().from(long.class);
+		Setter<PrimitiveTestClass> setter = new Setter<>(PrimitiveTestClass.class, type, new TestNamer("setLong"));
+		PrimitiveTestClass pojo = new PrimitiveTestClass();
+
+		setter.setIntTo(pojo, 123);
+
+		assertEquals(123L, pojo.longValue);
+	}
+
+	static Stream<Arguments> testSetIntToFailsDefinitionOnIncompatibleClass() {
+		return Stream.of(
+				Arguments.of("setByte", byte.class, "byte"),
+				Arguments.of("setBoxed", Integer.class, "class java.lang.Integer"),
+				Arguments.of("setObject", Object.class, "class java.lang.Object"));
+	}
+
+	@ParameterizedTest
+	@MethodSource
+	void testSetIntToFailsDefinitionOnIncompatibleClass(String name, Class<?> parameterClass, String expectedClass) {
+		Type<?> type = new Factory().type().from(parameterClass);
+		Setter<PrimitiveTestClass> setter = new Setter<>(PrimitiveTestClass.class, type, new TestNamer(name));
+		Exception exception = assertThrows(DefinitionUnfulfilledException.class,
+				() -> setter.setIntTo(new PrimitiveTestClass(), 123));
+		assertTrue(exception.getMessage().endsWith(" only accepts " + expectedClass + " values"),
+				exception.getMessage());
+	}
+
+	@Test
+	void testSetIntToFailsOnNullPojo() {
+		Type<?> type = new Factory().type().from(long.class);
+		Setter<PrimitiveTestClass> setter = new Setter<>(PrimitiveTestClass.class, type, new TestNamer("setLong"));
+		assertThrows(NullPointerException.class, () -> setter.setIntTo(null, 123));
+	}
 }
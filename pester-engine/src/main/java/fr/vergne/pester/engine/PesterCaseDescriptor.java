@@ -0,0 +1,101 @@
+package fr.vergne.pester.engine;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+/**
+ * A {@link PesterCaseDescriptor} represents a single call of a test method
+ * with the arguments of one of its test cases. Its display name is formatted
+ * like the {@link ParameterizedTest} of JUnit Jupiter.
+ */
+class PesterCaseDescriptor extends AbstractTestDescriptor {
+
+	static final String SEGMENT_TYPE = "case";
+
+	private final Object[] arguments;
+
+	PesterCaseDescriptor(UniqueId parentId, Class<?> testClass, Method testMethod, String methodDisplayName,
+			int oneBasedIndex, Object[] arguments) {
+		super(parentId.append(SEGMENT_TYPE, "#" + oneBasedIndex),
+				formatDisplayName(testMethod, methodDisplayName, oneBasedIndex, arguments),
+				MethodSource.from(testClass, testMethod));
+		this.arguments = arguments;
+	}
+
+	/**
+	 * Like JUnit Jupiter, the placeholders of the pattern are replaced by
+	 * argument indexes before to apply {@link MessageFormat}, so the formatted
+	 * arguments are inserted as they are, even if they contain braces or quotes.
+	 */
+	static String formatDisplayName(Method testMethod, String methodDisplayName, int oneBasedIndex,
+			Object[] arguments) {
+		String pattern = AnnotationSupport.findAnnotation(testMethod, ParameterizedTest.class)
+				.map(ParameterizedTest::name)
+				.orElse(ParameterizedTest.DEFAULT_DISPLAY_NAME);
+		int displayNameIndex = arguments.length;
+		int invocationIndex = arguments.length + 1;
+		int argumentsIndex = arguments.length + 2;
+		int argumentsWithNamesIndex = arguments.length + 3;
+		String messagePattern = pattern
+				.replace(ParameterizedTest.DISPLAY_NAME_PLACEHOLDER, "{" + displayNameIndex + "}")
+				.replace(ParameterizedTest.INDEX_PLACEHOLDER, "{" + invocationIndex + "}")
+				.replace(ParameterizedTest.ARGUMENTS_WITH_NAMES_PLACEHOLDER, "{" + argumentsWithNamesIndex + "}")
+				.replace(ParameterizedTest.ARGUMENTS_PLACEHOLDER, "{" + argumentsIndex + "}");
+		String[] formattedArguments = Stream.of(arguments).map(PesterCaseDescriptor::format).toArray(String[]::new);
+		Parameter[] parameters = testMethod.getParameters();
+		String[] namedArguments = new String[arguments.length];
+		for (int i = 0; i < arguments.length; i++) {
+			namedArguments[i] = i < parameters.length && parameters[i].isNamePresent()
+					? parameters[i].getName() + "=" + formattedArguments[i]
+					: formattedArguments[i];
+		}
+		Object[] messageArguments = Arrays.copyOf(formattedArguments, arguments.length + 4, Object[].class);
+		messageArguments[displayNameIndex] = methodDisplayName;
+		messageArguments[invocationIndex] = String.valueOf(oneBasedIndex);
+		messageArguments[argumentsIndex] = String.join(", ", formattedArguments);
+		messageArguments[argumentsWithNamesIndex] = String.join(", ", namedArguments);
+		return MessageFormat.format(messagePattern, messageArguments);
+	}
+
+	private static String format(Object argument) {
+		if (argument instanceof Object[]) {
+			return Arrays.deepToString((Object[]) argument);
+		} else if (argument instanceof boolean[]) {
+			return Arrays.toString((boolean[]) argument);
+		} else if (argument instanceof byte[]) {
+			return Arrays.toString((byte[]) argument);
+		} else if (argument instanceof char[]) {
+			return Arrays.toString((char[]) argument);
+		} else if (argument instanceof short[]) {
+			return Arrays.toString((short[]) argument);
+		} else if (argument instanceof int[]) {
+			return Arrays.toString((int[]) argument);
+		} else if (argument instanceof long[]) {
+			return Arrays.toString((long[]) argument);
+		} else if (argument instanceof float[]) {
+			return Arrays.toString((float[]) argument);
+		} else if (argument instanceof double[]) {
+			return Arrays.toString((double[]) argument);
+		} else {
+			return String.valueOf(argument);
+		}
+	}
+
+	@Override
+	public Type getType() {
+		return Type.TEST;
+	}
+
+	Object[] getArguments() {
+		return arguments;
+	}
+}
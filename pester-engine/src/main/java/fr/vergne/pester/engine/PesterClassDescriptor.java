@@ -0,0 +1,71 @@
+package fr.vergne.pester.engine;
+
+import java.util.Optional;
+
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.junit.TestPlan;
+
+/**
+ * A {@link PesterClassDescriptor} represents a {@link PesterTest}
+ * implementation. It holds the instance which provides the definition to test,
+ * or the failure which prevented to obtain it.
+ */
+class PesterClassDescriptor extends AbstractTestDescriptor {
+
+	static final String SEGMENT_TYPE = "class";
+
+	private final PesterTest<?> testInstance;
+	private final TestPlan testPlan;
+	private final Throwable failure;
+
+	private PesterClassDescriptor(UniqueId uniqueId, Class<?> testClass, PesterTest<?> testInstance,
+			TestPlan testPlan, Throwable failure) {
+		super(uniqueId, testClass.getSimpleName(), ClassSource.from(testClass));
+		this.testInstance = testInstance;
+		this.testPlan = testPlan;
+		this.failure = failure;
+	}
+
+	static PesterClassDescriptor create(UniqueId parentId, Class<?> testClass) {
+		UniqueId uniqueId = parentId.append(SEGMENT_TYPE, testClass.getName());
+		PesterTest<?> testInstance;
+		TestPlan testPlan;
+		try {
+			testInstance = (PesterTest<?>) ReflectionSupport.newInstance(testClass);
+			testPlan = new TestPlan(testInstance.createPojoDefinition());
+		} catch (VirtualMachineError error) {
+			throw error;
+		} catch (Throwable cause) {
+			return new PesterClassDescriptor(uniqueId, testClass, null, null, cause);
+		}
+		return new PesterClassDescriptor(uniqueId, testClass, testInstance, testPlan, null);
+	}
+
+	@Override
+	public Type getType() {
+		return Type.CONTAINER;
+	}
+
+	@Override
+	public boolean mayRegisterTests() {
+		// Keep it in the tree even without tests, to report its failure
+		return failure != null;
+	}
+
+	PesterTest<?> getTestInstance() {
+		return testInstance;
+	}
+
+	Optional<TestPlan> getTestPlan() {
+		return Optional.ofNullable(testPlan);
+	}
+
+	Optional<Throwable> getFailure() {
+		return Optional.ofNullable(failure);
+	}
+}
@@ -0,0 +1,232 @@
+package fr.vergne.pester.engine;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.MethodSelector;
+import org.junit.platform.engine.discovery.PackageNameFilter;
+import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import fr.vergne.pester.PesterMetrics;
+import fr.vergne.pester.PesterShard;
+import fr.vergne.pester.PesterSuite;
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
+import fr.vergne.pester.junit.PesterTestComparator;
+import fr.vergne.pester.junit.TestPlan;
+import fr.vergne.pester.junit.annotation.DefinitionSource;
+
+/**
+ * {@link PesterDiscoverer} builds the test tree of the {@link PesterTest}
+ * implementations and {@link PesterPackage} classes selected by a discovery
+ * request. Each class is resolved
+ * once, even if several selectors target it, and only the selected parts of
+ * its tree are kept.
+ */
+class PesterDiscoverer {
+
+	private final EngineDescriptor engineDescriptor;
+	private final Map<Class<?>, List<Predicate<UniqueId>>> selections = new LinkedHashMap<>();
+
+	PesterDiscoverer(EngineDescriptor engineDescriptor) {
+		this.engineDescriptor = engineDescriptor;
+	}
+
+	void resolve(EngineDiscoveryRequest request) {
+		Predicate<String> classNameFilter = Filter.composeFilters(request.getFiltersByType(ClassNameFilter.class))
+				.toPredicate()
+				.and(Filter.composeFilters(request.getFiltersByType(PackageNameFilter.class)).toPredicate());
+
+		request.getSelectorsByType(ClasspathRootSelector.class).forEach(selector -> {
+			selectAll(ReflectionSupport.findAllClassesInClasspathRoot(selector.getClasspathRoot(),
+					PesterDiscoverer::isCandidate, classNameFilter));
+		});
+		request.getSelectorsByType(PackageSelector.class).forEach(selector -> {
+			selectAll(ReflectionSupport.findAllClassesInPackage(selector.getPackageName(),
+					PesterDiscoverer::isCandidate, classNameFilter));
+		});
+		request.getSelectorsByType(ClassSelector.class).forEach(selector -> {
+			Class<?> testClass = selector.getJavaClass();
+			if (isCandidate(testClass)) {
+				select(testClass, uniqueId -> true);
+			}
+		});
+		request.getSelectorsByType(MethodSelector.class).forEach(selector -> {
+			Class<?> testClass = selector.getJavaClass();
+			if (isPesterTest(testClass)) {
+				UniqueId methodId = createClassId(testClass).append(PesterMethodDescriptor.SEGMENT_TYPE,
+						PesterMethodDescriptor.createSegmentValue(selector.getJavaMethod()));
+				select(testClass, uniqueId -> areRelated(uniqueId, methodId));
+			}
+		});
+		request.getSelectorsByType(UniqueIdSelector.class).forEach(selector -> {
+			UniqueId selectedId = selector.getUniqueId();
+			if (selectedId.hasPrefix(engineDescriptor.getUniqueId())) {
+				selectedId.getSegments().stream()
+						.filter(segment -> segment.getType().equals(PesterClassDescriptor.SEGMENT_TYPE)
+								|| segment.getType().equals(PesterSuiteDescriptor.SEGMENT_TYPE))
+						.findFirst()
+						.flatMap(segment -> ReflectionSupport.tryToLoadClass(segment.getValue()).toOptional())
+						.filter(PesterDiscoverer::isCandidate)
+						.ifPresent(testClass -> select(testClass, uniqueId -> areRelated(uniqueId, selectedId)));
+			}
+		});
+
+		selections.forEach((testClass, selectors) -> {
+			Predicate<UniqueId> isSelected = selectors.stream().reduce(uniqueId -> false, Predicate::or);
+			if (isPesterSuite(testClass)) {
+				engineDescriptor.addChild(createSuiteDescriptor(testClass, isSelected));
+			} else {
+				engineDescriptor.addChild(createClassDescriptor(testClass, isSelected));
+			}
+		});
+		PesterShard.fromProperties(request.getConfigurationParameters()::get).ifPresent(this::keepShard);
+	}
+
+	/**
+	 * Remove the test classes or methods assigned to other shards, weighted by
+	 * their number of test cases. The {@link PesterPackage} classes are kept,
+	 * since their {@link PesterSuite} assigns their POJO classes itself.
+	 */
+	private void keepShard(PesterShard shard) {
+		List<TestDescriptor> classDescriptors = engineDescriptor.getChildren().stream()
+				.filter(PesterClassDescriptor.class::isInstance)
+				.collect(Collectors.toList());
+		List<TestDescriptor> units = classDescriptors.stream()
+				.flatMap(classDescriptor -> shard.getUnit() == PesterShard.Unit.CLASS
+						|| classDescriptor.getChildren().isEmpty()
+								? Stream.of(classDescriptor)
+								: classDescriptor.getChildren().stream())
+				.collect(Collectors.toList());
+		Set<TestDescriptor> selectedUnits = new HashSet<>(shard.select(units,
+				unit -> unit.getUniqueId().toString(),
+				unit -> unit.getDescendants().stream().filter(TestDescriptor::isTest).count()));
+		units.stream()
+				.filter(unit -> !selectedUnits.contains(unit))
+				.forEach(TestDescriptor::removeFromHierarchy);
+		classDescriptors.stream()
+				.filter(classDescriptor -> classDescriptor.getParent().isPresent())
+				.filter(classDescriptor -> classDescriptor.getChildren().isEmpty())
+				.filter(classDescriptor -> !selectedUnits.contains(classDescriptor))
+				.forEach(TestDescriptor::removeFromHierarchy);
+	}
+
+	private void selectAll(Collection<Class<?>> testClasses) {
+		testClasses.forEach(testClass -> select(testClass, uniqueId -> true));
+	}
+
+	private void select(Class<?> testClass, Predicate<UniqueId> isSelected) {
+		selections.computeIfAbsent(testClass, k -> new ArrayList<>()).add(isSelected);
+	}
+
+	private static boolean areRelated(UniqueId id1, UniqueId id2) {
+		return id1.hasPrefix(id2) || id2.hasPrefix(id1);
+	}
+
+	private static boolean isCandidate(Class<?> candidate) {
+		return isPesterTest(candidate) || isPesterSuite(candidate);
+	}
+
+	private static boolean isPesterSuite(Class<?> candidate) {
+		return AnnotationSupport.isAnnotated(candidate, PesterPackage.class);
+	}
+
+	private static boolean isPesterTest(Class<?> candidate) {
+		int modifiers = candidate.getModifiers();
+		return PesterTest.class.isAssignableFrom(candidate)
+				&& !candidate.isInterface()
+				&& !Modifier.isAbstract(modifiers)
+				&& !candidate.isAnonymousClass()
+				&& !candidate.isLocalClass()
+				&& !(candidate.isMemberClass() && !Modifier.isStatic(modifiers));
+	}
+
+	private UniqueId createClassId(Class<?> testClass) {
+		return engineDescriptor.getUniqueId().append(PesterClassDescriptor.SEGMENT_TYPE, testClass.getName());
+	}
+
+	private TestDescriptor createClassDescriptor(Class<?> testClass, Predicate<UniqueId> isSelected) {
+		PesterClassDescriptor classDescriptor = PesterClassDescriptor.create(engineDescriptor.getUniqueId(), testClass);
+		classDescriptor.getTestPlan().ifPresent(testPlan -> {
+			ReflectionSupport
+					.findMethods(testClass, method -> AnnotationSupport.isAnnotated(method, DefinitionSource.class),
+							HierarchyTraversalMode.TOP_DOWN)
+					.stream()
+					.sorted(new PesterTestComparator())
+					// Filter before generating the cases of unselected methods
+					.filter(method -> isSelected.test(classDescriptor.getUniqueId().append(
+							PesterMethodDescriptor.SEGMENT_TYPE, PesterMethodDescriptor.createSegmentValue(method))))
+					.map(method -> createMethodDescriptor(classDescriptor, testClass, method, testPlan, isSelected))
+					.forEach(classDescriptor::addChild);
+		});
+		return classDescriptor;
+	}
+
+	private TestDescriptor createSuiteDescriptor(Class<?> suiteClass, Predicate<UniqueId> isSelected) {
+		PesterPackage pesterPackage = AnnotationSupport.findAnnotation(suiteClass, PesterPackage.class).get();
+		PesterSuiteDescriptor suiteDescriptor = new PesterSuiteDescriptor(engineDescriptor.getUniqueId(), suiteClass,
+				pesterPackage);
+		Stream.of(pesterPackage.value())
+				.flatMap(packageName -> PesterSuite.ofPackage(packageName).getPojoClasses().stream())
+				.distinct()
+				.filter(pojoClass -> !pojoClass.equals(suiteClass))
+				.map(pojoClass -> new PesterPojoDescriptor(suiteDescriptor.getUniqueId(), pojoClass))
+				.filter(descriptor -> isSelected.test(descriptor.getUniqueId()))
+				.forEach(suiteDescriptor::addChild);
+		return suiteDescriptor;
+	}
+
+	private TestDescriptor createMethodDescriptor(TestDescriptor classDescriptor, Class<?> testClass, Method method,
+			TestPlan testPlan, Predicate<UniqueId> isSelected) {
+		List<Object[]> testCases = new ArrayList<>();
+		Throwable failure = null;
+		DefinitionSource source = AnnotationSupport.findAnnotation(method, DefinitionSource.class).get();
+		PesterEvent event = PesterEvents.startCasesGeneration(testPlan.getPojoDefinition().getPojoClass(),
+				method.getName());
+		try {
+			testPlan.getTestCases(source.value()).forEach(testCase -> testCases.add(testCase.get()));
+			event.withCount(testCases.size());
+			PesterMetrics.current().countCases(method.getName(), testCases.size());
+		} catch (VirtualMachineError error) {
+			throw error;
+		} catch (Throwable cause) {
+			failure = cause;
+		} finally {
+			event.commit();
+		}
+
+		PesterMethodDescriptor methodDescriptor = new PesterMethodDescriptor(classDescriptor.getUniqueId(),
+				testClass, method, failure);
+		for (int index = 0; index < testCases.size(); index++) {
+			PesterCaseDescriptor caseDescriptor = new PesterCaseDescriptor(methodDescriptor.getUniqueId(), testClass,
+					method, methodDescriptor.getDisplayName(), index + 1, testCases.get(index));
+			if (isSelected.test(caseDescriptor.getUniqueId())) {
+				methodDescriptor.addChild(caseDescriptor);
+			}
+		}
+		return methodDescriptor;
+	}
+}
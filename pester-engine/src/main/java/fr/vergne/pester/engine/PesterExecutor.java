@@ -0,0 +1,169 @@
+package fr.vergne.pester.engine;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.opentest4j.MultipleFailuresError;
+import org.opentest4j.TestAbortedException;
+
+import fr.vergne.pester.PesterShard;
+import fr.vergne.pester.PesterSuite;
+import fr.vergne.pester.PesterSuiteResult;
+import fr.vergne.pester.factory.RandomGeneratorFactory;
+import fr.vergne.pester.jfr.PesterEvent;
+import fr.vergne.pester.jfr.PesterEvents;
+import fr.vergne.pester.junit.extension.DefinitionSourcerExtension;
+import fr.vergne.pester.junit.extension.MissingMembersSkipper;
+
+/**
+ * {@link PesterExecutor} runs a test tree built by {@link PesterDiscoverer}.
+ * Each test case is a direct call of its test method, and its failure is
+ * attributed to the definition it targets, like with JUnit Jupiter.
+ */
+class PesterExecutor {
+
+	private final EngineExecutionListener listener;
+	private final Optional<Path> resultCacheFile;
+	private final Optional<PesterShard> shard;
+
+	PesterExecutor(EngineExecutionListener listener, Optional<Path> resultCacheFile, Optional<PesterShard> shard) {
+		this.listener = listener;
+		this.resultCacheFile = resultCacheFile;
+		this.shard = shard;
+	}
+
+	void execute(TestDescriptor descriptor) {
+		listener.executionStarted(descriptor);
+		executeChildren(descriptor);
+		listener.executionFinished(descriptor, TestExecutionResult.successful());
+	}
+
+	private void executeChildren(TestDescriptor descriptor) {
+		for (TestDescriptor child : descriptor.getChildren()) {
+			if (child instanceof PesterClassDescriptor) {
+				executeClass((PesterClassDescriptor) child);
+			} else if (child instanceof PesterMethodDescriptor) {
+				executeMethod((PesterMethodDescriptor) child);
+			} else if (child instanceof PesterSuiteDescriptor) {
+				executeSuite((PesterSuiteDescriptor) child);
+			} else if (child instanceof PesterCaseDescriptor) {
+				executeCase((PesterCaseDescriptor) child);
+			} else {
+				throw new IllegalArgumentException("Unmanaged descriptor: " + child);
+			}
+		}
+	}
+
+	private void executeClass(PesterClassDescriptor descriptor) {
+		listener.executionStarted(descriptor);
+		Optional<Throwable> failure = descriptor.getFailure();
+		if (failure.isPresent()) {
+			listener.executionFinished(descriptor, TestExecutionResult.failed(failure.get()));
+		} else {
+			executeChildren(descriptor);
+			listener.executionFinished(descriptor, TestExecutionResult.successful());
+		}
+	}
+
+	private void executeMethod(PesterMethodDescriptor descriptor) {
+		Optional<Throwable> failure = descriptor.getFailure();
+		if (failure.isPresent()) {
+			listener.executionStarted(descriptor);
+			listener.executionFinished(descriptor, TestExecutionResult.failed(failure.get()));
+		} else if (descriptor.getChildren().isEmpty()) {
+			listener.executionSkipped(descriptor, "has no case");
+		} else {
+			listener.executionStarted(descriptor);
+			executeChildren(descriptor);
+			listener.executionFinished(descriptor, TestExecutionResult.successful());
+		}
+	}
+
+	private void executeSuite(PesterSuiteDescriptor descriptor) {
+		listener.executionStarted(descriptor);
+		List<PesterPojoDescriptor> pojoDescriptors = descriptor.getChildren().stream()
+				.map(PesterPojoDescriptor.class::cast)
+				.collect(Collectors.toList());
+		PesterSuite suite = PesterSuite.ofClasses(pojoDescriptors.stream()
+				.map(PesterPojoDescriptor::getPojoClass)
+				.collect(Collectors.toList()));
+		if (descriptor.isBeans()) {
+			suite.asBeans();
+		}
+		resultCacheFile.ifPresent(suite::withResultCache);
+		shard.ifPresent(suite::inShard);
+
+		// Verify all of them in parallel, but report them in order
+		List<ForkJoinTask<PesterSuiteResult>> tasks = suite.verifyAsync();
+		for (int i = 0; i < pojoDescriptors.size(); i++) {
+			PesterPojoDescriptor pojoDescriptor = pojoDescriptors.get(i);
+			PesterSuiteResult result = tasks.get(i).join();
+			if (result.isOtherShard()) {
+				listener.executionSkipped(pojoDescriptor, "Verified by another shard");
+				continue;
+			}
+			listener.executionStarted(pojoDescriptor);
+			if (result.isCached()) {
+				listener.reportingEntryPublished(pojoDescriptor, ReportEntry.from("pester.cached", "true"));
+			}
+			listener.executionFinished(pojoDescriptor, toExecutionResult(result));
+		}
+		listener.executionFinished(descriptor, TestExecutionResult.successful());
+	}
+
+	private TestExecutionResult toExecutionResult(PesterSuiteResult result) {
+		if (result.getDefinitionFailure().isPresent()) {
+			return TestExecutionResult.failed(result.getDefinitionFailure().get());
+		} else {
+			try {
+				result.assertSuccessful();
+				return TestExecutionResult.successful();
+			} catch (MultipleFailuresError error) {
+				return TestExecutionResult.failed(error);
+			}
+		}
+	}
+
+	private void executeCase(PesterCaseDescriptor descriptor) {
+		PesterMethodDescriptor methodDescriptor = (PesterMethodDescriptor) descriptor.getParent().get();
+		PesterClassDescriptor classDescriptor = (PesterClassDescriptor) methodDescriptor.getParent().get();
+		Method testMethod = methodDescriptor.getTestMethod();
+		Object[] arguments = descriptor.getArguments();
+
+		listener.executionStarted(descriptor);
+		Class<?> pojoClass = classDescriptor.getTestPlan()
+				.map(testPlan -> testPlan.getPojoDefinition().getPojoClass())
+				.orElse(null);
+		PesterEvent event = PesterEvents.startCheck(pojoClass, testMethod, arguments);
+		TestExecutionResult result;
+		RandomGeneratorFactory.startScope(descriptor.getUniqueId().toString());
+		try {
+			MissingMembersSkipper.assumeNoMissingMember(arguments);
+			ReflectionSupport.invokeMethod(testMethod, classDescriptor.getTestInstance(), arguments);
+			result = TestExecutionResult.successful();
+			event.withOutcome(PesterEvent.PASSED);
+		} catch (TestAbortedException cause) {
+			result = TestExecutionResult.aborted(cause);
+			event.withOutcome(PesterEvent.ABORTED);
+		} catch (VirtualMachineError error) {
+			throw error;
+		} catch (Throwable cause) {
+			result = TestExecutionResult.failed(
+					DefinitionSourcerExtension.sourceFailure(testMethod, () -> arguments, cause));
+			event.withOutcome(PesterEvent.FAILED);
+		} finally {
+			RandomGeneratorFactory.endScope();
+			event.commit();
+		}
+		listener.executionFinished(descriptor, result);
+	}
+}
@@ -0,0 +1,61 @@
+package fr.vergne.pester.engine;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+import fr.vergne.pester.PesterTest;
+
+/**
+ * A {@link PesterMethodDescriptor} represents a test method of
+ * {@link PesterTest}, which gathers the test cases generated for it. It holds
+ * the failure which prevented to generate them, if any.
+ */
+class PesterMethodDescriptor extends AbstractTestDescriptor {
+
+	static final String SEGMENT_TYPE = "method";
+
+	private final Method testMethod;
+	private final Throwable failure;
+
+	PesterMethodDescriptor(UniqueId parentId, Class<?> testClass, Method testMethod, Throwable failure) {
+		super(parentId.append(SEGMENT_TYPE, createSegmentValue(testMethod)),
+				testMethod.getName() + "(" + formatParameterTypes(testMethod, Class::getSimpleName) + ")",
+				MethodSource.from(testClass, testMethod));
+		this.testMethod = testMethod;
+		this.failure = failure;
+	}
+
+	static String createSegmentValue(Method testMethod) {
+		return testMethod.getName() + "(" + formatParameterTypes(testMethod, Class::getName) + ")";
+	}
+
+	private static String formatParameterTypes(Method testMethod, Function<Class<?>, String> formatter) {
+		return Stream.of(testMethod.getParameterTypes()).map(formatter).collect(Collectors.joining(", "));
+	}
+
+	@Override
+	public Type getType() {
+		return Type.CONTAINER;
+	}
+
+	@Override
+	public boolean mayRegisterTests() {
+		// Keep it in the tree even without cases, to report it as skipped or failed
+		return true;
+	}
+
+	Method getTestMethod() {
+		return testMethod;
+	}
+
+	Optional<Throwable> getFailure() {
+		return Optional.ofNullable(failure);
+	}
+}
@@ -0,0 +1,31 @@
+package fr.vergne.pester.engine;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import fr.vergne.pester.PesterSuite;
+import fr.vergne.pester.PesterTest;
+
+/**
+ * Annotate a class with {@link PesterPackage} to verify all the POJO classes of
+ * the given packages with a {@link PesterSuite}, without writing a
+ * {@link PesterTest} for each of them. The annotated class needs nothing else:
+ * each POJO class is reported as a test of this class.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PesterPackage {
+
+	/**
+	 * @return the packages to scan, including their sub-packages
+	 */
+	String[] value();
+
+	/**
+	 * @return <code>true</code> to define the POJO classes as JavaBeans,
+	 *         <code>false</code> to guess their definitions
+	 */
+	boolean beans() default false;
+}
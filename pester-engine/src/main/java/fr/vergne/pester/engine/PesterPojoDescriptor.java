@@ -0,0 +1,32 @@
+package fr.vergne.pester.engine;
+
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+
+import fr.vergne.pester.PesterSuite;
+
+/**
+ * A {@link PesterPojoDescriptor} represents a POJO class verified by a
+ * {@link PesterSuite}. All its test cases are run as a single test.
+ */
+class PesterPojoDescriptor extends AbstractTestDescriptor {
+
+	static final String SEGMENT_TYPE = "pojo";
+
+	private final Class<?> pojoClass;
+
+	PesterPojoDescriptor(UniqueId parentId, Class<?> pojoClass) {
+		super(parentId.append(SEGMENT_TYPE, pojoClass.getName()), pojoClass.getName(), ClassSource.from(pojoClass));
+		this.pojoClass = pojoClass;
+	}
+
+	@Override
+	public Type getType() {
+		return Type.TEST;
+	}
+
+	Class<?> getPojoClass() {
+		return pojoClass;
+	}
+}
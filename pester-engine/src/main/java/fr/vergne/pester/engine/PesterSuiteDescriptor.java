@@ -0,0 +1,34 @@
+package fr.vergne.pester.engine;
+
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+
+import fr.vergne.pester.PesterSuite;
+
+/**
+ * A {@link PesterSuiteDescriptor} represents a class annotated with
+ * {@link PesterPackage}. Its children are the POJO classes to verify with a
+ * {@link PesterSuite}.
+ */
+class PesterSuiteDescriptor extends AbstractTestDescriptor {
+
+	static final String SEGMENT_TYPE = "suite";
+
+	private final boolean beans;
+
+	PesterSuiteDescriptor(UniqueId parentId, Class<?> suiteClass, PesterPackage pesterPackage) {
+		super(parentId.append(SEGMENT_TYPE, suiteClass.getName()), suiteClass.getSimpleName(),
+				ClassSource.from(suiteClass));
+		this.beans = pesterPackage.beans();
+	}
+
+	@Override
+	public Type getType() {
+		return Type.CONTAINER;
+	}
+
+	boolean isBeans() {
+		return beans;
+	}
+}
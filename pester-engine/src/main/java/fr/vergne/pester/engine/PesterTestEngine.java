@@ -0,0 +1,69 @@
+package fr.vergne.pester.engine;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+import fr.vergne.pester.PesterShard;
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.definition.PojoDefinition;
+
+/**
+ * {@link PesterTestEngine} runs the {@link PesterTest} implementations
+ * directly on the JUnit Platform. The test tree is built straight from the
+ * {@link PojoDefinition} of each class, and each test case is a simple call of
+ * the corresponding {@link PesterTest} method. This way, we avoid the overhead
+ * of JUnit Jupiter for each test case, while reporting them the same way to
+ * IDEs and build tools.
+ */
+public class PesterTestEngine implements TestEngine {
+
+	public static final String ENGINE_ID = "pester";
+
+	/**
+	 * Configuration parameter of the file caching the passes of the
+	 * {@link PesterPackage} classes across runs, like
+	 * <code>target/pester-cache.bin</code>. Without it, all the POJO classes are
+	 * verified at each run.
+	 */
+	public static final String RESULT_CACHE_FILE_PARAMETER = "pester.cache.file";
+
+	@Override
+	public String getId() {
+		return ENGINE_ID;
+	}
+
+	@Override
+	public Optional<String> getGroupId() {
+		return Optional.of("fr.matthieu-vergne");
+	}
+
+	@Override
+	public Optional<String> getArtifactId() {
+		return Optional.of("pester-engine");
+	}
+
+	@Override
+	public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(uniqueId, "Pester");
+		new PesterDiscoverer(engineDescriptor).resolve(discoveryRequest);
+		return engineDescriptor;
+	}
+
+	@Override
+	public void execute(ExecutionRequest request) {
+		Optional<Path> resultCacheFile = request.getConfigurationParameters()
+				.get(RESULT_CACHE_FILE_PARAMETER)
+				.map(Paths::get);
+		Optional<PesterShard> shard = PesterShard.fromProperties(request.getConfigurationParameters()::get);
+		new PesterExecutor(request.getEngineExecutionListener(), resultCacheFile, shard)
+				.execute(request.getRootTestDescriptor());
+	}
+}
@@ -0,0 +1,200 @@
+package fr.vergne.pester.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+import static org.junit.platform.testkit.engine.EventConditions.*;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.*;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+import org.opentest4j.MultipleFailuresError;
+
+import fr.vergne.pester.PesterShard;
+import fr.vergne.pester.PesterTest;
+import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.engine.pojos.InvalidPojo;
+import fr.vergne.pester.engine.pojos.ValidPojo;
+import fr.vergne.pester.model.Field;
+
+class PesterTestEngineTest {
+
+	public static class Pojo {
+		private int property;
+
+		public int getProperty() {
+			return property;
+		}
+
+		public void setProperty(int property) {
+			this.property = property;
+		}
+	}
+
+	public static class ValidPojoPester implements PesterTest<Pojo> {
+		@Override
+		public PojoDefinition<Pojo> createPojoDefinition() {
+			PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+			definition.addProperty(int.class, "property").withField().withGetter().withSetter();
+			definition.addConstructor();
+			return definition;
+		}
+	}
+
+	public static class InvalidPojoPester implements PesterTest<Pojo> {
+		@Override
+		public PojoDefinition<Pojo> createPojoDefinition() {
+			PojoDefinition<Pojo> definition = new PojoDefinition<>(Pojo.class);
+			definition.addProperty(int.class, "absentProperty").withGetter();
+			return definition;
+		}
+	}
+
+	public static class FailingDefinitionPester implements PesterTest<Pojo> {
+		@Override
+		public PojoDefinition<Pojo> createPojoDefinition() {
+			throw new IllegalStateException("cannot define");
+		}
+	}
+
+	@PesterPackage("fr.vergne.pester.engine.pojos")
+	public static class PojosSuite {
+	}
+
+	@Test
+	void testPesterPackageReportsEachPojoClass() {
+		Events events = EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.selectors(selectClass(PojosSuite.class))
+				.execute()
+				.tests();
+
+		events.assertStatistics(stats -> stats.started(2).succeeded(1).failed(1));
+		events.assertThatEvents()
+				.haveExactly(1, event(test(), displayName(ValidPojo.class.getName()), finishedSuccessfully()))
+				.haveExactly(1, event(test(), displayName(InvalidPojo.class.getName()),
+						finishedWithFailure(instanceOf(MultipleFailuresError.class))));
+	}
+
+	@Test
+	void testPesterPackageCachesPassesAcrossRuns(@TempDir Path tempDir) {
+		String cacheFile = tempDir.resolve("pester-cache.bin").toString();
+		Supplier<Events> run = () -> EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.configurationParameter(PesterTestEngine.RESULT_CACHE_FILE_PARAMETER, cacheFile)
+				.selectors(selectClass(PojosSuite.class))
+				.execute()
+				.tests();
+
+		Events firstRun = run.get();
+		firstRun.assertStatistics(stats -> stats.succeeded(1).failed(1));
+		assertEquals(0, firstRun.reportingEntryPublished().count());
+
+		Events secondRun = run.get();
+		secondRun.assertStatistics(stats -> stats.succeeded(1).failed(1));
+		secondRun.reportingEntryPublished().assertThatEvents().haveExactly(1,
+				event(test(), displayName(ValidPojo.class.getName())));
+	}
+
+	@Test
+	void testShardsShareTheCacheFile(@TempDir Path tempDir) {
+		String cacheFile = tempDir.resolve("pester-cache.bin").toString();
+		Function<String, Events> runShard = shard -> EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.configurationParameter(PesterTestEngine.RESULT_CACHE_FILE_PARAMETER, cacheFile)
+				.configurationParameter(PesterShard.SHARD_PROPERTY, shard)
+				.selectors(selectClass(PojosSuite.class))
+				.execute()
+				.tests();
+
+		runShard.apply("1/2");
+		runShard.apply("2/2");
+		Events allShards = runShard.apply("");
+
+		allShards.assertStatistics(stats -> stats.succeeded(1).failed(1));
+		allShards.reportingEntryPublished().assertThatEvents().haveExactly(1,
+				event(test(), displayName(ValidPojo.class.getName())));
+	}
+
+	@Test
+	void testShardsShareTheTestCases() {
+		Function<String, Events> runShard = shard -> EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.configurationParameter(PesterShard.SHARD_PROPERTY, shard)
+				.selectors(selectClass(ValidPojoPester.class))
+				.execute()
+				.tests();
+		long allCases = EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.selectors(selectClass(ValidPojoPester.class))
+				.execute()
+				.tests()
+				.started()
+				.count();
+
+		long shard1Cases = runShard.apply("1/2").started().count();
+		long shard2Cases = runShard.apply("2/2").started().count();
+
+		assertTrue(shard1Cases > 0);
+		assertTrue(shard2Cases > 0);
+		assertEquals(allCases, shard1Cases + shard2Cases);
+	}
+
+	@Test
+	void testValidDefinitionPassesAllTests() {
+		Events events = EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.selectors(selectClass(ValidPojoPester.class))
+				.execute()
+				.tests();
+
+		assertTrue(events.started().count() > 0);
+		events.assertStatistics(stats -> stats.failed(0).aborted(0));
+	}
+
+	@Test
+	void testInvalidDefinitionFailsWithDefinitionSource() {
+		Events events = EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.selectors(selectMethod(InvalidPojoPester.class, "testGetterIsPresent", "fr.vergne.pester.model.Getter"))
+				.execute()
+				.tests();
+
+		events.assertStatistics(stats -> stats.started(1).failed(1));
+		events.assertThatEvents().haveExactly(1, event(test(), displayName("getter for absentProperty is present"),
+				finishedWithFailure(message(text -> text.startsWith("Definition of getter for absentProperty")))));
+	}
+
+	@Test
+	void testFailingDefinitionFailsTestClass() {
+		EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.selectors(selectClass(FailingDefinitionPester.class))
+				.execute()
+				.containers()
+				.assertThatEvents()
+				.haveExactly(1, event(container(FailingDefinitionPester.class),
+						finishedWithFailure(instanceOf(IllegalStateException.class), message("cannot define"))));
+	}
+
+	@Test
+	void testDisplayNameKeepsBracesAndQuotesOfArguments() throws NoSuchMethodException {
+		Method namedTest = PesterTest.class.getMethod("testFieldIsPresent", Field.class);
+		Method unnamedTest = Object.class.getMethod("hashCode");
+		Map<String, String> map = Collections.singletonMap("key", "'value'");
+
+		assertEquals("{key='value'} is present",
+				PesterCaseDescriptor.formatDisplayName(namedTest, "test", 1, new Object[] { map }));
+		assertEquals("[3] {key='value'}, [1, 2], [a, b]", PesterCaseDescriptor.formatDisplayName(unnamedTest,
+				"test", 3, new Object[] { map, new int[] { 1, 2 }, new String[] { "a", "b" } }));
+	}
+
+	@Test
+	void testNonPesterClassIsIgnored() {
+		EngineTestKit.engine(PesterTestEngine.ENGINE_ID)
+				.selectors(selectClass(Pojo.class))
+				.execute()
+				.containers()
+				.assertStatistics(stats -> stats.started(1).succeeded(1));
+	}
+}
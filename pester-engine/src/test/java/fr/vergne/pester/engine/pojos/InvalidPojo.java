@@ -0,0 +1,13 @@
+package fr.vergne.pester.engine.pojos;
+
+public class InvalidPojo {
+	private String value;
+
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		// Forget to store it
+	}
+}
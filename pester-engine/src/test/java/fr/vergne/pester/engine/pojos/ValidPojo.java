@@ -0,0 +1,13 @@
+package fr.vergne.pester.engine.pojos;
+
+public class ValidPojo {
+	private String value;
+
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+}
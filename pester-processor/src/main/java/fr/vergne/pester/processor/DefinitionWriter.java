@@ -0,0 +1,282 @@
+package fr.vergne.pester.processor;
+
+import java.beans.ConstructorProperties;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+import fr.vergne.pester.definition.DefinitionFactory;
+import fr.vergne.pester.definition.GeneratedDefinition;
+import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.definition.PropertyDefinition;
+import fr.vergne.pester.factory.Factory;
+import fr.vergne.pester.factory.TypeLiteral;
+import fr.vergne.pester.junit.annotation.ConstructorPropertiesHelper;
+import fr.vergne.pester.options.Mutability;
+import fr.vergne.pester.options.Scope;
+import fr.vergne.pester.options.Visibility;
+import fr.vergne.pester.value.Type;
+
+/**
+ * {@link DefinitionWriter} writes the source of the {@link GeneratedDefinition}
+ * of a POJO class. It follows the same rules than
+ * {@link DefinitionFactory#guessFromClass(Class)}, but on the compile time
+ * model of the class. Constructor parameters are always linked to their
+ * properties, since their names are always known at compile time.
+ */
+class DefinitionWriter {
+
+	private static final Pattern GETTER_PATTERN = Pattern.compile("^get[A-Z]");
+	private static final Pattern SETTER_PATTERN = Pattern.compile("^set[A-Z]");
+
+	private final Types types;
+	private final TypeElement pojoElement;
+	private final String packageName;
+	private final String definitionSimpleName;
+	private final String pojoType;
+
+	private final Map<String, TypeMirror> propertyTypes = new LinkedHashMap<>();
+	private final Map<String, String> propertyVariables = new LinkedHashMap<>();
+	private final List<String> statements = new ArrayList<>();
+
+	@SuppressWarnings("serial")
+	static class ConflictingPropertyException extends RuntimeException {
+		private final Element element;
+
+		public ConflictingPropertyException(String message, Element element) {
+			super(message);
+			this.element = element;
+		}
+
+		public Element getElement() {
+			return element;
+		}
+	}
+
+	public DefinitionWriter(ProcessingEnvironment processingEnv, TypeElement pojoElement) {
+		this.types = processingEnv.getTypeUtils();
+		this.pojoElement = pojoElement;
+		this.packageName = processingEnv.getElementUtils().getPackageOf(pojoElement).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(pojoElement).toString();
+		String definitionName = GeneratedDefinition.classNameOf(binaryName);
+		this.definitionSimpleName = packageName.isEmpty()
+				? definitionName
+				: definitionName.substring(packageName.length() + 1);
+		this.pojoType = types.erasure(pojoElement.asType()).toString();
+	}
+
+	public String getDefinitionClassName() {
+		return packageName.isEmpty() ? definitionSimpleName : packageName + "." + definitionSimpleName;
+	}
+
+	public String write() {
+		for (VariableElement field : ElementFilter.fieldsIn(pojoElement.getEnclosedElements())) {
+			String property = addOrGetProperty(field.getSimpleName().toString(), field.asType(), field);
+			statements.add(property + ".withField(" + optionsOf(field) + ");");
+		}
+		List<ExecutableElement> methods = ElementFilter.methodsIn(pojoElement.getEnclosedElements());
+		for (ExecutableElement method : methods) {
+			String name = method.getSimpleName().toString();
+			if (GETTER_PATTERN.matcher(name).find() && method.getReturnType().getKind() != TypeKind.VOID
+					&& method.getParameters().isEmpty()) {
+				String property = addOrGetProperty(uncapitalize(name.substring("get".length())),
+						method.getReturnType(), method);
+				statements.add(property + ".withGetter(" + optionsOf(method) + ");");
+			}
+		}
+		for (ExecutableElement method : methods) {
+			String name = method.getSimpleName().toString();
+			if (SETTER_PATTERN.matcher(name).find() && method.getReturnType().getKind() == TypeKind.VOID
+					&& method.getParameters().size() == 1) {
+				String property = addOrGetProperty(uncapitalize(name.substring("set".length())),
+						method.getParameters().get(0).asType(), method);
+				statements.add(property + ".withSetter(" + optionsOf(method) + ");");
+			}
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(pojoElement.getEnclosedElements())) {
+			Optional<ConstructorProperties> annotation = Optional
+					.ofNullable(constructor.getAnnotation(ConstructorProperties.class));
+			List<String> parameters = new ArrayList<>();
+			List<? extends VariableElement> parameterElements = constructor.getParameters();
+			for (int index = 0; index < parameterElements.size(); index++) {
+				VariableElement parameter = parameterElements.get(index);
+				String name = annotation.isPresent()
+						? annotation.get().value()[index]
+						: parameter.getSimpleName().toString();
+				if (name.equals(ConstructorPropertiesHelper.NON_PROPERTY)) {
+					parameters.add("definition.addProperty(" + typeOf(parameter.asType()) + ")");
+				} else {
+					parameters.add(addOrGetProperty(name, parameter.asType(), constructor));
+				}
+			}
+			parameters.add(0, visibilityOf(constructor.getModifiers()));
+			statements.add("definition.addConstructor(" + String.join(", ", parameters) + ");");
+		}
+		return writeClass();
+	}
+
+	private String addOrGetProperty(String name, TypeMirror type, Element element) {
+		TypeMirror knownType = propertyTypes.get(name);
+		if (knownType == null) {
+			String variable = "property" + propertyVariables.size();
+			propertyTypes.put(name, type);
+			propertyVariables.put(name, variable);
+			statements.add("PropertyDefinition<" + pojoType + ", ?> " + variable + " = definition.addProperty("
+					+ typeOf(type) + ", \"" + name + "\");");
+			return variable;
+		} else if (types.isSameType(types.erasure(knownType), types.erasure(type))) {
+			// Like DefinitionFactory, the generic types of the same class are merged
+			return propertyVariables.get(name);
+		} else {
+			throw new ConflictingPropertyException("Property " + name + " already defined as " + knownType, element);
+		}
+	}
+
+	private String writeClass() {
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		source.append("import ").append(Factory.class.getName()).append(";\n");
+		source.append("import ").append(GeneratedDefinition.class.getName()).append(";\n");
+		source.append("import ").append(PojoDefinition.class.getName()).append(";\n");
+		source.append("import ").append(PropertyDefinition.class.getName()).append(";\n");
+		source.append("import ").append(TypeLiteral.class.getName()).append(";\n");
+		source.append("import ").append(Type.class.getName()).append(";\n");
+		source.append("import ").append(Mutability.class.getName()).append(";\n");
+		source.append("import ").append(Scope.class.getName()).append(";\n");
+		source.append("import ").append(Visibility.class.getName()).append(";\n");
+		source.append("\n");
+		source.append("/**\n");
+		source.append(" * Generated by ").append(PesterCheckProcessor.class.getName()).append(" for {@link ")
+				.append(pojoType).append("}.\n");
+		source.append(" */\n");
+		source.append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+		source.append("public final class ").append(definitionSimpleName)
+				.append(" implements GeneratedDefinition<").append(pojoType).append("> {\n\n");
+		source.append("\t@Override\n");
+		source.append("\tpublic Class<").append(pojoType).append("> getPojoClass() {\n");
+		source.append("\t\treturn ").append(pojoType).append(".class;\n");
+		source.append("\t}\n\n");
+		source.append("\t@Override\n");
+		source.append("\tpublic PojoDefinition<").append(pojoType).append("> createPojoDefinition(Factory factory) {\n");
+		source.append("\t\tPojoDefinition<").append(pojoType).append("> definition = ").append(pojoDefinitionOf())
+				.append(";\n");
+		for (String statement : statements) {
+			source.append("\t\t").append(statement).append("\n");
+		}
+		source.append("\t\treturn definition;\n");
+		source.append("\t}\n");
+		source.append("}\n");
+		return source.toString();
+	}
+
+	private String pojoDefinitionOf() {
+		boolean hasDefaultConstructor = ElementFilter.constructorsIn(pojoElement.getEnclosedElements()).stream()
+				.anyMatch(constructor -> constructor.getParameters().isEmpty()
+						&& !constructor.getModifiers().contains(Modifier.PRIVATE));
+		if (hasDefaultConstructor) {
+			// Instantiate without reflection
+			return "new PojoDefinition<>(" + pojoType + ".class, " + pojoType + "::new, factory)";
+		} else {
+			return "new PojoDefinition<>(" + pojoType + ".class, factory)";
+		}
+	}
+
+	/**
+	 * Write the {@link Type} of a type mirror, like the one obtained at runtime
+	 * from its generic type. Type variables are replaced by their erasure.
+	 */
+	private String typeOf(TypeMirror type) {
+		if (hasTypeArguments(type)) {
+			return "(Type) factory.type().from(new TypeLiteral<" + sourceOf(type) + ">() {}.getTypeDefinition())";
+		} else {
+			return types.erasure(type).toString() + ".class";
+		}
+	}
+
+	private boolean hasTypeArguments(TypeMirror type) {
+		if (type.getKind() == TypeKind.TYPEVAR) {
+			return hasTypeArguments(types.erasure(type));
+		} else if (type.getKind() == TypeKind.DECLARED) {
+			return !((DeclaredType) type).getTypeArguments().isEmpty();
+		} else {
+			// Generic arrays are resolved through their raw class, like at runtime
+			return false;
+		}
+	}
+
+	private String sourceOf(TypeMirror type) {
+		switch (type.getKind()) {
+		case TYPEVAR:
+			return sourceOf(types.erasure(type));
+		case WILDCARD:
+			WildcardType wildcard = (WildcardType) type;
+			if (wildcard.getExtendsBound() != null) {
+				return "? extends " + sourceOf(wildcard.getExtendsBound());
+			} else if (wildcard.getSuperBound() != null) {
+				return "? super " + sourceOf(wildcard.getSuperBound());
+			} else {
+				return "?";
+			}
+		case ARRAY:
+			return sourceOf(((ArrayType) type).getComponentType()) + "[]";
+		case DECLARED:
+			DeclaredType declaredType = (DeclaredType) type;
+			String rawType = types.erasure(declaredType).toString();
+			if (declaredType.getTypeArguments().isEmpty()) {
+				return rawType;
+			} else {
+				return rawType + declaredType.getTypeArguments().stream()
+						.map(this::sourceOf)
+						.collect(Collectors.joining(", ", "<", ">"));
+			}
+		default:
+			return type.toString();
+		}
+	}
+
+	private static String optionsOf(Element element) {
+		Set<Modifier> modifiers = element.getModifiers();
+		return visibilityOf(modifiers)
+				+ ", Mutability." + (modifiers.contains(Modifier.FINAL) ? Mutability.FINAL : Mutability.NON_FINAL)
+				+ ", Scope." + (modifiers.contains(Modifier.STATIC) ? Scope.STATIC : Scope.NON_STATIC);
+	}
+
+	private static String visibilityOf(Set<Modifier> modifiers) {
+		Visibility visibility;
+		if (modifiers.contains(Modifier.PUBLIC)) {
+			visibility = Visibility.PUBLIC;
+		} else if (modifiers.contains(Modifier.PROTECTED)) {
+			visibility = Visibility.PROTECTED;
+		} else if (modifiers.contains(Modifier.PRIVATE)) {
+			visibility = Visibility.PRIVATE;
+		} else {
+			visibility = Visibility.PACKAGE;
+		}
+		return "Visibility." + visibility;
+	}
+
+	private static String uncapitalize(String noPrefixName) {
+		return noPrefixName.substring(0, 1).toLowerCase() + noPrefixName.substring(1);
+	}
+}
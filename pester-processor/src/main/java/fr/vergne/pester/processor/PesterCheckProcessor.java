@@ -0,0 +1,115 @@
+package fr.vergne.pester.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import fr.vergne.pester.definition.GeneratedDefinition;
+import fr.vergne.pester.definition.PesterCheck;
+
+/**
+ * {@link PesterCheckProcessor} generates a {@link GeneratedDefinition} for each
+ * {@link PesterCheck} class. The class is analyzed at compile time, so its
+ * definition is built at test runtime without inspecting it.
+ */
+public class PesterCheckProcessor extends AbstractProcessor {
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(PesterCheck.class.getName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(PesterCheck.class)) {
+			Optional<String> error = checkPojoClass(element);
+			if (error.isPresent()) {
+				processingEnv.getMessager().printMessage(Kind.ERROR, error.get(), element);
+			} else {
+				generateDefinition((TypeElement) element);
+			}
+		}
+		return true;
+	}
+
+	private static Optional<String> checkPojoClass(Element element) {
+		if (element.getKind() != ElementKind.CLASS) {
+			return Optional.of("@PesterCheck applies only on classes");
+		}
+		Set<Modifier> modifiers = element.getModifiers();
+		NestingKind nestingKind = ((TypeElement) element).getNestingKind();
+		if (modifiers.contains(Modifier.ABSTRACT)) {
+			return Optional.of("@PesterCheck does not apply on abstract classes");
+		} else if (modifiers.contains(Modifier.PRIVATE)) {
+			return Optional.of("@PesterCheck does not apply on private classes");
+		} else if (nestingKind == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+			return Optional.of("@PesterCheck does not apply on inner classes, make it static");
+		} else if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+			return Optional.of("@PesterCheck does not apply on local or anonymous classes");
+		} else {
+			return checkEnclosingClasses(element);
+		}
+	}
+
+	/**
+	 * The generated definition is a top-level class, so it can only refer to a
+	 * nested class reachable from its package.
+	 */
+	private static Optional<String> checkEnclosingClasses(Element element) {
+		for (Element enclosing = element.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing
+				.getEnclosingElement()) {
+			Set<Modifier> modifiers = enclosing.getModifiers();
+			NestingKind nestingKind = ((TypeElement) enclosing).getNestingKind();
+			if (modifiers.contains(Modifier.PRIVATE)) {
+				return Optional.of("@PesterCheck does not apply on classes nested in private classes, like "
+						+ enclosing.getSimpleName());
+			} else if (nestingKind == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)
+					&& enclosing.getKind() == ElementKind.CLASS) {
+				return Optional.of("@PesterCheck does not apply on classes nested in inner classes, make "
+						+ enclosing.getSimpleName() + " static");
+			} else if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+				return Optional.of("@PesterCheck does not apply on classes nested in local or anonymous classes");
+			}
+		}
+		return Optional.empty();
+	}
+
+	private void generateDefinition(TypeElement pojoElement) {
+		DefinitionWriter writer = new DefinitionWriter(processingEnv, pojoElement);
+		String source;
+		try {
+			source = writer.write();
+		} catch (DefinitionWriter.ConflictingPropertyException cause) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, cause.getMessage(), cause.getElement());
+			return;
+		}
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(writer.getDefinitionClassName(),
+					pojoElement);
+			try (Writer fileWriter = file.openWriter()) {
+				fileWriter.write(source);
+			}
+		} catch (IOException cause) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Cannot generate " + writer.getDefinitionClassName() + ": " + cause, pojoElement);
+		}
+	}
+}
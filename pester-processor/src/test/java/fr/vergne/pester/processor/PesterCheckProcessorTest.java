@@ -0,0 +1,222 @@
+package fr.vergne.pester.processor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import fr.vergne.pester.PesterSuite;
+import fr.vergne.pester.PesterSuiteResult;
+import fr.vergne.pester.definition.DefinitionFactory;
+import fr.vergne.pester.definition.PesterCheck;
+import fr.vergne.pester.definition.PojoDefinition;
+import fr.vergne.pester.definition.PropertyDefinition;
+
+class PesterCheckProcessorTest {
+
+	private static final String PERSON_SOURCE = String.join("\n",
+			"package sample;",
+			"import java.util.List;",
+			"@fr.vergne.pester.definition.PesterCheck",
+			"public class Person {",
+			"	private String name;",
+			"	private int age;",
+			"	private List<String> nicknames;",
+			"	public Person() {}",
+			"	public Person(String name, int age) { this.name = name; this.age = age; }",
+			"	public String getName() { return name; }",
+			"	public void setName(String name) { this.name = name; }",
+			"	public int getAge() { return age; }",
+			"	public void setAge(int age) { this.age = age; }",
+			"	public List<String> getNicknames() { return nicknames; }",
+			"	public void setNicknames(List<String> nicknames) { this.nicknames = nicknames; }",
+			"	@fr.vergne.pester.definition.PesterCheck",
+			"	public static class Address {",
+			"		private final String city;",
+			"		public Address(String city) { this.city = city; }",
+			"		public String getCity() { return city; }",
+			"	}",
+			"}");
+
+	@Test
+	void testGeneratedDefinitionMatchesGuessedOne(@TempDir Path tempDir) throws Exception {
+		ClassLoader classLoader = compile(tempDir, "sample.Person", PERSON_SOURCE).get();
+		DefinitionFactory factory = new DefinitionFactory();
+
+		for (String className : Arrays.asList("sample.Person", "sample.Person$Address")) {
+			Class<?> pojoClass = classLoader.loadClass(className);
+			PojoDefinition<?> generated = factory.findGeneratedDefinition(pojoClass).get();
+			PojoDefinition<?> guessed = factory.guessFromClass(pojoClass);
+
+			assertEquals(describe(guessed.getProperties()), describe(generated.getProperties()));
+			assertEquals(guessed.getConstructors().size(), generated.getConstructors().size());
+		}
+	}
+
+	@Test
+	void testGeneratedDefinitionIsUsedByPesterSuite(@TempDir Path tempDir) throws Exception {
+		ClassLoader classLoader = compile(tempDir, "sample.Person", PERSON_SOURCE).get();
+		Class<?> pojoClass = classLoader.loadClass("sample.Person");
+
+		PesterSuiteResult result = PesterSuite.ofClasses(pojoClass).verify().get(0);
+
+		result.assertSuccessful();
+		assertTrue(result.getCasesCount() > 0);
+	}
+
+	@Test
+	void testGenericAccessorsOfSameClassMatchGuessedDefinition(@TempDir Path tempDir) throws Exception {
+		ClassLoader classLoader = compile(tempDir, "sample.Items", String.join("\n",
+				"package sample;",
+				"import java.util.List;",
+				"@fr.vergne.pester.definition.PesterCheck",
+				"public class Items {",
+				"	private List<String> items;",
+				"	@SuppressWarnings(\"rawtypes\")",
+				"	public List getItems() { return items; }",
+				"	@SuppressWarnings(\"unchecked\")",
+				"	public void setItems(List<? extends String> items) { this.items = (List<String>) items; }",
+				"}")).get();
+		Class<?> pojoClass = classLoader.loadClass("sample.Items");
+		DefinitionFactory factory = new DefinitionFactory();
+
+		PojoDefinition<?> generated = factory.findGeneratedDefinition(pojoClass).get();
+		PojoDefinition<?> guessed = factory.guessFromClass(pojoClass);
+
+		assertEquals(describe(guessed.getProperties()), describe(generated.getProperties()));
+	}
+
+	@Test
+	void testConflictingPropertyTypesFailCompilation(@TempDir Path tempDir) throws Exception {
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		Optional<ClassLoader> classLoader = compile(tempDir, "sample.Conflict", String.join("\n",
+				"package sample;",
+				"@fr.vergne.pester.definition.PesterCheck",
+				"public class Conflict {",
+				"	private int value;",
+				"	public String getValue() { return null; }",
+				"}"), diagnostics);
+
+		assertFalse(classLoader.isPresent());
+		assertTrue(diagnostics.getDiagnostics().stream()
+				.map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+				.anyMatch(message -> message.equals("Property value already defined as int")));
+	}
+
+	@Test
+	void testInnerClassFailsCompilation(@TempDir Path tempDir) throws Exception {
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		Optional<ClassLoader> classLoader = compile(tempDir, "sample.Outer", String.join("\n",
+				"package sample;",
+				"public class Outer {",
+				"	@fr.vergne.pester.definition.PesterCheck",
+				"	public class Inner {",
+				"	}",
+				"}"), diagnostics);
+
+		assertFalse(classLoader.isPresent());
+		assertTrue(diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				.map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+				.anyMatch(message -> message.contains("inner classes")));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "private static class Middle", "public class Middle" })
+	void testClassNestedInUnreachableClassFailsCompilation(String middleDeclaration, @TempDir Path tempDir)
+			throws Exception {
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		Optional<ClassLoader> classLoader = compile(tempDir, "sample.Outer", String.join("\n",
+				"package sample;",
+				"public class Outer {",
+				"	" + middleDeclaration + " {",
+				"		@fr.vergne.pester.definition.PesterCheck",
+				"		public static class Nested {",
+				"		}",
+				"	}",
+				"}"), diagnostics);
+
+		assertFalse(classLoader.isPresent());
+		List<Diagnostic<? extends JavaFileObject>> errors = diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				.collect(Collectors.toList());
+		assertTrue(errors.stream()
+				.map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+				.anyMatch(message -> message.startsWith("@PesterCheck does not apply on classes nested in")),
+				errors::toString);
+		// Reported on the annotated class, not in the generated code
+		assertTrue(errors.stream()
+				.noneMatch(diagnostic -> String.valueOf(diagnostic.getSource()).contains("PesterDefinition")),
+				errors::toString);
+	}
+
+	private static String describe(Iterable<? extends PropertyDefinition<?, ?>> properties) {
+		StringBuilder description = new StringBuilder();
+		for (PropertyDefinition<?, ?> property : properties) {
+			description.append(property.getName())
+					.append(property.getFieldDefinition().isPresent() ? " field" : "")
+					.append(property.getGetterDefinition().isPresent() ? " getter" : "")
+					.append(property.getSetterDefinition().isPresent() ? " setter" : "")
+					.append("\n");
+		}
+		return Arrays.stream(description.toString().split("\n")).sorted().collect(Collectors.joining("\n"));
+	}
+
+	private static Optional<ClassLoader> compile(Path directory, String className, String source) throws IOException {
+		return compile(directory, className, source, new DiagnosticCollector<>());
+	}
+
+	private static Optional<ClassLoader> compile(Path directory, String className, String source,
+			DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+		Path sourceFile = directory.resolve(className.replace('.', File.separatorChar) + ".java");
+		Files.createDirectories(sourceFile.getParent());
+		Files.write(sourceFile, Collections.singletonList(source));
+		Path classesDirectory = Files.createDirectories(directory.resolve("classes"));
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+			// Parameter names are needed to guess the same definitions at runtime
+			List<String> options = Arrays.asList("-parameters", "-classpath", classpathOf(PesterCheck.class),
+					"-d", classesDirectory.toString(), "-s", classesDirectory.toString());
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+					fileManager.getJavaFileObjects(sourceFile.toFile()));
+			task.setProcessors(Collections.singletonList(new PesterCheckProcessor()));
+			if (!task.call()) {
+				return Optional.empty();
+			}
+		}
+		URL[] urls = { classesDirectory.toUri().toURL() };
+		return Optional.of(new URLClassLoader(urls, PesterCheckProcessorTest.class.getClassLoader()));
+	}
+
+	private static String classpathOf(Class<?> c) {
+		try {
+			return new File(c.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+		} catch (URISyntaxException cause) {
+			throw new IllegalStateException(cause);
+		}
+	}
+}
@@ -12,7 +12,6 @@ import fr.vergne.pester.definition.PropertyDefinition;
 import fr.vergne.pester.samples.T10_Errors.Pojo;
 import fr.vergne.pester.value.Type;
 
-// TODO Fix definition sources: some have the wrong source
 // TODO Fix missing tests: some remain disabled despite having material
 // TODO Fix class definition sources: cf. warning logs
 class T10_Errors implements PesterTest<Pojo> {